@@ -0,0 +1,146 @@
+import java.util.*;
+
+/**
+ * ChainedSymTable
+ *
+ * An alternative SymTable engine for deeply nested programs.  Instead of
+ * one HashMap per scope, there is a single array, indexed by the id of
+ * each name, of chains of entries, innermost declaration first.  All the
+ * names declared in or looked up in a table must come from one NamePool.
+ * Every declaration is also recorded in an array-based undo log; each
+ * scope remembers where its part of the log begins.
+ *
+ * lookupGlobal is a single probe (the head of the chain is always the
+ * innermost visible declaration), lookupLocal is a single probe plus a
+ * depth check, and removeScope pops the scope's part of the log,
+ * restoring each shadowed entry.
+ *
+ * The addDecl/lookupLocal/lookupGlobal/removeScope contract and the
+ * exceptions thrown are those of SymbolTable, as for SymTable.
+ */
+public class ChainedSymTable implements SymbolTable {
+    // one entry in a chain of shadowed declarations
+    private static class Entry {
+        final Sym sym;
+        final int depth;       // scope depth at which sym was declared
+        final Entry shadowed;  // next outer declaration of the same name
+
+        Entry(Sym sym, int depth, Entry shadowed) {
+            this.sym = sym;
+            this.depth = depth;
+            this.shadowed = shadowed;
+        }
+    }
+
+    private Entry[] chains;      // indexed by Name.id()
+    private Name[] log;          // names in declaration order
+    private int logSize;
+    private int[] scopeStart;    // start of each open scope in the log
+    private int depth;           // number of open scopes
+
+    public ChainedSymTable() {
+        chains = new Entry[64];
+        log = new Name[16];
+        scopeStart = new int[8];
+        depth = 0;
+        addScope();
+    }
+
+    public void addDecl(Name name, Sym sym)
+	throws DuplicateSymException, EmptySymTableException, WrongArgumentException {
+	if (name == null && sym == null) {
+	    throw new WrongArgumentException("Arguments name and sym are null.");
+	}
+	else if (name == null) {
+	    throw new WrongArgumentException("Argument name is null.");
+	}
+	else if (sym == null) {
+	    throw new WrongArgumentException("Argument sym is null.");
+	}
+	else if (name.id() < 0) {
+	    throw new WrongArgumentException("Argument name is not interned.");
+	}
+
+        if (depth == 0) {
+            throw new EmptySymTableException();
+        }
+
+        int id = name.id();
+        if (id >= chains.length) {
+            chains = Arrays.copyOf(chains,
+                                   Math.max(id + 1, chains.length * 2));
+        }
+        Entry head = chains[id];
+        if (head != null && head.depth == depth)
+            throw new DuplicateSymException();
+
+        chains[id] = new Entry(sym, depth, head);
+        if (logSize == log.length) {
+            log = Arrays.copyOf(log, logSize * 2);
+        }
+        log[logSize++] = name;
+    }
+
+    public void addScope() {
+        if (depth == scopeStart.length) {
+            scopeStart = Arrays.copyOf(scopeStart, depth * 2);
+        }
+        scopeStart[depth++] = logSize;
+    }
+
+    public Sym lookupLocal(Name name) {
+        if (depth == 0)
+            return null;
+
+        Entry head = chain(name);
+        if (head == null || head.depth != depth)
+            return null;
+        return head.sym;
+    }
+
+    public Sym lookupGlobal(Name name) {
+        if (depth == 0)
+            return null;
+
+        Entry head = chain(name);
+        SymLookupEvent.record(name, head == null ? -1 : depth - head.depth,
+                              depth);
+        return head == null ? null : head.sym;
+    }
+
+    public void removeScope() throws EmptySymTableException {
+        if (depth == 0)
+            throw new EmptySymTableException();
+
+        int start = scopeStart[--depth];
+        for (int i = logSize - 1; i >= start; i--) {
+            int id = log[i].id();
+            chains[id] = chains[id].shadowed;
+            log[i] = null;
+        }
+        logSize = start;
+    }
+
+    // the innermost declaration of name, or null
+    private Entry chain(Name name) {
+        int id = name.id();
+        return (id >= 0 && id < chains.length) ? chains[id] : null;
+    }
+
+    public void print() {
+        System.out.print("\n=== Sym Table ===\n");
+        for (int d = depth; d > 0; d--) {
+            HashMap<Name, Sym> symTab = new HashMap<Name, Sym>();
+            int end = (d == depth) ? logSize : scopeStart[d];
+            for (int i = scopeStart[d - 1]; i < end; i++) {
+                Entry e = chains[log[i].id()];
+                while (e.depth != d) {
+                    e = e.shadowed;
+                }
+                symTab.put(log[i], e.sym);
+            }
+            System.out.println(symTab.toString());
+        }
+        System.out.println();
+    }
+}
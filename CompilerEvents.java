@@ -0,0 +1,150 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder events of the compiler.
+ *
+ * Record them in a running compiler (e.g. P5Server) with
+ *    jcmd <pid> JFR.start settings=profile filename=cmm.jfr
+ * or start the JVM with -XX:StartFlightRecording, and look at them with
+ * "jfr print --events cmm.* cmm.jfr" or in JDK Mission Control.  When no
+ * recording is running an event costs a test of a static field; the
+ * event objects are not allocated once the JIT has compiled the caller.
+ *
+ * Symbol-table lookups and dot-accesses are far too frequent to record
+ * every one, so only 1 in SAMPLE_RATE of them is recorded.  Each thread
+ * counts its own, as the type checks run on several (see Sampler).
+ */
+class CompilerEvents {
+    static final int SAMPLE_RATE = 64;
+
+    private CompilerEvents() {
+    }
+
+    /**
+     * Picks 1 in SAMPLE_RATE of the calls to sample made by each thread.
+     * The counts are per thread, so the type-check workers neither race
+     * on nor contend for a shared counter.
+     */
+    static final class Sampler extends ThreadLocal<int[]> {
+        protected int[] initialValue() {
+            return new int[1];
+        }
+
+        boolean sample() {
+            int[] count = get();
+            return ++count[0] % SAMPLE_RATE == 0;
+        }
+    }
+}
+
+@jdk.jfr.Name("cmm.Phase")
+@Label("Compiler Phase")
+@Category({"C--", "Compiler"})
+@Description("A phase of P5.process() for one source")
+@StackTrace(false)
+class PhaseEvent extends Event {
+    @Label("Phase")
+    String phase;
+
+    @Label("Source")
+    String source;
+
+    /**
+     * Start timing a phase.
+     */
+    static PhaseEvent start(String phase, String source) {
+        PhaseEvent event = new PhaseEvent();
+        event.phase = phase;
+        event.source = source;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Record this phase and start timing the next one.
+     */
+    PhaseEvent next(String phase) {
+        commit();
+        return start(phase, source);
+    }
+}
+
+@jdk.jfr.Name("cmm.Function")
+@Label("Function Analysis")
+@Category({"C--", "Compiler"})
+@Description("Name analysis or type checking of one function")
+@StackTrace(false)
+class FunctionEvent extends Event {
+    @Label("Analysis")
+    String analysis;
+
+    @Label("Function")
+    String function;
+
+    @Label("Line")
+    int line;
+
+    @Label("Body Size")
+    @Description("Statements in the body, including those in nested blocks")
+    int bodySize;
+}
+
+@jdk.jfr.Name("cmm.SymLookup")
+@Label("Symbol Lookup")
+@Category({"C--", "Compiler", "Sampled"})
+@Description("A sampled SymTable.lookupGlobal")
+@StackTrace(false)
+class SymLookupEvent extends Event {
+    private static final CompilerEvents.Sampler sampler =
+        new CompilerEvents.Sampler();
+
+    @Label("Name")
+    String name;
+
+    @Label("Depth")
+    @Description("Scopes out from the innermost one at which the name was "
+                 + "found, or -1 if it was not found")
+    int depth;
+
+    @Label("Scopes")
+    int scopes;
+
+    static void record(Name name, int depth, int scopes) {
+        SymLookupEvent event = new SymLookupEvent();
+        if (event.isEnabled() && sampler.sample()) {
+            event.name = name.toString();
+            event.depth = depth;
+            event.scopes = scopes;
+            event.commit();
+        }
+    }
+}
+
+@jdk.jfr.Name("cmm.DotAccess")
+@Label("Dot-Access Resolution")
+@Category({"C--", "Compiler", "Sampled"})
+@Description("Sampled name analysis of a dot-access, including the "
+             + "dot-accesses to its left")
+@StackTrace(false)
+class DotAccessEvent extends Event {
+    private static final CompilerEvents.Sampler sampler =
+        new CompilerEvents.Sampler();
+
+    @Label("Field")
+    String field;
+
+    @Label("Chain Length")
+    @Description("Number of dots in the location up to this field")
+    int chainLength;
+
+    @Label("Line")
+    int line;
+
+    static boolean sample() {
+        return sampler.sample();
+    }
+}
@@ -0,0 +1,132 @@
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * DeclPipeline
+ *
+ * Analyzes the top-level declarations of a program while it is being
+ * parsed.  The parser hands each declaration to add as soon as it has
+ * been reduced; add does its name analysis in the global scope there and
+ * then, and queues each function to be type checked on a pool.  On a large
+ * file most of the analysis is then done by the time the parse is, rather
+ * than after it.
+ *
+ * The name analysis of a declaration only depends on the declarations
+ * before it, and the type check of a function only on the Syms its name
+ * analysis linked (see DeclListNode.typeCheck(ForkJoinPool)), so the
+ * results are those of the phases run one after another.  So are the
+ * messages: the parse, the name analysis and each function's type check
+ * report into collectors forked, in that order, from the compilation's,
+ * and if the parse has errors the analysis and its messages are dropped.
+ * Only with an error cap may a different set of messages be printed,
+ * since the phases reach the cap in a different order.
+ */
+class DeclPipeline {
+    private Diagnostics diagnostics;        // of the compilation
+    private Diagnostics parseDiagnostics;   // of the scanner and parser
+    private Diagnostics nameDiagnostics;    // of add's name analysis
+    private SymbolTable symTab;
+    private ForkJoinPool pool;
+    private List<DeclListNode.FnTypeCheckTask> tasks;
+    private int joined;                     // tasks joined by finish
+    private boolean analysisJoined;
+
+    /**
+     * @param diagnostics collector of the compilation
+     * @param parallelism number of threads to type check on
+     */
+    public DeclPipeline(Diagnostics diagnostics, int parallelism) {
+        this.diagnostics = diagnostics;
+        parseDiagnostics = diagnostics.forkByPosition();
+        nameDiagnostics = diagnostics.fork();
+        symTab = new ChainedSymTable();
+        pool = new ForkJoinPool(Math.max(parallelism, 1));
+        tasks = new ArrayList<DeclListNode.FnTypeCheckTask>();
+    }
+
+    /**
+     * The collector that the scanner and parser must report into.
+     */
+    public Diagnostics parseDiagnostics() {
+        return parseDiagnostics;
+    }
+
+    /**
+     * Return true if a syntax (or lexical) error has been reported.
+     */
+    public boolean hasSyntaxErrors() {
+        return parseDiagnostics.ownErrorCount() > 0;
+    }
+
+    /**
+     * Analyze the next top-level declaration.  Called by the parser.
+     */
+    public void add(DeclNode decl) {
+        if (hasSyntaxErrors()) {
+            return;  // the analysis would be dropped
+        }
+        Diagnostics saved = ErrMsg.attach(nameDiagnostics);
+        try {
+            if (decl instanceof VarDeclNode) {
+                ((VarDeclNode)decl).nameAnalysis(symTab, symTab);
+            } else {
+                decl.nameAnalysis(symTab);
+            }
+        } finally {
+            ErrMsg.attach(saved);
+        }
+        if (decl instanceof FnDeclNode) {
+            DeclListNode.FnTypeCheckTask task =
+                new DeclListNode.FnTypeCheckTask((FnDeclNode)decl,
+                                                 diagnostics.fork());
+            pool.execute(task);
+            tasks.add(task);
+        }
+    }
+
+    /**
+     * Wait for the type checks of all the functions added.  Called once
+     * the parse is done and has no errors.
+     * @return false if a function has a type error
+     */
+    public boolean finish() {
+        joinAnalysis();
+        boolean result = true;
+        while (joined < tasks.size()) {
+            DeclListNode.FnTypeCheckTask task = tasks.get(joined++);
+            try {
+                if (!task.join()) {
+                    result = false;
+                }
+            } finally {
+                diagnostics.join(task.diagnostics());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Add the messages reported so far to the compilation's collector,
+     * cancel the type checks not yet joined by finish and stop the pool.
+     * Safe to call more than once.
+     */
+    public void close() {
+        joinAnalysis();
+        for (int i = joined; i < tasks.size(); i++) {
+            tasks.get(i).cancel(false);
+        }
+        joined = tasks.size();
+        pool.shutdown();
+    }
+
+    private void joinAnalysis() {
+        if (analysisJoined) {
+            return;
+        }
+        analysisJoined = true;
+        diagnostics.join(parseDiagnostics);
+        if (!hasSyntaxErrors()) {
+            diagnostics.join(nameDiagnostics);
+        }
+    }
+}
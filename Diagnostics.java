@@ -0,0 +1,275 @@
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Diagnostics
+ *
+ * Collects the warnings and errors of one compilation.  Nothing is printed
+ * when a message is reported; each one is stored as a record of primitive
+ * fields (packed line/column, severity, interned message id and a sort
+ * key) and the whole collection is sorted and printed in one go by flush.
+ *
+ * Work that runs on other threads (e.g. type checking functions in
+ * parallel) reports into a collector obtained from fork.  The records of a
+ * forked collector are placed where fork was called, so the flushed output
+ * is the same whichever order the forked work finishes in.  A forked
+ * collector shares the error count and error cap of its parent and must
+ * not itself be forked.
+ *
+ * The records of a collector from forkByPosition are ordered by line and
+ * column (then by the order they were reported in) when it is joined.  The
+ * scanner and the parser report into such a collector, as the order they
+ * report in depends on how the scanner is run (a token at a time or all
+ * of it first) while the messages' positions do not.
+ *
+ * If an error cap is set, the error that reaches it causes a
+ * TooManyErrorsException so that the compilation can stop early.
+ */
+class Diagnostics {
+    static final byte WARNING = 0;
+    static final byte ERROR = 1;
+
+    // per-record fields
+    private long[] pos;       // line in the high 32 bits, column in the low
+    private byte[] severity;
+    private int[] msgId;
+    private long[] key;       // records are printed in order of key
+    private int size;
+
+    private Diagnostics parent;     // null unless this collector was forked
+    private long keyBase;           // base of this forked collector's keys
+    private boolean byPosition;     // joined in order of position
+    private int nextSeq;            // sequence number of the next record/fork
+    private AtomicInteger errorCount;
+    private int warningCount;       // of this collector and joined ones
+    private int ownErrorCount;      // of this collector alone
+    private int maxErrors;
+
+    /**
+     * Create a collector with no error cap.
+     */
+    public Diagnostics() {
+        this(0);
+    }
+
+    /**
+     * Create a collector that stops the compilation when maxErrors errors
+     * have been reported; 0 means there is no cap.
+     */
+    public Diagnostics(int maxErrors) {
+        this(null, 0, new AtomicInteger(), maxErrors);
+    }
+
+    private Diagnostics(Diagnostics parent, long keyBase,
+                        AtomicInteger errorCount, int maxErrors) {
+        this.parent = parent;
+        this.keyBase = keyBase;
+        this.errorCount = errorCount;
+        this.maxErrors = maxErrors;
+        pos = new long[8];
+        severity = new byte[8];
+        msgId = new int[8];
+        key = new long[8];
+    }
+
+    /**
+     * Report an error.
+     * @throws TooManyErrorsException if this error reaches the error cap
+     */
+    public void error(int lineNum, int charNum, String msg) {
+        add(ERROR, lineNum, charNum, msg);
+        ownErrorCount++;
+        int count = errorCount.incrementAndGet();
+        if (maxErrors > 0 && count >= maxErrors) {
+            throw new TooManyErrorsException(count);
+        }
+    }
+
+    /**
+     * Report a warning.
+     */
+    public void warn(int lineNum, int charNum, String msg) {
+        add(WARNING, lineNum, charNum, msg);
+        warningCount++;
+    }
+
+    /**
+     * Return true if any error has been reported to this collector, its
+     * parent or any collector forked from them.
+     */
+    public boolean hasErrors() {
+        return errorCount.get() > 0;
+    }
+
+    /**
+     * Return the number of errors reported so far.
+     */
+    public int errorCount() {
+        return errorCount.get();
+    }
+
+    /**
+     * Return the number of errors reported to this collector itself, not
+     * counting those of its parent or of collectors forked from it.
+     */
+    public int ownErrorCount() {
+        return ownErrorCount;
+    }
+
+    /**
+     * Return the number of warnings reported to this collector and the
+     * collectors joined to it, including any already flushed.
+     */
+    public int warningCount() {
+        return warningCount;
+    }
+
+    /**
+     * Return the number of records held by this collector.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Create a collector for work that may run on another thread.  Its
+     * records are ordered as if they had been reported here and now; they
+     * are added to this collector by join.
+     */
+    public Diagnostics fork() {
+        if (parent != null) {
+            throw new IllegalStateException("a forked collector cannot be forked");
+        }
+        return new Diagnostics(this, ((long)nextSeq++) << 32, errorCount,
+                               maxErrors);
+    }
+
+    /**
+     * Like fork, but the records of the collector are placed in order of
+     * position, not of reporting, when it is joined.
+     */
+    public Diagnostics forkByPosition() {
+        Diagnostics child = fork();
+        child.byPosition = true;
+        return child;
+    }
+
+    /**
+     * Add the records of a collector created by fork to this collector.
+     * Must be called by the thread that owns this collector, once the
+     * forked work has finished.
+     */
+    public void join(Diagnostics child) {
+        if (child.parent != this) {
+            throw new IllegalArgumentException("not forked from this collector");
+        }
+        int[] order = child.byPosition ? child.sortedOrder(true) : null;
+        for (int n = 0; n < child.size; n++) {
+            int i = (order == null) ? n : order[n];
+            long k = (order == null) ? child.key[i] : child.keyBase + n;
+            append(child.pos[i], child.severity[i], child.msgId[i], k);
+        }
+        warningCount += child.warningCount;
+        child.size = 0;
+        child.warningCount = 0;
+    }
+
+    /**
+     * Print the records in order and empty the collector.
+     */
+    public void flush(PrintStream out) {
+        int[] order = sortedOrder(false);
+        StringBuilder sb = new StringBuilder();
+        for (int i : order) {
+            sb.append((int)(pos[i] >>> 32)).append(':')
+              .append((int)pos[i])
+              .append(severity[i] == ERROR ? " ***ERROR*** " : " ***WARNING*** ")
+              .append(message(msgId[i]))
+              .append('\n');
+        }
+        synchronized (out) {
+            out.print(sb);
+            out.flush();
+        }
+        size = 0;
+    }
+
+    private void add(byte sev, int lineNum, int charNum, String msg) {
+        long p = (((long)lineNum) << 32) | (charNum & 0xffffffffL);
+        long k = (parent == null) ? ((long)nextSeq++) << 32
+                                  : keyBase + nextSeq++;
+        append(p, sev, intern(msg), k);
+    }
+
+    private void append(long p, byte sev, int id, long k) {
+        if (size == pos.length) {
+            int n = size * 2;
+            pos = Arrays.copyOf(pos, n);
+            severity = Arrays.copyOf(severity, n);
+            msgId = Arrays.copyOf(msgId, n);
+            key = Arrays.copyOf(key, n);
+        }
+        pos[size] = p;
+        severity[size] = sev;
+        msgId[size] = id;
+        key[size] = k;
+        size++;
+    }
+
+    /**
+     * Return the record indexes ordered by key, or by position and then
+     * key.  Records are mostly appended in order, so this is a merge sort
+     * that skips merging runs that are already in order.
+     */
+    private int[] sortedOrder(boolean byPosition) {
+        int[] a = new int[size];
+        for (int i = 0; i < size; i++) {
+            a[i] = i;
+        }
+        int[] tmp = new int[size];
+        for (int width = 1; width < size; width *= 2) {
+            for (int lo = 0; lo < size - width; lo += 2 * width) {
+                int mid = lo + width;
+                int hi = Math.min(lo + 2 * width, size);
+                if (before(a[mid - 1], a[mid], byPosition)) {
+                    continue;  // runs already in order
+                }
+                int i = lo, j = mid, k = lo;
+                while (i < mid && j < hi) {
+                    tmp[k++] = before(a[i], a[j], byPosition) ? a[i++] : a[j++];
+                }
+                while (i < mid) tmp[k++] = a[i++];
+                while (j < hi) tmp[k++] = a[j++];
+                System.arraycopy(tmp, lo, a, lo, hi - lo);
+            }
+        }
+        return a;
+    }
+
+    private boolean before(int i, int j, boolean byPosition) {
+        if (byPosition && pos[i] != pos[j]) {
+            return pos[i] < pos[j];
+        }
+        return key[i] < key[j];
+    }
+
+    // message texts, shared by all collectors; records refer to them by id
+    private static final Map<String, Integer> messageIds =
+        new HashMap<String, Integer>();
+    private static final List<String> messages = new ArrayList<String>();
+
+    private static synchronized int intern(String msg) {
+        Integer id = messageIds.get(msg);
+        if (id == null) {
+            id = messages.size();
+            messages.add(msg);
+            messageIds.put(msg, id);
+        }
+        return id;
+    }
+
+    private static synchronized String message(int id) {
+        return messages.get(id);
+    }
+}
@@ -2,9 +2,19 @@
  * ErrMsg
  *
  * This class is used to generate warning and fatal error messages.
+ *
+ * It is a thin adapter over Diagnostics: each thread reports into the
+ * collector attached to it (see attach), which is normally the collector of
+ * the compilation the thread is working on.  A thread with no collector
+ * attached prints its messages immediately.
  */
 class ErrMsg {
-	private static boolean err = false;
+	// set only by threads with no collector attached
+	private static volatile boolean err = false;
+
+	// the calling thread's collector, or null
+	private static final ThreadLocal<Diagnostics> current =
+		new ThreadLocal<Diagnostics>();
 	
     /**
      * Generates a fatal error message.
@@ -13,8 +23,13 @@ class ErrMsg {
      * @param msg associated message for error
      */
     static void fatal(int lineNum, int charNum, String msg) {
-		err = true;
-        System.err.println(lineNum + ":" + charNum + " ***ERROR*** " + msg);
+        Diagnostics d = current.get();
+        if (d != null) {
+            d.error(lineNum, charNum, msg);
+        } else {
+            err = true;
+            print(lineNum + ":" + charNum + " ***ERROR*** " + msg);
+        }
     }
 
     /**
@@ -24,13 +39,47 @@ class ErrMsg {
      * @param msg associated message for warning
      */
     static void warn(int lineNum, int charNum, String msg) {
-        System.err.println(lineNum + ":" + charNum + " ***WARNING*** " + msg);
+        Diagnostics d = current.get();
+        if (d != null) {
+            d.warn(lineNum, charNum, msg);
+        } else {
+            print(lineNum + ":" + charNum + " ***WARNING*** " + msg);
+        }
     }
 	
     /**
-     * Returns the err flag.
+     * Returns the err flag: whether an error has been reported to the
+     * calling thread's collector (or, with none attached, printed).
      */
     static boolean getErr() {
-	return err;
+        Diagnostics d = current.get();
+        return (d != null) ? d.hasErrors() : err;
+    }
+
+    /**
+     * Returns the collector attached to the calling thread, or null.
+     */
+    static Diagnostics diagnostics() {
+        return current.get();
+    }
+
+    /**
+     * Attaches d to the calling thread (null to detach) and returns the
+     * collector it replaces.
+     */
+    static Diagnostics attach(Diagnostics d) {
+        Diagnostics prev = current.get();
+        if (d != null) {
+            current.set(d);
+        } else {
+            current.remove();
+        }
+        return prev;
+    }
+
+    private static void print(String line) {
+        synchronized (System.err) {
+            System.err.println(line);
+        }
     }
 }
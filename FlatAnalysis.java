@@ -0,0 +1,658 @@
+import java.util.*;
+
+/**
+ * FlatAnalysis
+ *
+ * Name analysis and type checking of a FlatAst.  The passes are those of
+ * ProgramNode.nameAnalysis and ProgramNode.typeCheck, node for node, so
+ * they report the same errors at the same positions and link the same
+ * kinds of Sym; what the ASTnodes keep in fields is kept here in arrays
+ * indexed by node:
+ *    syms       for an ID the Sym linked to it; for a DOT_ACCESS whose
+ *               field is a struct variable the StructDefSym of its type
+ *               (see DotAccessExpNode)
+ *    badAccess  the DOT_ACCESSes with an error, so that the accesses
+ *               containing them report no more
+ * Only the (few) Syms and Types are objects.  The passes run on the
+ * calling thread, one after the other.
+ */
+public class FlatAnalysis {
+    private final FlatAst ast;
+    private final Sym[] syms;
+    private final BitSet badAccess = new BitSet();
+
+    public FlatAnalysis(FlatAst ast) {
+        this.ast = ast;
+        syms = new Sym[ast.size()];
+    }
+
+    /**
+     * Return the Sym linked to an ID by name analysis, or null.
+     */
+    public Sym sym(int node) {
+        return syms[node];
+    }
+
+    // ---- name analysis ----
+
+    /**
+     * Process all of the globals, struct definitions and functions of the
+     * program in a new outermost scope (see ProgramNode.nameAnalysis).
+     */
+    public void nameAnalysis() {
+        SymbolTable symTab = new ChainedSymTable();
+        declList(ast.kid(ast.root(), 0), symTab, symTab);
+    }
+
+    // symTab is the local symbol table, globalTab the one in which struct
+    // type names are looked up (see VarDeclNode)
+    private void declList(int list, SymbolTable symTab,
+                          SymbolTable globalTab) {
+        for (int i = 0; i < ast.kidCount(list); i++) {
+            int decl = ast.kid(list, i);
+            switch (ast.kind(decl)) {
+            case FlatAst.VAR_DECL:
+                varDecl(decl, symTab, globalTab);
+                break;
+            case FlatAst.FN_DECL:
+                fnDecl(decl, symTab);
+                break;
+            default:
+                structDecl(decl, symTab);
+                break;
+            }
+        }
+    }
+
+    private void varDecl(int decl, SymbolTable symTab, SymbolTable globalTab) {
+        int type = ast.kid(decl, 0);
+        int id = ast.kid(decl, 1);
+        boolean badDecl = false;
+        IdNode structId = null;
+
+        if (ast.kind(type) == FlatAst.VOID_TYPE) {
+            error(id, "Non-function declared void");
+            badDecl = true;
+        } else if (ast.kind(type) == FlatAst.STRUCT_TYPE) {
+            int typeId = ast.kid(type, 0);
+            Sym sym = globalTab.lookupGlobal(ast.name(typeId));
+            if (!(sym instanceof StructDefSym)) {
+                error(typeId, "Invalid name of struct type");
+                badDecl = true;
+            } else {
+                syms[typeId] = sym;
+                structId = idNode(typeId);
+            }
+        }
+
+        if (symTab.lookupLocal(ast.name(id)) != null) {
+            error(id, "Multiply declared identifier");
+            badDecl = true;
+        }
+
+        if (!badDecl) {
+            declare(symTab, id, (structId != null) ? new StructSym(structId)
+                                                   : new Sym(type(type)));
+        }
+    }
+
+    private void fnDecl(int decl, SymbolTable symTab) {
+        int id = ast.kid(decl, 1);
+        int formals = ast.kid(decl, 2);
+        int body = ast.kid(decl, 3);
+        FnSym sym = null;
+
+        if (symTab.lookupLocal(ast.name(id)) != null) {
+            error(id, "Multiply declared identifier");
+        } else {
+            sym = new FnSym(type(ast.kid(decl, 0)), ast.kidCount(formals));
+            declare(symTab, id, sym);
+        }
+
+        symTab.addScope();
+        List<Type> typeList = new ArrayList<Type>(ast.kidCount(formals));
+        for (int i = 0; i < ast.kidCount(formals); i++) {
+            Sym formal = formalDecl(ast.kid(formals, i), symTab);
+            if (formal != null) {
+                typeList.add(formal.getType());
+            }
+        }
+        if (sym != null) {
+            sym.addFormals(typeList);
+        }
+        declList(ast.kid(body, 0), symTab, symTab);
+        stmtList(ast.kid(body, 1), symTab);
+        removeScope(symTab);
+    }
+
+    private Sym formalDecl(int decl, SymbolTable symTab) {
+        int type = ast.kid(decl, 0);
+        int id = ast.kid(decl, 1);
+        boolean badDecl = false;
+
+        if (ast.kind(type) == FlatAst.VOID_TYPE) {
+            error(id, "Non-function declared void");
+            badDecl = true;
+        }
+        if (symTab.lookupLocal(ast.name(id)) != null) {
+            error(id, "Multiply declared identifier");
+            badDecl = true;
+        }
+        if (badDecl) {
+            return null;
+        }
+        Sym sym = new Sym(type(type));
+        declare(symTab, id, sym);
+        return sym;
+    }
+
+    private void structDecl(int decl, SymbolTable symTab) {
+        int id = ast.kid(decl, 0);
+        boolean badDecl = false;
+
+        if (symTab.lookupLocal(ast.name(id)) != null) {
+            error(id, "Multiply declared identifier");
+            badDecl = true;
+        }
+
+        SymbolTable structSymTab = new SymTable();
+        declList(ast.kid(decl, 1), structSymTab, symTab);
+
+        if (!badDecl) {
+            declare(symTab, id, new StructDefSym(idNode(id), structSymTab));
+        }
+    }
+
+    private void stmtList(int list, SymbolTable symTab) {
+        for (int i = 0; i < ast.kidCount(list); i++) {
+            stmt(ast.kid(list, i), symTab);
+        }
+    }
+
+    private void stmt(int stmt, SymbolTable symTab) {
+        switch (ast.kind(stmt)) {
+        case FlatAst.IF:
+        case FlatAst.WHILE:
+        case FlatAst.REPEAT:
+            exp(ast.kid(stmt, 0), symTab);
+            block(stmt, 1, symTab);
+            break;
+        case FlatAst.IF_ELSE:
+            exp(ast.kid(stmt, 0), symTab);
+            block(stmt, 1, symTab);
+            block(stmt, 3, symTab);
+            break;
+        default:  // one expression, or a RETURN without one
+            if (ast.kidCount(stmt) > 0) {
+                exp(ast.kid(stmt, 0), symTab);
+            }
+            break;
+        }
+    }
+
+    // the decls and stmts that are children first and first+1 of stmt, in
+    // a new scope
+    private void block(int stmt, int first, SymbolTable symTab) {
+        symTab.addScope();
+        declList(ast.kid(stmt, first), symTab, symTab);
+        stmtList(ast.kid(stmt, first + 1), symTab);
+        removeScope(symTab);
+    }
+
+    private void exp(int exp, SymbolTable symTab) {
+        switch (ast.kind(exp)) {
+        case FlatAst.ID:
+            Sym sym = symTab.lookupGlobal(ast.name(exp));
+            if (sym == null) {
+                error(exp, "Undeclared identifier");
+            } else {
+                syms[exp] = sym;
+            }
+            break;
+        case FlatAst.DOT_ACCESS:
+            dotAccess(exp, symTab);
+            break;
+        case FlatAst.INT_LIT:
+        case FlatAst.STR_LIT:
+        case FlatAst.TRUE:
+        case FlatAst.FALSE:
+            break;
+        default:  // ASSIGN, CALL, its EXP_LIST and the operators
+            for (int i = 0; i < ast.kidCount(exp); i++) {
+                exp(ast.kid(exp, i), symTab);
+            }
+            break;
+        }
+    }
+
+    private void dotAccess(int dot, SymbolTable symTab) {
+        int loc = ast.kid(dot, 0);
+        int field = ast.kid(dot, 1);
+        boolean bad = false;
+        SymbolTable structSymTab = null;  // to look up the field in
+
+        exp(loc, symTab);
+
+        if (ast.kind(loc) == FlatAst.ID) {
+            Sym sym = syms[loc];
+            if (sym == null) {  // undeclared
+                bad = true;
+            } else if (sym instanceof StructSym) {
+                Sym def = ((StructSym)sym).getStructType().sym();
+                structSymTab = ((StructDefSym)def).getSymTable();
+            } else {
+                error(loc, "Dot-access of non-struct type");
+                bad = true;
+            }
+        } else if (badAccess.get(loc)) {
+            bad = true;
+        } else {
+            Sym sym = syms[loc];
+            if (sym == null) {  // the loc's field is not a struct variable
+                error(ast.kid(loc, 1), "Dot-access of non-struct type");
+                bad = true;
+            } else {
+                structSymTab = ((StructDefSym)sym).getSymTable();
+            }
+        }
+
+        if (!bad) {
+            Sym sym = structSymTab.lookupGlobal(ast.name(field));
+            if (sym == null) {
+                error(field, "Invalid struct field name");
+                bad = true;
+            } else {
+                syms[field] = sym;
+                if (sym instanceof StructSym) {
+                    syms[dot] = ((StructSym)sym).getStructType().sym();
+                }
+            }
+        }
+
+        if (bad) {
+            badAccess.set(dot);
+        }
+    }
+
+    private void declare(SymbolTable symTab, int id, Sym sym) {
+        try {
+            symTab.addDecl(ast.name(id), sym);
+            syms[id] = sym;
+        } catch (DuplicateSymException ex) {
+            unexpected("DuplicateSymException");
+        } catch (EmptySymTableException ex) {
+            unexpected("EmptySymTableException");
+        } catch (WrongArgumentException ex) {
+            unexpected("WrongArgumentException");
+        }
+    }
+
+    private void removeScope(SymbolTable symTab) {
+        try {
+            symTab.removeScope();
+        } catch (EmptySymTableException ex) {
+            unexpected("EmptySymTableException");
+        }
+    }
+
+    private static void unexpected(String exception) {
+        System.err.println("Unexpected " + exception
+                           + " in FlatAnalysis.nameAnalysis");
+        System.exit(-1);
+    }
+
+    // an IdNode for a Sym that needs one (StructSym, StructDefSym)
+    private IdNode idNode(int id) {
+        IdNode node = new IdNode(ast.line(id), ast.column(id), ast.name(id));
+        if (syms[id] != null) {
+            node.link(syms[id]);
+        }
+        return node;
+    }
+
+    // the Type of a type node (see TypeNode.type)
+    private Type type(int type) {
+        switch (ast.kind(type)) {
+        case FlatAst.INT_TYPE:
+            return Type.INT;
+        case FlatAst.BOOL_TYPE:
+            return Type.BOOL;
+        case FlatAst.VOID_TYPE:
+            return Type.VOID;
+        default:
+            Sym sym = syms[ast.kid(type, 0)];
+            return (sym instanceof StructDefSym)
+                   ? ((StructDefSym)sym).getInstanceType() : Type.ERROR;
+        }
+    }
+
+    // ---- type checking ----
+
+    /**
+     * Type check the bodies of the program's functions (see
+     * DeclListNode.typeCheck).
+     * @return false if a function has a type error
+     */
+    public boolean typeCheck() {
+        int decls = ast.kid(ast.root(), 0);
+        boolean result = true;
+        for (int i = 0; i < ast.kidCount(decls); i++) {
+            int decl = ast.kid(decls, i);
+            if (ast.kind(decl) == FlatAst.FN_DECL) {
+                Type returnType = type(ast.kid(decl, 0));
+                int body = ast.kid(decl, 3);
+                if (!checkStmts(ast.kid(body, 1), returnType)) {
+                    result = false;
+                }
+            }
+        }
+        return result;
+    }
+
+    // as StmtListNode.typeCheck, the result is that of the last statement
+    private boolean checkStmts(int list, Type returnType) {
+        boolean rtc = true;
+        for (int i = 0; i < ast.kidCount(list); i++) {
+            rtc = checkStmt(ast.kid(list, i), returnType);
+        }
+        return rtc;
+    }
+
+    private boolean checkStmt(int stmt, Type returnType) {
+        int kind = ast.kind(stmt);
+        if (kind == FlatAst.RETURN) {
+            return checkReturn(stmt, returnType);
+        }
+        int exp = ast.kid(stmt, 0);
+        Type type = typeOf(exp);
+        boolean rtc = !type.isErrorType();
+
+        switch (kind) {
+        case FlatAst.POST_INC:
+        case FlatAst.POST_DEC:
+            if (rtc && !type.isIntType()) {
+                error(errorPos(exp),
+                      "Arithmetic operator applied to non-numeric operand");
+                rtc = false;
+            }
+            return rtc;
+        case FlatAst.READ:
+        case FlatAst.WRITE:
+            String verb = (kind == FlatAst.READ) ? "read" : "write";
+            if (type.isFnType()) {
+                error(errorPos(exp), "Attempt to " + verb + " a function");
+                rtc = false;
+            } else if (type.isStructDefType()) {
+                error(errorPos(exp), "Attempt to " + verb + " a struct name");
+                rtc = false;
+            } else if (type.isStructType()) {
+                error(errorPos(exp),
+                      "Attempt to " + verb + " a struct variable");
+                rtc = false;
+            } else if (kind == FlatAst.WRITE && type.isVoidType()) {
+                error(errorPos(exp), "Attempt to write void");
+                rtc = false;
+            }
+            return rtc;
+        case FlatAst.IF:
+            rtc = checkCondition(exp, type, type.isBoolType(),
+                                 "Non-bool expression used as an if condition");
+            return rtc && checkStmts(ast.kid(stmt, 2), returnType);
+        case FlatAst.WHILE:
+            rtc = checkCondition(exp, type, type.isBoolType(),
+                                 "Non-bool expression used as a while condition");
+            return rtc && checkStmts(ast.kid(stmt, 2), returnType);
+        case FlatAst.REPEAT:
+            rtc = checkCondition(exp, type, type.isIntType(),
+                                 "Non-integer expression used as a repeat clause");
+            return rtc && checkStmts(ast.kid(stmt, 2), returnType);
+        case FlatAst.IF_ELSE:
+            rtc = checkCondition(exp, type, type.isBoolType(),
+                                 "Non-bool expression used as an if condition");
+            boolean processThen = checkStmts(ast.kid(stmt, 2), returnType);
+            boolean processElse = checkStmts(ast.kid(stmt, 4), returnType);
+            return rtc && processThen && processElse;
+        default:  // ASSIGN_STMT, CALL_STMT
+            return rtc;
+        }
+    }
+
+    private boolean checkCondition(int exp, Type type, boolean ok,
+                                   String msg) {
+        if (type.isErrorType()) {
+            return false;
+        }
+        if (!ok) {
+            error(errorPos(exp), msg);
+            return false;
+        }
+        return true;
+    }
+
+    private boolean checkReturn(int stmt, Type returnType) {
+        if (ast.kidCount(stmt) == 0) {
+            if (!returnType.isVoidType()) {
+                ErrMsg.fatal(0, 0, "Missing return value");
+                return false;
+            }
+            return true;
+        }
+        int exp = ast.kid(stmt, 0);
+        Type type = typeOf(exp);
+        if (returnType.isVoidType()) {
+            error(errorPos(exp), "Return with a value in a void function");
+            return false;
+        }
+        if (type.isErrorType()) {
+            return false;
+        }
+        if (!type.equals(returnType)) {
+            error(errorPos(exp), "Bad return value");
+            return false;
+        }
+        return true;
+    }
+
+    // the type of an expression, reporting the errors in it (see the
+    // computeType methods of the ExpNodes)
+    private Type typeOf(int exp) {
+        switch (ast.kind(exp)) {
+        case FlatAst.INT_LIT:
+            return Type.INT;
+        case FlatAst.STR_LIT:
+            return Type.STRING;
+        case FlatAst.TRUE:
+        case FlatAst.FALSE:
+            return Type.BOOL;
+        case FlatAst.ID:
+            return (syms[exp] != null) ? syms[exp].getType() : Type.ERROR;
+        case FlatAst.DOT_ACCESS:
+            return typeOf(ast.kid(exp, 1));
+        case FlatAst.ASSIGN:
+            return typeOfAssign(exp);
+        case FlatAst.CALL:
+            return typeOfCall(exp);
+        case FlatAst.UNARY_MINUS:
+            return checkOperand(ast.kid(exp, 0), Type.INT,
+                    "Arithmetic operator applied to non-numeric operand")
+                   ? Type.INT : Type.ERROR;
+        case FlatAst.NOT:
+            return checkOperand(ast.kid(exp, 0), Type.BOOL,
+                    "Logical operator applied to non-bool operand")
+                   ? Type.BOOL : Type.ERROR;
+        case FlatAst.PLUS:
+        case FlatAst.MINUS:
+        case FlatAst.TIMES:
+        case FlatAst.DIVIDE:
+            return checkOperands(exp, Type.INT, Type.INT,
+                    "Arithmetic operator applied to non-numeric operand");
+        case FlatAst.AND:
+        case FlatAst.OR:
+            return checkOperands(exp, Type.BOOL, Type.BOOL,
+                    "Logical operator applied to non-bool operand");
+        case FlatAst.EQUALS:
+        case FlatAst.NOT_EQUALS:
+            return typeOfEquality(exp);
+        default:  // LESS to GREATER_EQ
+            return checkOperands(exp, Type.INT, Type.BOOL,
+                    "Relational operator applied to non-numeric operand");
+        }
+    }
+
+    // the operand of a unary operator, which must be of type operandType
+    private boolean checkOperand(int exp, Type operandType, String msg) {
+        Type type = typeOf(exp);
+        if (type.isErrorType()) {
+            return false;
+        }
+        if (!type.equals(operandType)) {
+            error(errorPos(exp), msg);
+            return false;
+        }
+        return true;
+    }
+
+    // both operands of a binary operator must be of type operandType (see
+    // BinaryExpNode.checkMathOperators and the like)
+    private Type checkOperands(int exp, Type operandType, Type resultType,
+                               String msg) {
+        int l = ast.kid(exp, 0);
+        int r = ast.kid(exp, 1);
+        Type lType = typeOf(l);
+        Type rType = typeOf(r);
+        boolean rtc = true;
+        if (lType.isErrorType()) {
+            rtc = false;
+        } else if (!lType.equals(operandType)) {
+            error(errorPos(l), msg);
+            rtc = false;
+        }
+        if (rType.isErrorType()) {
+            rtc = false;
+        } else if (!rType.equals(operandType)) {
+            error(errorPos(r), msg);
+            rtc = false;
+        }
+        return rtc ? resultType : Type.ERROR;
+    }
+
+    private Type typeOfEquality(int exp) {
+        int l = ast.kid(exp, 0);
+        Type lType = typeOf(l);
+        Type rType = typeOf(ast.kid(exp, 1));
+        int pos = errorPos(l);
+        boolean rtc = true;
+
+        if (lType.isVoidType() && rType.isVoidType()) {
+            error(pos, "Equality operator applied to void functions");
+            rtc = false;
+        }
+        if (lType.isFnType() && rType.isFnType()) {
+            error(pos, "Equality operator applied to functions");
+            rtc = false;
+        }
+        if (lType.isStructDefType() && rType.isStructDefType()) {
+            error(pos, "Equality operator applied to struct names");
+            rtc = false;
+        }
+        if (lType.isStructType() && rType.isStructType()) {
+            error(pos, "Equality operator applied to struct variables");
+            rtc = false;
+        }
+        if (lType.isErrorType() || rType.isErrorType()) {
+            rtc = false;
+        }
+
+        if (!rtc) {
+            return Type.ERROR;
+        }
+        if (!lType.equals(rType)) {
+            error(pos, "Type mismatch");
+            return Type.ERROR;
+        }
+        return Type.BOOL;
+    }
+
+    private Type typeOfAssign(int exp) {
+        int lhs = ast.kid(exp, 0);
+        Type lType = typeOf(lhs);
+        Type rType = typeOf(ast.kid(exp, 1));
+        int pos = errorPos(lhs);
+
+        if (lType.isFnType() && rType.isFnType()) {
+            error(pos, "Function assignment");
+            return Type.ERROR;
+        }
+        if (lType.isStructDefType() && rType.isStructDefType()) {
+            error(pos, "Struct name assignment");
+            return Type.ERROR;
+        }
+        if (lType.isStructType() && rType.isStructType()) {
+            error(pos, "Struct variable assignment");
+            return Type.ERROR;
+        }
+        if (lType.isErrorType() || rType.isErrorType()) {
+            return Type.ERROR;
+        }
+        if (!lType.equals(rType)) {
+            error(pos, "Type mismatch");
+            return Type.ERROR;
+        }
+        return lType;
+    }
+
+    private Type typeOfCall(int exp) {
+        int id = ast.kid(exp, 0);
+        int actuals = ast.kid(exp, 1);
+        Type type = typeOf(id);
+
+        if (type.isErrorType()) {
+            return Type.ERROR;  // undeclared, already reported
+        }
+        if (!type.isFnType()) {
+            error(id, "Attempt to call a non-function");
+            return Type.ERROR;
+        }
+        FnSym sym = (FnSym)syms[id];
+        int[] paramSig = sym.getParamSignature();
+        if (ast.kidCount(actuals) != paramSig.length) {
+            error(id, "Function call with wrong number of args");
+            return Type.ERROR;
+        }
+        boolean rtc = true;
+        for (int i = 0; i < paramSig.length; i++) {
+            int actual = ast.kid(actuals, i);
+            // types are interned, so comparing ids compares types
+            if (typeOf(actual).id() != paramSig[i]) {
+                error(errorPos(actual),
+                      "Type of actual does not match type of formal");
+                rtc = false;
+            }
+        }
+        return rtc ? sym.getReturnType() : Type.ERROR;
+    }
+
+    // the node at whose position an error in exp is reported (see the
+    // getIdNode methods of the ExpNodes)
+    private int errorPos(int exp) {
+        while (true) {
+            switch (ast.kind(exp)) {
+            case FlatAst.DOT_ACCESS:
+                return ast.kid(exp, 1);
+            case FlatAst.INT_LIT:
+            case FlatAst.STR_LIT:
+            case FlatAst.TRUE:
+            case FlatAst.FALSE:
+            case FlatAst.ID:
+                return exp;
+            default:  // ASSIGN, CALL and the operators: their first child
+                exp = ast.kid(exp, 0);
+                break;
+            }
+        }
+    }
+
+    private void error(int node, String msg) {
+        ErrMsg.fatal(ast.line(node), ast.column(node), msg);
+    }
+}
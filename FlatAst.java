@@ -0,0 +1,522 @@
+import java.io.*;
+import java.util.Arrays;
+
+/**
+ * FlatAst
+ *
+ * An AST stored as a struct of arrays instead of a graph of ASTnode
+ * objects.  Each node is an index into parallel arrays:
+ *    kinds     the node's kind (one of the constants below)
+ *    positions line (high 32 bits) and column (low 32 bits) of an ID or
+ *              literal, 0 for other nodes
+ *    payloads  for an ID the id of its Name, for an INT_LIT its value,
+ *              for a STR_LIT the index of its text in strings
+ *    firstKid  the start of the node's children in kids; they end where
+ *              the next node's start
+ * The nodes are built bottom-up by the actions of FlatParser (see
+ * cminusminus.flat.cup), so a node's children always come before it and
+ * the last node is the PROGRAM.  A program takes a few arrays, which grow
+ * by doubling, rather than an object (and a list) per node.
+ *
+ * The children of each kind of node, which mirror those of the ASTnode
+ * classes in ast.java:
+ *    PROGRAM        DECL_LIST
+ *    DECL_LIST, FORMALS_LIST, STMT_LIST, EXP_LIST
+ *                   any number of declarations, formals, statements or
+ *                   expressions
+ *    VAR_DECL       type, ID
+ *    FN_DECL        type, ID, FORMALS_LIST, FN_BODY
+ *    FORMAL_DECL    type, ID
+ *    STRUCT_DECL    ID, DECL_LIST
+ *    FN_BODY        DECL_LIST, STMT_LIST
+ *    STRUCT_TYPE    ID
+ *    ASSIGN_STMT    ASSIGN
+ *    POST_INC, POST_DEC, READ, WRITE
+ *                   expression
+ *    IF, WHILE, REPEAT
+ *                   expression, DECL_LIST, STMT_LIST
+ *    IF_ELSE        expression, DECL_LIST, STMT_LIST, DECL_LIST, STMT_LIST
+ *    CALL_STMT      CALL
+ *    RETURN         nothing, or an expression
+ *    DOT_ACCESS     location (ID or DOT_ACCESS), ID
+ *    ASSIGN         location, expression
+ *    CALL           ID, EXP_LIST
+ *    UNARY_MINUS, NOT
+ *                   expression
+ *    PLUS to GREATER_EQ
+ *                   expression, expression
+ * The types INT_TYPE, BOOL_TYPE and VOID_TYPE and the expressions INT_LIT,
+ * STR_LIT, TRUE, FALSE and ID are leaves.
+ *
+ * FlatAnalysis does name analysis and type checking of a FlatAst; unparse
+ * prints it as ProgramNode.unparse prints the tree.  After a syntax error
+ * the nodes are only partly built (the parser may drop the elements of a
+ * list it is recovering in without ending the list), so a FlatAst is only
+ * analyzed if it was parsed without errors.
+ */
+public class FlatAst {
+    // kinds of node
+    public static final int PROGRAM = 0;
+    public static final int DECL_LIST = 1;
+    public static final int FORMALS_LIST = 2;
+    public static final int STMT_LIST = 3;
+    public static final int EXP_LIST = 4;
+    public static final int VAR_DECL = 5;
+    public static final int FN_DECL = 6;
+    public static final int FORMAL_DECL = 7;
+    public static final int STRUCT_DECL = 8;
+    public static final int FN_BODY = 9;
+    public static final int INT_TYPE = 10;
+    public static final int BOOL_TYPE = 11;
+    public static final int VOID_TYPE = 12;
+    public static final int STRUCT_TYPE = 13;
+    public static final int ASSIGN_STMT = 14;
+    public static final int POST_INC = 15;
+    public static final int POST_DEC = 16;
+    public static final int READ = 17;
+    public static final int WRITE = 18;
+    public static final int IF = 19;
+    public static final int IF_ELSE = 20;
+    public static final int WHILE = 21;
+    public static final int REPEAT = 22;
+    public static final int CALL_STMT = 23;
+    public static final int RETURN = 24;
+    public static final int INT_LIT = 25;
+    public static final int STR_LIT = 26;
+    public static final int TRUE = 27;
+    public static final int FALSE = 28;
+    public static final int ID = 29;
+    public static final int DOT_ACCESS = 30;
+    public static final int ASSIGN = 31;
+    public static final int CALL = 32;
+    public static final int UNARY_MINUS = 33;
+    public static final int NOT = 34;
+    public static final int PLUS = 35;
+    public static final int MINUS = 36;
+    public static final int TIMES = 37;
+    public static final int DIVIDE = 38;
+    public static final int AND = 39;
+    public static final int OR = 40;
+    public static final int EQUALS = 41;
+    public static final int NOT_EQUALS = 42;
+    public static final int LESS = 43;
+    public static final int GREATER = 44;
+    public static final int LESS_EQ = 45;
+    public static final int GREATER_EQ = 46;
+
+    // operators of PLUS to GREATER_EQ, for unparse
+    private static final String[] OPERATORS = {
+        " + ", " - ", " * ", " / ", " && ", " || ", " == ", " != ",
+        " < ", " > ", " <= ", " >= "
+    };
+
+    private byte[] kinds = new byte[1024];
+    private long[] positions = new long[1024];
+    private int[] payloads = new int[1024];
+    private int[] firstKid = new int[1025];
+    private int size;
+    private int[] kids = new int[1024];
+    private int kidCount;
+
+    private int[] pending = new int[64];  // elements of lists being built
+    private int pendingCount;
+
+    private Name[] names = new Name[256];       // by Name id
+    private String[] strings = new String[16];  // texts of STR_LITs
+    private int stringCount;
+
+    /**
+     * Return the number of nodes.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return the PROGRAM node, or -1 if there are no nodes.
+     */
+    public int root() {
+        return size - 1;
+    }
+
+    public int kind(int node) {
+        return kinds[node];
+    }
+
+    public int line(int node) {
+        return (int)(positions[node] >>> 32);
+    }
+
+    public int column(int node) {
+        return (int)positions[node];
+    }
+
+    /**
+     * Return the number of children of node.
+     */
+    public int kidCount(int node) {
+        return firstKid[node + 1] - firstKid[node];
+    }
+
+    /**
+     * Return child i of node.
+     */
+    public int kid(int node, int i) {
+        return kids[firstKid[node] + i];
+    }
+
+    /**
+     * Return the Name of an ID.
+     */
+    public Name name(int node) {
+        return names[payloads[node]];
+    }
+
+    /**
+     * Return the value of an INT_LIT.
+     */
+    public int intValue(int node) {
+        return payloads[node];
+    }
+
+    /**
+     * Return the text, including the quotes, of a STR_LIT.
+     */
+    public String string(int node) {
+        return strings[payloads[node]];
+    }
+
+    // ---- building, by the parser's actions ----
+
+    int id(IdTokenVal val) {
+        Name name = val.idVal;
+        int id = name.id();
+        if (id >= names.length) {
+            names = Arrays.copyOf(names, Math.max(names.length * 2, id + 1));
+        }
+        names[id] = name;
+        return leaf(ID, val, id);
+    }
+
+    int intLit(IntLitTokenVal val) {
+        return leaf(INT_LIT, val, val.intVal);
+    }
+
+    int strLit(StrLitTokenVal val) {
+        if (stringCount == strings.length) {
+            strings = Arrays.copyOf(strings, stringCount * 2);
+        }
+        strings[stringCount] = val.strVal;
+        return leaf(STR_LIT, val, stringCount++);
+    }
+
+    int leaf(int kind, TokenVal val, int payload) {
+        int node = add(kind);
+        positions[node] = ((long)val.linenum << 32)
+                          | (val.charnum & 0xffffffffL);
+        payloads[node] = payload;
+        return node;
+    }
+
+    int node(int kind) {
+        return add(kind);
+    }
+
+    int node(int kind, int a) {
+        addKid(a);
+        return add(kind);
+    }
+
+    int node(int kind, int a, int b) {
+        addKid(a);
+        addKid(b);
+        return add(kind);
+    }
+
+    int node(int kind, int a, int b, int c) {
+        addKid(a);
+        addKid(b);
+        addKid(c);
+        return add(kind);
+    }
+
+    int node(int kind, int a, int b, int c, int d) {
+        addKid(a);
+        addKid(b);
+        addKid(c);
+        addKid(d);
+        return add(kind);
+    }
+
+    int node(int kind, int a, int b, int c, int d, int e) {
+        addKid(a);
+        addKid(b);
+        addKid(c);
+        addKid(d);
+        addKid(e);
+        return add(kind);
+    }
+
+    /**
+     * Start a list; returns the mark to give to addToList and endList.
+     * Lists nest: a list started after this one must end before it.
+     */
+    int beginList() {
+        return pendingCount;
+    }
+
+    /**
+     * Append a node to the list with the given mark.
+     */
+    int addToList(int mark, int node) {
+        if (pendingCount == pending.length) {
+            pending = Arrays.copyOf(pending, pendingCount * 2);
+        }
+        pending[pendingCount++] = node;
+        return mark;
+    }
+
+    /**
+     * End the list with the given mark, making a node of the given kind
+     * with its elements as children.
+     */
+    int endList(int kind, int mark) {
+        for (int i = mark; i < pendingCount; i++) {
+            addKid(pending[i]);
+        }
+        pendingCount = mark;
+        return add(kind);
+    }
+
+    private void addKid(int node) {
+        if (kidCount == kids.length) {
+            kids = Arrays.copyOf(kids, kidCount * 2);
+        }
+        kids[kidCount++] = node;
+    }
+
+    // adds a node whose children have just been added to kids
+    private int add(int kind) {
+        if (size == kinds.length) {
+            int capacity = size * 2;
+            kinds = Arrays.copyOf(kinds, capacity);
+            positions = Arrays.copyOf(positions, capacity);
+            payloads = Arrays.copyOf(payloads, capacity);
+            firstKid = Arrays.copyOf(firstKid, capacity + 1);
+        }
+        kinds[size] = (byte)kind;
+        firstKid[size + 1] = kidCount;
+        return size++;
+    }
+
+    // ---- unparse ----
+
+    /**
+     * Print the program as ProgramNode.unparse does; the IDs are printed
+     * with the Syms linked to them by name analysis.
+     */
+    public void unparse(PrintWriter p, FlatAnalysis analysis) {
+        unparse(p, root(), 0, analysis);
+    }
+
+    private void unparse(PrintWriter p, int n, int indent,
+                         FlatAnalysis analysis) {
+        switch (kinds[n]) {
+        case PROGRAM:
+        case DECL_LIST:
+        case STMT_LIST:
+            for (int i = 0; i < kidCount(n); i++) {
+                unparse(p, kid(n, i), indent, analysis);
+            }
+            break;
+        case FORMALS_LIST:
+        case EXP_LIST:
+            for (int i = 0; i < kidCount(n); i++) {
+                if (i > 0) {
+                    p.print(", ");
+                }
+                unparse(p, kid(n, i), 0, analysis);
+            }
+            break;
+        case FN_BODY:
+            unparse(p, kid(n, 0), indent, analysis);
+            unparse(p, kid(n, 1), indent, analysis);
+            break;
+        case VAR_DECL:
+            doIndent(p, indent);
+            unparse(p, kid(n, 0), 0, analysis);
+            p.print(" ");
+            p.print(name(kid(n, 1)));
+            p.println(";");
+            break;
+        case FN_DECL:
+            doIndent(p, indent);
+            unparse(p, kid(n, 0), 0, analysis);
+            p.print(" ");
+            p.print(name(kid(n, 1)));
+            p.print("(");
+            unparse(p, kid(n, 2), 0, analysis);
+            p.println(") {");
+            unparse(p, kid(n, 3), indent + 4, analysis);
+            p.println("}\n");
+            break;
+        case FORMAL_DECL:
+            unparse(p, kid(n, 0), 0, analysis);
+            p.print(" ");
+            p.print(name(kid(n, 1)));
+            break;
+        case STRUCT_DECL:
+            doIndent(p, indent);
+            p.print("struct ");
+            p.print(name(kid(n, 0)));
+            p.println("{");
+            unparse(p, kid(n, 1), indent + 4, analysis);
+            doIndent(p, indent);
+            p.println("};\n");
+            break;
+        case INT_TYPE:
+            p.print("int");
+            break;
+        case BOOL_TYPE:
+            p.print("bool");
+            break;
+        case VOID_TYPE:
+            p.print("void");
+            break;
+        case STRUCT_TYPE:
+            p.print("struct ");
+            p.print(name(kid(n, 0)));
+            break;
+        case ASSIGN_STMT:
+            doIndent(p, indent);
+            unparse(p, kid(n, 0), -1, analysis);  // no parentheses
+            p.println(";");
+            break;
+        case POST_INC:
+            doIndent(p, indent);
+            unparse(p, kid(n, 0), 0, analysis);
+            p.println("++;");
+            break;
+        case POST_DEC:
+            doIndent(p, indent);
+            unparse(p, kid(n, 0), 0, analysis);
+            p.println("--;");
+            break;
+        case READ:
+            doIndent(p, indent);
+            p.print("cin >> ");
+            unparse(p, kid(n, 0), 0, analysis);
+            p.println(";");
+            break;
+        case WRITE:
+            doIndent(p, indent);
+            p.print("cout << ");
+            unparse(p, kid(n, 0), 0, analysis);
+            p.println(";");
+            break;
+        case IF:
+            unparseBlock(p, n, "if (", indent, analysis);
+            break;
+        case IF_ELSE:
+            unparseBlock(p, n, "if (", indent, analysis);
+            doIndent(p, indent);
+            p.println("else {");
+            unparse(p, kid(n, 3), indent + 4, analysis);
+            unparse(p, kid(n, 4), indent + 4, analysis);
+            doIndent(p, indent);
+            p.println("}");
+            break;
+        case WHILE:
+            unparseBlock(p, n, "while (", indent, analysis);
+            break;
+        case REPEAT:
+            unparseBlock(p, n, "repeat (", indent, analysis);
+            break;
+        case CALL_STMT:
+            doIndent(p, indent);
+            unparse(p, kid(n, 0), indent, analysis);
+            p.println(";");
+            break;
+        case RETURN:
+            doIndent(p, indent);
+            p.print("return");
+            if (kidCount(n) > 0) {
+                p.print(" ");
+                unparse(p, kid(n, 0), 0, analysis);
+            }
+            p.println(";");
+            break;
+        case INT_LIT:
+            p.print(intValue(n));
+            break;
+        case STR_LIT:
+            p.print(string(n));
+            break;
+        case TRUE:
+            p.print("true");
+            break;
+        case FALSE:
+            p.print("false");
+            break;
+        case ID:
+            p.print(name(n));
+            Sym sym = (analysis == null) ? null : analysis.sym(n);
+            if (sym != null) {
+                p.print("(" + sym + ")");
+            }
+            break;
+        case DOT_ACCESS:
+            unparse(p, kid(n, 0), 0, analysis);
+            p.print(".");
+            unparse(p, kid(n, 1), 0, analysis);
+            break;
+        case ASSIGN:
+            if (indent != -1)  p.print("(");
+            unparse(p, kid(n, 0), 0, analysis);
+            p.print(" = ");
+            unparse(p, kid(n, 1), 0, analysis);
+            if (indent != -1)  p.print(")");
+            break;
+        case CALL:
+            unparse(p, kid(n, 0), 0, analysis);
+            p.print("(");
+            unparse(p, kid(n, 1), 0, analysis);
+            p.print(")");
+            break;
+        case UNARY_MINUS:
+            p.print("(-");
+            unparse(p, kid(n, 0), 0, analysis);
+            p.print(")");
+            break;
+        case NOT:
+            p.print("(!");
+            unparse(p, kid(n, 0), 0, analysis);
+            p.print(")");
+            break;
+        default:  // binary operators
+            p.print("(");
+            unparse(p, kid(n, 0), 0, analysis);
+            p.print(OPERATORS[kinds[n] - PLUS]);
+            unparse(p, kid(n, 1), 0, analysis);
+            p.print(")");
+            break;
+        }
+    }
+
+    // the condition and first block of an if, while or repeat
+    private void unparseBlock(PrintWriter p, int n, String keyword,
+                              int indent, FlatAnalysis analysis) {
+        doIndent(p, indent);
+        p.print(keyword);
+        unparse(p, kid(n, 0), 0, analysis);
+        p.println(") {");
+        unparse(p, kid(n, 1), indent + 4, analysis);
+        unparse(p, kid(n, 2), indent + 4, analysis);
+        doIndent(p, indent);
+        p.println("}");
+    }
+
+    private static void doIndent(PrintWriter p, int indent) {
+        for (int k = 0; k < indent; k++) p.print(" ");
+    }
+}
@@ -0,0 +1,1475 @@
+
+//----------------------------------------------------
+// The following code was generated by CUP v0.11b ${cupversion} (SVN rev )
+//----------------------------------------------------
+
+import java_cup.runtime.*;
+import java_cup.runtime.XMLElement;
+
+/** CUP v0.11b ${cupversion} (SVN rev ) generated parser.
+  */
+@SuppressWarnings({"rawtypes"})
+public class FlatParser extends java_cup.runtime.lr_parser {
+
+ public final Class getSymbolContainer() {
+    return FlatSym.class;
+}
+
+  /** Default constructor. */
+  public FlatParser() {super();}
+
+  /** Constructor which sets the default scanner. */
+  public FlatParser(java_cup.runtime.Scanner s) {super(s);}
+
+  /** Constructor which sets the default scanner. */
+  public FlatParser(java_cup.runtime.Scanner s, java_cup.runtime.SymbolFactory sf) {super(s,sf);}
+
+  /** Production table. */
+  protected static final short _production_table[][] = 
+    unpackFromStrings(new String[] {
+    "\000\113\000\002\002\004\000\002\002\003\000\002\003" +
+    "\004\000\002\003\002\000\002\004\003\000\002\004\003" +
+    "\000\002\004\003\000\002\004\004\000\002\004\004\000" +
+    "\002\005\004\000\002\005\005\000\002\005\002\000\002" +
+    "\006\005\000\002\006\006\000\002\007\006\000\002\010" +
+    "\010\000\002\011\004\000\002\011\003\000\002\012\004" +
+    "\000\002\012\005\000\002\013\003\000\002\013\005\000" +
+    "\002\014\004\000\002\015\006\000\002\016\004\000\002" +
+    "\016\002\000\002\017\003\000\002\017\004\000\002\020" +
+    "\004\000\002\020\005\000\002\020\005\000\002\020\006" +
+    "\000\002\020\006\000\002\020\012\000\002\020\017\000" +
+    "\002\020\012\000\002\020\012\000\002\020\005\000\002" +
+    "\020\004\000\002\020\004\000\002\020\004\000\002\021" +
+    "\005\000\002\022\003\000\002\022\005\000\002\022\005" +
+    "\000\002\022\005\000\002\022\005\000\002\022\004\000" +
+    "\002\022\005\000\002\022\005\000\002\022\005\000\002" +
+    "\022\005\000\002\022\005\000\002\022\005\000\002\022" +
+    "\005\000\002\022\005\000\002\022\004\000\002\022\003" +
+    "\000\002\023\003\000\002\023\003\000\002\023\003\000" +
+    "\002\023\003\000\002\023\003\000\002\023\005\000\002" +
+    "\023\003\000\002\024\005\000\002\024\006\000\002\025" +
+    "\003\000\002\025\005\000\002\026\003\000\002\026\003" +
+    "\000\002\026\003\000\002\027\003\000\002\027\005\000" +
+    "\002\030\003" });
+
+  /** Access to production table. */
+  public short[][] production_table() {return _production_table;}
+
+  /** Parse-action table. */
+  protected static final short[][] _action_table = 
+    unpackFromStrings(new String[] {
+    "\000\235\000\002\001\ufffe\000\014\003\015\004\010\005" +
+    "\011\006\013\011\012\001\000\000\004\002\006\001\002" +
+    "\000\002\001\001\000\002\001\ufffd\000\002\001\uffbc\000" +
+    "\002\001\uffbb\000\004\021\042\001\002\000\002\001\uffba" +
+    "\000\004\021\042\001\002\000\006\024\022\030\021\001" +
+    "\002\000\002\001\uffff\000\002\001\ufffc\000\002\001\ufffb" +
+    "\000\002\001\ufffa\000\002\001\ufff6\000\002\001\ufff9\000" +
+    "\014\003\025\004\010\005\011\006\013\011\027\001\uffe8" +
+    "\000\004\030\214\001\002\000\004\021\042\001\002\000" +
+    "\004\021\042\001\002\000\002\001\ufff8\000\024\003\043" +
+    "\012\046\013\036\014\040\016\033\017\032\020\047\021" +
+    "\042\025\045\001\002\000\004\026\200\001\002\000\004" +
+    "\026\171\001\002\000\004\026\162\001\uffb9\000\002\001" +
+    "\uffe9\000\004\033\157\001\002\000\012\032\122\035\154" +
+    "\036\153\054\121\001\002\000\004\026\137\001\002\000" +
+    "\004\030\136\001\002\000\002\001\uffb7\000\006\025\135" +
+    "\030\134\001\002\000\004\030\133\001\002\000\002\001" +
+    "\uffe7\000\004\034\127\001\002\000\024\007\053\010\057" +
+    "\021\042\022\064\023\062\026\065\030\061\040\051\043" +
+    "\063\001\002\000\002\001\uffea\000\022\007\053\010\057" +
+    "\021\042\022\064\023\062\026\065\040\051\043\063\001" +
+    "\002\000\002\001\uffc8\000\002\001\uffc4\000\034\030\125" +
+    "\037\076\040\067\041\101\042\071\044\070\045\103\046" +
+    "\102\047\072\050\077\051\074\052\073\053\075\001\002" +
+    "\000\006\032\122\054\121\001\uffc7\000\002\001\uffd7\000" +
+    "\002\001\uffc3\000\002\001\uffc1\000\002\001\uffdb\000\002" +
+    "\001\uffc5\000\022\007\053\010\057\021\042\022\064\023" +
+    "\062\026\065\040\051\043\063\001\002\000\002\001\uffc6" +
+    "\000\022\007\053\010\057\021\042\022\064\023\062\026" +
+    "\065\040\051\043\063\001\002\000\034\027\100\037\076" +
+    "\040\067\041\101\042\071\044\070\045\103\046\102\047" +
+    "\072\050\077\051\074\052\073\053\075\001\002\000\022" +
+    "\007\053\010\057\021\042\022\064\023\062\026\065\040" +
+    "\051\043\063\001\002\000\022\007\053\010\057\021\042" +
+    "\022\064\023\062\026\065\040\051\043\063\001\002\000" +
+    "\022\007\053\010\057\021\042\022\064\023\062\026\065" +
+    "\040\051\043\063\001\002\000\022\007\053\010\057\021" +
+    "\042\022\064\023\062\026\065\040\051\043\063\001\002" +
+    "\000\022\007\053\010\057\021\042\022\064\023\062\026" +
+    "\065\040\051\043\063\001\002\000\022\007\053\010\057" +
+    "\021\042\022\064\023\062\026\065\040\051\043\063\001" +
+    "\002\000\022\007\053\010\057\021\042\022\064\023\062" +
+    "\026\065\040\051\043\063\001\002\000\022\007\053\010" +
+    "\057\021\042\022\064\023\062\026\065\040\051\043\063" +
+    "\001\002\000\022\007\053\010\057\021\042\022\064\023" +
+    "\062\026\065\040\051\043\063\001\002\000\002\001\uffc2" +
+    "\000\022\007\053\010\057\021\042\022\064\023\062\026" +
+    "\065\040\051\043\063\001\002\000\022\007\053\010\057" +
+    "\021\042\022\064\023\062\026\065\040\051\043\063\001" +
+    "\002\000\022\007\053\010\057\021\042\022\064\023\062" +
+    "\026\065\040\051\043\063\001\002\000\030\037\076\040" +
+    "\067\041\101\042\071\044\070\046\102\047\072\050\077" +
+    "\051\074\052\073\053\075\001\uffd0\000\012\037\076\040" +
+    "\067\041\101\042\071\001\uffcf\000\002\001\uffd4\000\012" +
+    "\037\076\040\067\041\101\042\071\001\uffcd\000\006\041" +
+    "\101\042\071\001\uffd6\000\012\037\076\040\067\041\101" +
+    "\042\071\001\uffca\000\012\037\076\040\067\041\101\042" +
+    "\071\001\uffcc\000\012\037\076\040\067\041\101\042\071" +
+    "\001\uffcb\000\012\037\076\040\067\041\101\042\071\001" +
+    "\uffce\000\002\001\uffd3\000\026\037\076\040\067\041\101" +
+    "\042\071\046\102\047\072\050\077\051\074\052\073\053" +
+    "\075\001\uffd1\000\006\041\101\042\071\001\uffd5\000\002" +
+    "\001\uffd2\000\022\007\053\010\057\021\042\022\064\023" +
+    "\062\026\065\040\051\043\063\001\002\000\004\021\042" +
+    "\001\002\000\002\001\uffb8\000\032\037\076\040\067\041" +
+    "\101\042\071\044\070\045\103\046\102\047\072\050\077" +
+    "\051\074\052\073\053\075\001\uffd8\000\002\001\uffdc\000" +
+    "\006\041\101\042\071\001\uffc9\000\004\021\042\001\002" +
+    "\000\006\030\132\032\122\001\002\000\002\001\uffb9\000" +
+    "\002\001\uffe2\000\002\001\uffda\000\002\001\uffd9\000\002" +
+    "\001\uffe6\000\002\001\uffe5\000\022\007\053\010\057\021" +
+    "\042\022\064\023\062\026\065\040\051\043\063\001\002" +
+    "\000\034\027\141\037\076\040\067\041\101\042\071\044" +
+    "\070\045\103\046\102\047\072\050\077\051\074\052\073" +
+    "\053\075\001\002\000\004\024\142\001\002\000\002\001" +
+    "\ufff6\000\014\003\025\004\010\005\011\006\013\011\027" +
+    "\001\uffe8\000\024\003\043\012\046\013\036\014\040\016" +
+    "\033\017\032\020\047\021\042\025\045\001\002\000\004" +
+    "\015\146\001\uffe0\000\004\024\147\001\002\000\002\001" +
+    "\ufff6\000\014\003\025\004\010\005\011\006\013\011\027" +
+    "\001\uffe8\000\024\003\043\012\046\013\036\014\040\016" +
+    "\033\017\032\020\047\021\042\025\045\001\002\000\002" +
+    "\001\uffdf\000\004\030\156\001\002\000\004\030\155\001" +
+    "\002\000\002\001\uffe4\000\002\001\uffe3\000\022\007\053" +
+    "\010\057\021\042\022\064\023\062\026\065\040\051\043" +
+    "\063\001\002\000\034\030\161\037\076\040\067\041\101" +
+    "\042\071\044\070\045\103\046\102\047\072\050\077\051" +
+    "\074\052\073\053\075\001\002\000\002\001\uffe1\000\024" +
+    "\007\053\010\057\021\042\022\064\023\062\026\065\027" +
+    "\165\040\051\043\063\001\002\000\032\037\076\040\067" +
+    "\041\101\042\071\044\070\045\103\046\102\047\072\050" +
+    "\077\051\074\052\073\053\075\001\uffbe\000\006\027\167" +
+    "\031\166\001\002\000\002\001\uffc0\000\022\007\053\010" +
+    "\057\021\042\022\064\023\062\026\065\040\051\043\063" +
+    "\001\002\000\002\001\uffbf\000\032\037\076\040\067\041" +
+    "\101\042\071\044\070\045\103\046\102\047\072\050\077" +
+    "\051\074\052\073\053\075\001\uffbd\000\022\007\053\010" +
+    "\057\021\042\022\064\023\062\026\065\040\051\043\063" +
+    "\001\002\000\034\027\173\037\076\040\067\041\101\042" +
+    "\071\044\070\045\103\046\102\047\072\050\077\051\074" +
+    "\052\073\053\075\001\002\000\004\024\174\001\002\000" +
+    "\002\001\ufff6\000\014\003\025\004\010\005\011\006\013" +
+    "\011\027\001\uffe8\000\024\003\043\012\046\013\036\014" +
+    "\040\016\033\017\032\020\047\021\042\025\045\001\002" +
+    "\000\002\001\uffde\000\022\007\053\010\057\021\042\022" +
+    "\064\023\062\026\065\040\051\043\063\001\002\000\034" +
+    "\027\202\037\076\040\067\041\101\042\071\044\070\045" +
+    "\103\046\102\047\072\050\077\051\074\052\073\053\075" +
+    "\001\002\000\004\024\203\001\002\000\002\001\ufff6\000" +
+    "\014\003\025\004\010\005\011\006\013\011\027\001\uffe8" +
+    "\000\024\003\043\012\046\013\036\014\040\016\033\017" +
+    "\032\020\047\021\042\025\045\001\002\000\002\001\uffdd" +
+    "\000\004\021\042\001\002\000\004\030\211\001\002\000" +
+    "\002\001\ufff4\000\004\030\213\001\002\000\002\001\ufff5" +
+    "\000\002\001\ufff7\000\006\026\217\030\213\001\002\000" +
+    "\004\024\022\001\002\000\012\004\010\005\011\006\013" +
+    "\027\220\001\002\000\002\001\uffef\000\004\021\042\001" +
+    "\002\000\006\027\225\031\224\001\002\000\002\001\uffed" +
+    "\000\010\004\010\005\011\006\013\001\002\000\002\001" +
+    "\uffee\000\002\001\uffec\000\002\001\uffeb\000\002\001\ufff3" +
+    "\000\006\021\042\024\232\001\002\000\012\004\010\005" +
+    "\011\006\013\011\027\001\002\000\002\001\ufff0\000\014" +
+    "\004\010\005\011\006\013\011\027\025\236\001\002\000" +
+    "\002\001\ufff1\000\004\030\237\001\002\000\002\001\ufff2" +
+    "" });
+
+  /** Access to parse-action table. */
+  public short[][] action_table() {return _action_table;}
+
+  /** <code>reduce_goto</code> table. */
+  protected static final short[][] _reduce_table = 
+    unpackFromStrings(new String[] {
+    "\000\235\000\006\002\004\003\003\001\001\000\014\004" +
+    "\015\006\006\007\016\010\017\026\013\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\004\030\230\001\001\000\002" +
+    "\001\001\000\004\030\214\001\001\000\004\015\022\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\004\005\023\001\001\000\002\001" +
+    "\001\000\010\006\027\016\030\026\025\001\001\000\002" +
+    "\001\001\000\004\030\211\001\001\000\004\030\206\001" +
+    "\001\000\002\001\001\000\016\017\047\020\034\021\040" +
+    "\024\043\027\036\030\033\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\016\021\055\022" +
+    "\053\023\051\024\057\027\054\030\033\001\001\000\002" +
+    "\001\001\000\016\021\055\022\125\023\051\024\057\027" +
+    "\054\030\033\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\016\021\055\022\117\023\051\024\057\027" +
+    "\054\030\033\001\001\000\002\001\001\000\016\021\055" +
+    "\022\065\023\051\024\057\027\054\030\033\001\001\000" +
+    "\002\001\001\000\016\021\055\022\116\023\051\024\057" +
+    "\027\054\030\033\001\001\000\016\021\055\022\115\023" +
+    "\051\024\057\027\054\030\033\001\001\000\016\021\055" +
+    "\022\114\023\051\024\057\027\054\030\033\001\001\000" +
+    "\016\021\055\022\113\023\051\024\057\027\054\030\033" +
+    "\001\001\000\016\021\055\022\112\023\051\024\057\027" +
+    "\054\030\033\001\001\000\016\021\055\022\111\023\051" +
+    "\024\057\027\054\030\033\001\001\000\016\021\055\022" +
+    "\110\023\051\024\057\027\054\030\033\001\001\000\016" +
+    "\021\055\022\107\023\051\024\057\027\054\030\033\001" +
+    "\001\000\016\021\055\022\106\023\051\024\057\027\054" +
+    "\030\033\001\001\000\002\001\001\000\016\021\055\022" +
+    "\105\023\051\024\057\027\054\030\033\001\001\000\016" +
+    "\021\055\022\104\023\051\024\057\027\054\030\033\001" +
+    "\001\000\016\021\055\022\103\023\051\024\057\027\054" +
+    "\030\033\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\016\021\055\022\123\023\051\024" +
+    "\057\027\054\030\033\001\001\000\004\030\122\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\006\027\127\030\130\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\016\021\055\022\137\023\051\024\057\027\054\030" +
+    "\033\001\001\000\002\001\001\000\002\001\001\000\004" +
+    "\005\142\001\001\000\010\006\027\016\143\026\025\001" +
+    "\001\000\016\017\144\020\034\021\040\024\043\027\036" +
+    "\030\033\001\001\000\002\001\001\000\002\001\001\000" +
+    "\004\005\147\001\001\000\010\006\027\016\150\026\025" +
+    "\001\001\000\016\017\151\020\034\021\040\024\043\027" +
+    "\036\030\033\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\016\021\055\022\157\023\051\024\057\027\054\030\033" +
+    "\001\001\000\002\001\001\000\002\001\001\000\020\021" +
+    "\055\022\162\023\051\024\057\025\163\027\054\030\033" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\016\021\055\022\167\023\051\024\057\027\054" +
+    "\030\033\001\001\000\002\001\001\000\002\001\001\000" +
+    "\016\021\055\022\171\023\051\024\057\027\054\030\033" +
+    "\001\001\000\002\001\001\000\002\001\001\000\004\005" +
+    "\174\001\001\000\010\006\027\016\175\026\025\001\001" +
+    "\000\016\017\176\020\034\021\040\024\043\027\036\030" +
+    "\033\001\001\000\002\001\001\000\016\021\055\022\200" +
+    "\023\051\024\057\027\054\030\033\001\001\000\002\001" +
+    "\001\000\002\001\001\000\004\005\203\001\001\000\010" +
+    "\006\027\016\204\026\025\001\001\000\016\017\205\020" +
+    "\034\021\040\024\043\027\036\030\033\001\001\000\002" +
+    "\001\001\000\004\030\207\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\004\012\215\001\001\000\004\015\227\001" +
+    "\001\000\010\013\221\014\222\026\220\001\001\000\002" +
+    "\001\001\000\004\030\226\001\001\000\002\001\001\000" +
+    "\002\001\001\000\006\014\225\026\220\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\004\030\207\001\001\000\010\006\232\011\233" +
+    "\026\025\001\001\000\002\001\001\000\006\006\234\026" +
+    "\025\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001" });
+
+  /** Access to <code>reduce_goto</code> table. */
+  public short[][] reduce_table() {return _reduce_table;}
+
+  /** Instance of action encapsulation class. */
+  protected CUP$FlatParser$actions action_obj;
+
+  /** Action encapsulation object initializer. */
+  protected void init_actions()
+    {
+      action_obj = new CUP$FlatParser$actions(this);
+    }
+
+  /** Invoke a user supplied parse action. */
+  public java_cup.runtime.Symbol do_action(
+    int                        act_num,
+    java_cup.runtime.lr_parser parser,
+    java.util.Stack            stack,
+    int                        top)
+    throws java.lang.Exception
+  {
+    /* call code in generated class */
+    return action_obj.CUP$FlatParser$do_action(act_num, parser, stack, top);
+  }
+
+  /** Indicates start state. */
+  public int start_state() {return 0;}
+  /** Indicates start production. */
+  public int start_production() {return 0;}
+
+  /** <code>EOF</code> Symbol index. */
+  public int EOF_sym() {return 0;}
+
+  /** <code>error</code> Symbol index. */
+  public int error_sym() {return 1;}
+
+
+  /** User initialization code. */
+  public void user_init() throws java.lang.Exception
+    {
+ action_obj.ast = ast; 
+    }
+
+
+
+static {
+    if (!java.util.Arrays.equals(FlatSym.terminalNames, sym.terminalNames)) {
+        throw new IllegalStateException(
+            "terminals of cminusminus.flat.cup differ from cminusminus.cup");
+    }
+}
+
+/* the AST being built */
+FlatAst ast = new FlatAst();
+
+public void syntax_error(Symbol currToken) {
+    if (currToken.value == null) {
+        ErrMsg.fatal(0,0, "Syntax error at end of file");
+    }
+    else {
+        ErrMsg.fatal(((TokenVal)currToken.value).linenum,
+                     ((TokenVal)currToken.value).charnum,
+                     "Syntax error");
+    }
+}
+
+public void unrecovered_syntax_error(Symbol currToken) throws Exception {
+    done_parsing();
+    throw new Exception("Syntax error");
+}
+
+
+/** Cup generated class to encapsulate user supplied action code.*/
+@SuppressWarnings({"rawtypes", "unchecked", "unused"})
+class CUP$FlatParser$actions {
+
+
+FlatAst ast;
+
+  private final FlatParser parser;
+
+  /** Constructor */
+  CUP$FlatParser$actions(FlatParser parser) {
+    this.parser = parser;
+  }
+
+  /** Method 0 with the actual generated action code for actions 0 to 300. */
+  public final java_cup.runtime.Symbol CUP$FlatParser$do_action_part00000000(
+    int                        CUP$FlatParser$act_num,
+    java_cup.runtime.lr_parser CUP$FlatParser$parser,
+    java.util.Stack            CUP$FlatParser$stack,
+    int                        CUP$FlatParser$top)
+    throws java.lang.Exception
+    {
+      /* Symbol object for return from actions */
+      java_cup.runtime.Symbol CUP$FlatParser$result;
+
+      /* select the action based on the action number */
+      switch (CUP$FlatParser$act_num)
+        {
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 0: // $START ::= program EOF 
+            {
+              Object RESULT =null;
+		int start_valleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).left;
+		int start_valright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).right;
+		Integer start_val = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).value;
+		RESULT = start_val;
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("$START",0, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          /* ACCEPT */
+          CUP$FlatParser$parser.done_parsing();
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 1: // program ::= declList 
+            {
+              Integer RESULT =null;
+		int dleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer d = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.node(FlatAst.PROGRAM,
+                                     ast.endList(FlatAst.DECL_LIST, d));
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("program",0, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 2: // declList ::= declList decl 
+            {
+              Integer RESULT =null;
+		int dlleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).left;
+		int dlright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).right;
+		Integer dl = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer d = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 if (d >= 0) {
+                       ast.addToList(dl, d);
+                   }
+                   RESULT = dl;
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("declList",1, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 3: // declList ::= 
+            {
+              Integer RESULT =null;
+		 RESULT = ast.beginList();
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("declList",1, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 4: // decl ::= varDecl 
+            {
+              Integer RESULT =null;
+		int vleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int vright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer v = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = v;
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("decl",2, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 5: // decl ::= fnDecl 
+            {
+              Integer RESULT =null;
+		int fleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int fright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer f = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = f;
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("decl",2, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 6: // decl ::= structDecl 
+            {
+              Integer RESULT =null;
+		int sleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int sright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer s = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = s;
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("decl",2, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 7: // decl ::= error SEMICOLON 
+            {
+              Integer RESULT =null;
+		 RESULT = -1;
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("decl",2, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 8: // decl ::= error fnBody 
+            {
+              Integer RESULT =null;
+		 RESULT = -1;
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("decl",2, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 9: // varDeclList ::= varDeclList varDecl 
+            {
+              Integer RESULT =null;
+		int vdlleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).left;
+		int vdlright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).right;
+		Integer vdl = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).value;
+		int vdleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int vdright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer vd = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.addToList(vdl, vd);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("varDeclList",3, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 10: // varDeclList ::= varDeclList error SEMICOLON 
+            {
+              Integer RESULT =null;
+		int vdlleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).left;
+		int vdlright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).right;
+		Integer vdl = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).value;
+		 RESULT = vdl;
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("varDeclList",3, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 11: // varDeclList ::= 
+            {
+              Integer RESULT =null;
+		 RESULT = ast.beginList();
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("varDeclList",3, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 12: // varDecl ::= type id SEMICOLON 
+            {
+              Integer RESULT =null;
+		int tleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).right;
+		Integer t = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).value;
+		int ileft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).left;
+		int iright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).right;
+		Integer i = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).value;
+		 RESULT = ast.node(FlatAst.VAR_DECL, t, i);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("varDecl",4, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 13: // varDecl ::= STRUCT id id SEMICOLON 
+            {
+              Integer RESULT =null;
+		int tleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).right;
+		Integer t = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).value;
+		int ileft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).left;
+		int iright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).right;
+		Integer i = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).value;
+		 RESULT = ast.node(FlatAst.VAR_DECL,
+                                     ast.node(FlatAst.STRUCT_TYPE, t), i);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("varDecl",4, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-3)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 14: // fnDecl ::= type id formals fnBody 
+            {
+              Integer RESULT =null;
+		int tleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-3)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-3)).right;
+		Integer t = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-3)).value;
+		int ileft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).left;
+		int iright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).right;
+		Integer i = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).value;
+		int fleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).left;
+		int fright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).right;
+		Integer f = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).value;
+		int fbleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int fbright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer fb = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.node(FlatAst.FN_DECL, t, i, f, fb);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("fnDecl",5, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-3)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 15: // structDecl ::= STRUCT id LCURLY structBody RCURLY SEMICOLON 
+            {
+              Integer RESULT =null;
+		int ileft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-4)).left;
+		int iright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-4)).right;
+		Integer i = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-4)).value;
+		int sbleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).left;
+		int sbright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).right;
+		Integer sb = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).value;
+		 RESULT = ast.node(FlatAst.STRUCT_DECL, i,
+                                     ast.endList(FlatAst.DECL_LIST, sb));
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("structDecl",6, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-5)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 16: // structBody ::= structBody varDecl 
+            {
+              Integer RESULT =null;
+		int sbleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).left;
+		int sbright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).right;
+		Integer sb = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).value;
+		int vdleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int vdright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer vd = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.addToList(sb, vd);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("structBody",7, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 17: // structBody ::= varDecl 
+            {
+              Integer RESULT =null;
+		int vdleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int vdright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer vd = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.addToList(ast.beginList(), vd);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("structBody",7, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 18: // formals ::= LPAREN RPAREN 
+            {
+              Integer RESULT =null;
+		 RESULT = ast.node(FlatAst.FORMALS_LIST);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("formals",8, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 19: // formals ::= LPAREN formalsList RPAREN 
+            {
+              Integer RESULT =null;
+		int flleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).left;
+		int flright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).right;
+		Integer fl = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).value;
+		 RESULT = ast.endList(FlatAst.FORMALS_LIST, fl);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("formals",8, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 20: // formalsList ::= formalDecl 
+            {
+              Integer RESULT =null;
+		int fdleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int fdright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer fd = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.addToList(ast.beginList(), fd);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("formalsList",9, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 21: // formalsList ::= formalsList COMMA formalDecl 
+            {
+              Integer RESULT =null;
+		int flleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).left;
+		int flright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).right;
+		Integer fl = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).value;
+		int fdleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int fdright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer fd = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.addToList(fl, fd);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("formalsList",9, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 22: // formalDecl ::= type id 
+            {
+              Integer RESULT =null;
+		int tleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).right;
+		Integer t = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).value;
+		int ileft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int iright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer i = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.node(FlatAst.FORMAL_DECL, t, i);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("formalDecl",10, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 23: // fnBody ::= LCURLY varDeclList stmtList blockEnd 
+            {
+              Integer RESULT =null;
+		int vdlleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).left;
+		int vdlright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).right;
+		Integer vdl = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).value;
+		int slleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).left;
+		int slright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).right;
+		Integer sl = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).value;
+		 int s = ast.endList(FlatAst.STMT_LIST, sl);
+                   int d = ast.endList(FlatAst.DECL_LIST, vdl);
+                   RESULT = ast.node(FlatAst.FN_BODY, d, s);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("fnBody",11, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-3)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 24: // stmtList ::= stmtList stmt 
+            {
+              Integer RESULT =null;
+		int slleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).left;
+		int slright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).right;
+		Integer sl = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).value;
+		int sleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int sright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer s = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 if (s >= 0) {
+                       ast.addToList(sl, s);
+                   }
+                   RESULT = sl;
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("stmtList",12, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 25: // stmtList ::= 
+            {
+              Integer RESULT =null;
+		 RESULT = ast.beginList();
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("stmtList",12, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 26: // blockEnd ::= RCURLY 
+            {
+              Object RESULT =null;
+
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("blockEnd",13, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 27: // blockEnd ::= error RCURLY 
+            {
+              Object RESULT =null;
+
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("blockEnd",13, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 28: // stmt ::= assignExp SEMICOLON 
+            {
+              Integer RESULT =null;
+		int aeleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).left;
+		int aeright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).right;
+		Integer ae = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).value;
+		 RESULT = ast.node(FlatAst.ASSIGN_STMT, ae);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("stmt",14, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 29: // stmt ::= loc PLUSPLUS SEMICOLON 
+            {
+              Integer RESULT =null;
+		int lcleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).left;
+		int lcright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).right;
+		Integer lc = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).value;
+		 RESULT = ast.node(FlatAst.POST_INC, lc);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("stmt",14, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 30: // stmt ::= loc MINUSMINUS SEMICOLON 
+            {
+              Integer RESULT =null;
+		int lcleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).left;
+		int lcright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).right;
+		Integer lc = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).value;
+		 RESULT = ast.node(FlatAst.POST_DEC, lc);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("stmt",14, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 31: // stmt ::= CIN READ loc SEMICOLON 
+            {
+              Integer RESULT =null;
+		int lcleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).left;
+		int lcright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).right;
+		Integer lc = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).value;
+		 RESULT = ast.node(FlatAst.READ, lc);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("stmt",14, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-3)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 32: // stmt ::= COUT WRITE exp SEMICOLON 
+            {
+              Integer RESULT =null;
+		int eleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).right;
+		Integer e = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).value;
+		 RESULT = ast.node(FlatAst.WRITE, e);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("stmt",14, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-3)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 33: // stmt ::= IF LPAREN exp RPAREN LCURLY varDeclList stmtList blockEnd 
+            {
+              Integer RESULT =null;
+		int eleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-5)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-5)).right;
+		Integer e = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-5)).value;
+		int vdlleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).left;
+		int vdlright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).right;
+		Integer vdl = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).value;
+		int slleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).left;
+		int slright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).right;
+		Integer sl = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).value;
+		 int s = ast.endList(FlatAst.STMT_LIST, sl);
+                   int d = ast.endList(FlatAst.DECL_LIST, vdl);
+                   RESULT = ast.node(FlatAst.IF, e, d, s);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("stmt",14, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-7)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 34: // stmt ::= IF LPAREN exp RPAREN LCURLY varDeclList stmtList blockEnd ELSE LCURLY varDeclList stmtList blockEnd 
+            {
+              Integer RESULT =null;
+		int eleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-10)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-10)).right;
+		Integer e = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-10)).value;
+		int vdltleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-7)).left;
+		int vdltright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-7)).right;
+		Integer vdlt = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-7)).value;
+		int sltleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-6)).left;
+		int sltright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-6)).right;
+		Integer slt = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-6)).value;
+		int vdleleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).left;
+		int vdleright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).right;
+		Integer vdle = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).value;
+		int sleleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).left;
+		int sleright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).right;
+		Integer sle = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).value;
+		 int se = ast.endList(FlatAst.STMT_LIST, sle);
+                   int de = ast.endList(FlatAst.DECL_LIST, vdle);
+                   int st = ast.endList(FlatAst.STMT_LIST, slt);
+                   int dt = ast.endList(FlatAst.DECL_LIST, vdlt);
+                   RESULT = ast.node(FlatAst.IF_ELSE, e, dt, st, de, se);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("stmt",14, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-12)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 35: // stmt ::= WHILE LPAREN exp RPAREN LCURLY varDeclList stmtList blockEnd 
+            {
+              Integer RESULT =null;
+		int eleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-5)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-5)).right;
+		Integer e = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-5)).value;
+		int vdlleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).left;
+		int vdlright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).right;
+		Integer vdl = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).value;
+		int slleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).left;
+		int slright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).right;
+		Integer sl = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).value;
+		 int s = ast.endList(FlatAst.STMT_LIST, sl);
+                   int d = ast.endList(FlatAst.DECL_LIST, vdl);
+                   RESULT = ast.node(FlatAst.WHILE, e, d, s);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("stmt",14, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-7)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 36: // stmt ::= REPEAT LPAREN exp RPAREN LCURLY varDeclList stmtList blockEnd 
+            {
+              Integer RESULT =null;
+		int eleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-5)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-5)).right;
+		Integer e = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-5)).value;
+		int vdlleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).left;
+		int vdlright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).right;
+		Integer vdl = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).value;
+		int slleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).left;
+		int slright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).right;
+		Integer sl = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).value;
+		 int s = ast.endList(FlatAst.STMT_LIST, sl);
+                   int d = ast.endList(FlatAst.DECL_LIST, vdl);
+                   RESULT = ast.node(FlatAst.REPEAT, e, d, s);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("stmt",14, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-7)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 37: // stmt ::= RETURN exp SEMICOLON 
+            {
+              Integer RESULT =null;
+		int eleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).right;
+		Integer e = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).value;
+		 RESULT = ast.node(FlatAst.RETURN, e);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("stmt",14, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 38: // stmt ::= RETURN SEMICOLON 
+            {
+              Integer RESULT =null;
+		 RESULT = ast.node(FlatAst.RETURN);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("stmt",14, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 39: // stmt ::= fncall SEMICOLON 
+            {
+              Integer RESULT =null;
+		int fleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).left;
+		int fright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).right;
+		Integer f = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).value;
+		 RESULT = ast.node(FlatAst.CALL_STMT, f);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("stmt",14, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 40: // stmt ::= error SEMICOLON 
+            {
+              Integer RESULT =null;
+		 RESULT = -1;
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("stmt",14, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 41: // assignExp ::= loc ASSIGN exp 
+            {
+              Integer RESULT =null;
+		int lcleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).left;
+		int lcright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).right;
+		Integer lc = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer e = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.node(FlatAst.ASSIGN, lc, e);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("assignExp",15, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 42: // exp ::= assignExp 
+            {
+              Integer RESULT =null;
+		int aeleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int aeright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer ae = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ae;
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("exp",16, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 43: // exp ::= exp PLUS exp 
+            {
+              Integer RESULT =null;
+		int e1left = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).left;
+		int e1right = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).right;
+		Integer e1 = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).value;
+		int e2left = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int e2right = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer e2 = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.node(FlatAst.PLUS, e1, e2);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("exp",16, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 44: // exp ::= exp MINUS exp 
+            {
+              Integer RESULT =null;
+		int e1left = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).left;
+		int e1right = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).right;
+		Integer e1 = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).value;
+		int e2left = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int e2right = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer e2 = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.node(FlatAst.MINUS, e1, e2);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("exp",16, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 45: // exp ::= exp TIMES exp 
+            {
+              Integer RESULT =null;
+		int e1left = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).left;
+		int e1right = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).right;
+		Integer e1 = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).value;
+		int e2left = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int e2right = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer e2 = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.node(FlatAst.TIMES, e1, e2);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("exp",16, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 46: // exp ::= exp DIVIDE exp 
+            {
+              Integer RESULT =null;
+		int e1left = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).left;
+		int e1right = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).right;
+		Integer e1 = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).value;
+		int e2left = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int e2right = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer e2 = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.node(FlatAst.DIVIDE, e1, e2);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("exp",16, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 47: // exp ::= NOT exp 
+            {
+              Integer RESULT =null;
+		int eleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer e = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.node(FlatAst.NOT, e);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("exp",16, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 48: // exp ::= exp AND exp 
+            {
+              Integer RESULT =null;
+		int e1left = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).left;
+		int e1right = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).right;
+		Integer e1 = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).value;
+		int e2left = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int e2right = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer e2 = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.node(FlatAst.AND, e1, e2);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("exp",16, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 49: // exp ::= exp OR exp 
+            {
+              Integer RESULT =null;
+		int e1left = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).left;
+		int e1right = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).right;
+		Integer e1 = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).value;
+		int e2left = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int e2right = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer e2 = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.node(FlatAst.OR, e1, e2);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("exp",16, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 50: // exp ::= exp EQUALS exp 
+            {
+              Integer RESULT =null;
+		int e1left = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).left;
+		int e1right = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).right;
+		Integer e1 = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).value;
+		int e2left = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int e2right = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer e2 = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.node(FlatAst.EQUALS, e1, e2);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("exp",16, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 51: // exp ::= exp NOTEQUALS exp 
+            {
+              Integer RESULT =null;
+		int e1left = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).left;
+		int e1right = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).right;
+		Integer e1 = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).value;
+		int e2left = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int e2right = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer e2 = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.node(FlatAst.NOT_EQUALS, e1, e2);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("exp",16, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 52: // exp ::= exp LESS exp 
+            {
+              Integer RESULT =null;
+		int e1left = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).left;
+		int e1right = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).right;
+		Integer e1 = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).value;
+		int e2left = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int e2right = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer e2 = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.node(FlatAst.LESS, e1, e2);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("exp",16, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 53: // exp ::= exp GREATER exp 
+            {
+              Integer RESULT =null;
+		int e1left = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).left;
+		int e1right = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).right;
+		Integer e1 = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).value;
+		int e2left = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int e2right = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer e2 = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.node(FlatAst.GREATER, e1, e2);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("exp",16, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 54: // exp ::= exp LESSEQ exp 
+            {
+              Integer RESULT =null;
+		int e1left = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).left;
+		int e1right = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).right;
+		Integer e1 = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).value;
+		int e2left = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int e2right = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer e2 = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.node(FlatAst.LESS_EQ, e1, e2);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("exp",16, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 55: // exp ::= exp GREATEREQ exp 
+            {
+              Integer RESULT =null;
+		int e1left = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).left;
+		int e1right = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).right;
+		Integer e1 = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).value;
+		int e2left = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int e2right = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer e2 = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.node(FlatAst.GREATER_EQ, e1, e2);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("exp",16, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 56: // exp ::= MINUS exp 
+            {
+              Integer RESULT =null;
+		int eleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer e = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.node(FlatAst.UNARY_MINUS, e);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("exp",16, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 57: // exp ::= term 
+            {
+              Integer RESULT =null;
+		int tleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer t = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = t;
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("exp",16, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 58: // term ::= loc 
+            {
+              Integer RESULT =null;
+		int lcleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int lcright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer lc = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = lc;
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("term",17, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 59: // term ::= INTLITERAL 
+            {
+              Integer RESULT =null;
+		int ileft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int iright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		IntLitTokenVal i = (IntLitTokenVal)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.intLit(i);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("term",17, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 60: // term ::= STRINGLITERAL 
+            {
+              Integer RESULT =null;
+		int sleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int sright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		StrLitTokenVal s = (StrLitTokenVal)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.strLit(s);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("term",17, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 61: // term ::= TRUE 
+            {
+              Integer RESULT =null;
+		int tleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		TokenVal t = (TokenVal)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.leaf(FlatAst.TRUE, t, 0);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("term",17, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 62: // term ::= FALSE 
+            {
+              Integer RESULT =null;
+		int fleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int fright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		TokenVal f = (TokenVal)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.leaf(FlatAst.FALSE, f, 0);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("term",17, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 63: // term ::= LPAREN exp RPAREN 
+            {
+              Integer RESULT =null;
+		int eleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).right;
+		Integer e = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).value;
+		 RESULT = e;
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("term",17, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 64: // term ::= fncall 
+            {
+              Integer RESULT =null;
+		int fleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int fright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer f = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = f;
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("term",17, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 65: // fncall ::= id LPAREN RPAREN 
+            {
+              Integer RESULT =null;
+		int ileft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).left;
+		int iright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).right;
+		Integer i = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).value;
+		 RESULT = ast.node(FlatAst.CALL, i,
+                                     ast.node(FlatAst.EXP_LIST));
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("fncall",18, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 66: // fncall ::= id LPAREN actualList RPAREN 
+            {
+              Integer RESULT =null;
+		int ileft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-3)).left;
+		int iright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-3)).right;
+		Integer i = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-3)).value;
+		int alleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).left;
+		int alright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).right;
+		Integer al = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-1)).value;
+		 RESULT = ast.node(FlatAst.CALL, i,
+                                     ast.endList(FlatAst.EXP_LIST, al));
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("fncall",18, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-3)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 67: // actualList ::= exp 
+            {
+              Integer RESULT =null;
+		int eleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer e = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.addToList(ast.beginList(), e);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("actualList",19, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 68: // actualList ::= actualList COMMA exp 
+            {
+              Integer RESULT =null;
+		int alleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).left;
+		int alright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).right;
+		Integer al = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer e = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.addToList(al, e);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("actualList",19, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 69: // type ::= INT 
+            {
+              Integer RESULT =null;
+		 RESULT = ast.node(FlatAst.INT_TYPE);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("type",20, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 70: // type ::= BOOL 
+            {
+              Integer RESULT =null;
+		 RESULT = ast.node(FlatAst.BOOL_TYPE);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("type",20, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 71: // type ::= VOID 
+            {
+              Integer RESULT =null;
+		 RESULT = ast.node(FlatAst.VOID_TYPE);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("type",20, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 72: // loc ::= id 
+            {
+              Integer RESULT =null;
+		int ileft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int iright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer i = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = i;
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("loc",21, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 73: // loc ::= loc DOT id 
+            {
+              Integer RESULT =null;
+		int lcleft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).left;
+		int lcright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).right;
+		Integer lc = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)).value;
+		int ileft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int iright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		Integer i = (Integer)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.node(FlatAst.DOT_ACCESS, lc, i);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("loc",21, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.elementAt(CUP$FlatParser$top-2)), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 74: // id ::= ID 
+            {
+              Integer RESULT =null;
+		int ileft = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).left;
+		int iright = ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()).right;
+		IdTokenVal i = (IdTokenVal)((java_cup.runtime.Symbol) CUP$FlatParser$stack.peek()).value;
+		 RESULT = ast.id(i);
+                
+              CUP$FlatParser$result = parser.getSymbolFactory().newSymbol("id",22, ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$FlatParser$stack.peek()), RESULT);
+            }
+          return CUP$FlatParser$result;
+
+          /* . . . . . .*/
+          default:
+            throw new Exception(
+               "Invalid action number "+CUP$FlatParser$act_num+"found in internal parse table");
+
+        }
+    } /* end of method */
+
+  /** Method splitting the generated action code into several parts. */
+  public final java_cup.runtime.Symbol CUP$FlatParser$do_action(
+    int                        CUP$FlatParser$act_num,
+    java_cup.runtime.lr_parser CUP$FlatParser$parser,
+    java.util.Stack            CUP$FlatParser$stack,
+    int                        CUP$FlatParser$top)
+    throws java.lang.Exception
+    {
+              return CUP$FlatParser$do_action_part00000000(
+                               CUP$FlatParser$act_num,
+                               CUP$FlatParser$parser,
+                               CUP$FlatParser$stack,
+                               CUP$FlatParser$top);
+    }
+}
+
+}
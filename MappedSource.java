@@ -0,0 +1,147 @@
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Arrays;
+
+/**
+ * Source text read by memory-mapping the source file.
+ *
+ * A FileReader makes a read system call and decodes a few KB at a time.
+ * For a large source it is cheaper to map the whole file, decode it in one
+ * pass (ASCII, which is nearly all C-- source, is just widened; anything
+ * else is decoded as UTF-8) and hand the scanner the resulting char array.
+ * The text is a Reader for the scanner and a CharSequence for anything
+ * else that wants it; neither copies it.
+ *
+ * Files smaller than MIN_MAP_SIZE are not worth the cost of a mapping and
+ * are read with an InputStreamReader, as is the standard input (file name
+ * "-").  Every source is decoded as UTF-8, so the same bytes read the same
+ * whatever the file's size and the platform's default charset.
+ */
+public class MappedSource extends Reader implements CharSequence {
+	public static final int MIN_MAP_SIZE = 64 * 1024;
+
+	private final char[] text;
+	private final int length;
+	private int next;  // index of the next char read
+
+	private MappedSource(char[] text, int length) {
+		this.text = text;
+		this.length = length;
+	}
+
+	/**
+	 * Open a source file, mapping it if it is large enough.
+	 * @param filename path to the source file, or - for the standard input
+	 * @return a reader of the source text
+	 */
+	public static Reader open(String filename) throws IOException {
+		if (filename.equals("-")) {
+			return new InputStreamReader(System.in, StandardCharsets.UTF_8);
+		}
+		Path path = Paths.get(filename);
+		FileChannel channel;
+		try {
+			channel = FileChannel.open(path, StandardOpenOption.READ);
+		} catch (NoSuchFileException e) {
+			throw new FileNotFoundException(filename);
+		}
+		try {
+			long size = channel.size();
+			if (size < MIN_MAP_SIZE || size > Integer.MAX_VALUE) {
+				return new InputStreamReader(new FileInputStream(filename),
+				                             StandardCharsets.UTF_8);
+			}
+			MappedByteBuffer bytes =
+				channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			return decode(bytes);
+		} finally {
+			channel.close();  // the mapping stays valid
+		}
+	}
+
+	/**
+	 * Decode bytes: ASCII directly, anything from the first non-ASCII byte
+	 * on as UTF-8 (with malformed input replaced, as InputStreamReader does).
+	 */
+	static MappedSource decode(ByteBuffer bytes) throws IOException {
+		int n = bytes.remaining();
+		int base = bytes.position();
+		char[] chars = new char[n];
+		int i = 0;
+		while (i < n) {
+			byte b = bytes.get(base + i);
+			if (b < 0) {
+				break;
+			}
+			chars[i++] = (char)b;
+		}
+		if (i == n) {
+			return new MappedSource(chars, n);
+		}
+
+		CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+			.onMalformedInput(CodingErrorAction.REPLACE)
+			.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		bytes.position(base + i);
+		CharBuffer rest = decoder.decode(bytes);
+		int length = i + rest.remaining();
+		if (length > chars.length) {
+			chars = Arrays.copyOf(chars, length);
+		}
+		rest.get(chars, i, rest.remaining());
+		return new MappedSource(chars, length);
+	}
+
+	public int read(char[] cbuf, int off, int len) {
+		if (len == 0) {
+			return 0;
+		}
+		if (next >= length) {
+			return -1;
+		}
+		int n = Math.min(len, length - next);
+		System.arraycopy(text, next, cbuf, off, n);
+		next += n;
+		return n;
+	}
+
+	public int read() {
+		return (next < length) ? text[next++] : -1;
+	}
+
+	public boolean ready() {
+		return true;
+	}
+
+	public void close() {
+	}
+
+	public int length() {
+		return length;
+	}
+
+	public char charAt(int index) {
+		if (index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException("index " + index);
+		}
+		return text[index];
+	}
+
+	public CharSequence subSequence(int start, int end) {
+		if (start < 0 || end > length || start > end) {
+			throw new IndexOutOfBoundsException(start + ", " + end);
+		}
+		return new String(text, start, end - start);
+	}
+
+	public String toString() {
+		return new String(text, 0, length);
+	}
+}
@@ -0,0 +1,61 @@
+/**
+ * Name
+ *
+ * An identifier, interned by a NamePool.  A pool holds one Name per
+ * distinct identifier, so names from the same pool are equal only if
+ * they are the same object, and a symbol table can key on them without
+ * comparing text.  Each Name caches its hash code (the same as its
+ * text's) and has a dense id: the names of a pool are numbered 0, 1, 2,
+ * ... in the order they were first seen.
+ *
+ * Names from different pools must not be mixed in one symbol table.
+ */
+public final class Name {
+    private final String text;
+    private final int hash;
+    private final int id;
+
+    Name(String text, int hash, int id) {
+        this.text = text;
+        this.hash = hash;
+        this.id = id;
+    }
+
+    /**
+     * A name that belongs to no pool (id -1), for IdNodes that are made
+     * up by the compiler and never declared or looked up.
+     */
+    Name(String text) {
+        this(text, text.hashCode(), -1);
+    }
+
+    /**
+     * Return this name's number in its pool, or -1.
+     */
+    public int id() {
+        return id;
+    }
+
+    public int hashCode() {
+        return hash;
+    }
+
+    public String toString() {
+        return text;
+    }
+
+    /**
+     * Return true if this name's text is len chars of buf starting at off.
+     */
+    boolean matches(char[] buf, int off, int len) {
+        if (text.length() != len) {
+            return false;
+        }
+        for (int i = 0; i < len; i++) {
+            if (text.charAt(i) != buf[off + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
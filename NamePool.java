@@ -0,0 +1,90 @@
+/**
+ * NamePool
+ *
+ * The Names of one compilation.  The scanner interns each identifier
+ * straight from its buffer: an identifier seen before is found by hashing
+ * and comparing the chars in place, so only the first occurrence of each
+ * identifier allocates a String.
+ *
+ * The table is open-addressed with linear probing and kept at most half
+ * full.  A pool is not thread-safe; it is used by the thread that scans.
+ */
+public class NamePool {
+    private Name[] table = new Name[256];
+    private Name[] byId = new Name[128];
+    private int size;
+
+    /**
+     * Return the Name for len chars of buf starting at off.
+     */
+    public Name intern(char[] buf, int off, int len) {
+        int h = 0;
+        for (int i = 0; i < len; i++) {
+            h = 31 * h + buf[off + i];
+        }
+        int mask = table.length - 1;
+        int i = spread(h) & mask;
+        Name name;
+        while ((name = table[i]) != null) {
+            if (name.hashCode() == h && name.matches(buf, off, len)) {
+                return name;
+            }
+            i = (i + 1) & mask;
+        }
+        name = new Name(new String(buf, off, len), h, size);
+        table[i] = name;
+        if (size == byId.length) {
+            byId = java.util.Arrays.copyOf(byId, size * 2);
+        }
+        byId[size] = name;
+        if (++size * 2 > table.length) {
+            grow();
+        }
+        return name;
+    }
+
+    /**
+     * Return the Name for the given text.
+     */
+    public Name intern(String text) {
+        return intern(text.toCharArray(), 0, text.length());
+    }
+
+    /**
+     * Return the Name with the given id.
+     */
+    public Name get(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("name id " + id);
+        }
+        return byId[id];
+    }
+
+    /**
+     * Return the number of distinct names; their ids are 0 to size() - 1.
+     */
+    public int size() {
+        return size;
+    }
+
+    private void grow() {
+        Name[] old = table;
+        table = new Name[old.length * 2];
+        int mask = table.length - 1;
+        for (Name name : old) {
+            if (name != null) {
+                int i = spread(name.hashCode()) & mask;
+                while (table[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                table[i] = name;
+            }
+        }
+    }
+
+    // String hash codes of similar identifiers differ mostly in the low
+    // bits; mix in the high ones before masking
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+}
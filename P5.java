@@ -6,16 +6,38 @@ import java_cup.runtime.*;
  * Main program to test the parser.
  *
  * There should be 2 command-line arguments:
- *    1. the file to be parsed
+ *    1. the file to be parsed (- for the standard input)
  *    2. the output file into which the AST built by the parser should be
  *       unparsed
+ * They may be preceded by the options
+ *    -j N        type check the program's functions on N threads
+ *    -maxerrs N  stop after N errors
+ *    -buffer     scan the whole file before parsing (see TokenBuffer)
+ *    -pipeline   analyze each declaration as soon as it is parsed (see
+ *                DeclPipeline); -j then sets the type checking threads
+ *    -flat       build a FlatAst rather than a tree of ASTnodes, and
+ *                analyze it on one thread (see FlatAnalysis)
  * The program opens the two files, creates a scanner and a parser, and
  * calls the parser.  If the parse is successful, the AST is unparsed.
+ * With -Dcmm.stats=FILE, the time spent in each phase is reported (see
+ * PhaseStats); Flight Recorder recordings include the compiler's events
+ * (see CompilerEvents).
  */
 public class P5 {
-	FileReader inFile;
+	Reader inFile;
 	private PrintWriter outFile;
 	private static PrintStream outStream = System.err;
+	private PrintStream errStream = outStream;
+	private Yylex scanner;
+	private int parallelism = 1;
+	private int maxErrors = 0;
+	private boolean bufferTokens = false;
+	private boolean pipelined = false;
+	private boolean flat = false;
+	private Diagnostics diagnostics;
+	private String inName = "-";
+	private PhaseStats stats;
+	private ProgramNode program;
 	
 	public static final int RESULT_CORRECT = 0;
 	public static final int RESULT_SYNTAX_ERROR = 1;
@@ -34,19 +56,52 @@ public class P5 {
 	 * is the command line to use. It shouldn't be invoked from
 	 * outside the class (hence the private constructor) because
 	 * it 
-	 * @param args command line args array for [<infile> <outfile>]
+	 * @param args command line args array for [options] <infile> <outfile>
 	 */
 	private P5(String[] args){
     	//Parse arguments    	
-        if (args.length < 2) {
+		int first = 0;
+		while (args.length - first > 2 && args[first].startsWith("-")) {
+			String option = args[first];
+			if (option.equals("-buffer")) {
+				setBufferTokens(true);
+				first++;
+				continue;
+			}
+			if (option.equals("-pipeline")) {
+				setPipelined(true);
+				first++;
+				continue;
+			}
+			if (option.equals("-flat")) {
+				setFlat(true);
+				first++;
+				continue;
+			}
+			int value = 0;
+			try {
+				value = Integer.parseInt(args[first + 1]);
+			} catch (NumberFormatException e) {
+				pukeAndDie(option + " must be followed by a number");
+			}
+			if (option.equals("-j")) {
+				setParallelism(value);
+			} else if (option.equals("-maxerrs")) {
+				setMaxErrors(value);
+			} else {
+				pukeAndDie("unknown option " + option);
+			}
+			first += 2;
+		}
+        if (args.length - first < 2) {
         	String msg = "please supply name of file to be parsed"
         			+ "and name of file for unparsed version.";
         	pukeAndDie(msg);
         }
 		
 		try{
-			setInfile(args[0]);
-			setOutfile(args[1]);
+			setInfile(args[first]);
+			setOutfile(args[first + 1]);
 		} catch(BadInfileException e){
             pukeAndDie(e.getMessage());			
 		} catch(BadOutfileException e){
@@ -55,13 +110,15 @@ public class P5 {
 	}
 
 	/**
-	 * Source code file path 
-	 * @param filename path to source file
+	 * Source code file path; large files are memory-mapped (see
+	 * {@link MappedSource})
+	 * @param filename path to source file, or - for the standard input
 	 */
 	public void setInfile(String filename) throws BadInfileException{
+        inName = filename;
         try {
-            inFile = new FileReader(filename);
-        } catch (FileNotFoundException ex) {
+            inFile = MappedSource.open(filename);
+        } catch (IOException ex) {
         	throw new BadInfileException(ex, filename);
         }
 	}
@@ -78,6 +135,118 @@ public class P5 {
         }
 	}
 	
+	/**
+	 * Source code from a reader, e.g. for sources that are not files
+	 * @param in source code
+	 */
+	public void setInput(Reader in){
+		inFile = in;
+	}
+
+	/**
+	 * Unparsed output to a writer
+	 * @param out destination for the unparsed program
+	 */
+	public void setOutput(Writer out){
+		outFile = new PrintWriter(out);
+	}
+	
+	/**
+	 * Stream the warnings and errors are printed to; System.err
+	 * by default
+	 * @param err destination for diagnostics
+	 */
+	public void setErrStream(PrintStream err){
+		errStream = err;
+	}
+	
+	/**
+	 * Number of threads to type check functions on; 1 (the default)
+	 * type checks them sequentially
+	 * @param parallelism number of type checking threads
+	 */
+	public void setParallelism(int parallelism){
+		this.parallelism = parallelism;
+	}
+	
+	/**
+	 * Number of errors after which analysis stops; 0 (the default)
+	 * means no limit
+	 * @param maxErrors error cap
+	 */
+	public void setMaxErrors(int maxErrors){
+		this.maxErrors = maxErrors;
+	}
+	
+	/**
+	 * Whether to scan the whole input into a {@link TokenBuffer} before
+	 * parsing it, rather than scan a token at a time as the parser asks.
+	 * @param bufferTokens true to buffer the tokens
+	 */
+	public void setBufferTokens(boolean bufferTokens){
+		this.bufferTokens = bufferTokens;
+	}
+	
+	/**
+	 * Whether to name analyze each top-level declaration as soon as it
+	 * has been parsed, and type check each function on a worker thread as
+	 * soon as it has been name analyzed, rather than run the phases one
+	 * after another.  The output is the same either way.
+	 * @param pipelined true to overlap the phases
+	 */
+	public void setPipelined(boolean pipelined){
+		this.pipelined = pipelined;
+	}
+	
+	/**
+	 * Whether to parse into a {@link FlatAst} and analyze that, rather
+	 * than build a tree of ASTnodes.  The output is the same either way;
+	 * the parallelism and pipelining settings are then ignored, and
+	 * {@link getProgram} returns null.
+	 * @param flat true to use the flat AST
+	 */
+	public void setFlat(boolean flat){
+		this.flat = flat;
+	}
+	
+	/**
+	 * The warnings and errors of the last call to {@link process}.
+	 * They have already been printed, so this is only useful for
+	 * counting them.
+	 * @return diagnostics of the last compilation, or null
+	 */
+	public Diagnostics getDiagnostics(){
+		return diagnostics;
+	}
+	
+	/**
+	 * The AST of the last call to {@link process}.  After syntax errors
+	 * it is partial: the declarations and statements in error are left
+	 * out.
+	 * @return AST of the last compilation, or null if the parse could
+	 * not recover from a syntax error
+	 */
+	public ProgramNode getProgram(){
+		return program;
+	}
+	
+	/**
+	 * Times and counts of the last call to {@link process}; only
+	 * collected if PhaseStats.ENABLED
+	 * @return stats of the last compilation, or null
+	 */
+	public PhaseStats getStats(){
+		return stats;
+	}
+	
+	/**
+	 * @return number of source lines scanned by the last call to
+	 * {@link process}
+	 */
+	public int getLineCount(){
+		return (scanner == null) ? 0 : scanner.lineCount();
+	}
+	
 	/**
 	 * Perform cleanup at the end of parsing. This should be called
 	 * after both good and bad input so that the files are all in a
@@ -122,36 +291,169 @@ public class P5 {
 	
 	/** the parser will return a Symbol whose value
 	 * field is the translation of the root nonterminal
-     * (i.e., of the nonterminal "program")
-	 * @return root of the CFG
+     * (i.e., of the nonterminal "program").  Syntax errors are reported
+	 * to the diagnostics as the parser recovers from them, and the tree
+	 * is then partial.
+	 * @param pipeline if not null, gets each top-level declaration as
+	 * soon as it has been parsed
+	 * @return root of the CFG, or null if the parse could not recover
 	 */
-	private Symbol parseCFG(){
+	private Symbol parseCFG(DeclPipeline pipeline){
+		// ordered by position, so the same whether or not the tokens
+		// are buffered (see Diagnostics.forkByPosition)
+		Diagnostics parseDiagnostics = (pipeline != null)
+			? pipeline.parseDiagnostics() : diagnostics.forkByPosition();
+		Diagnostics saved = ErrMsg.attach(parseDiagnostics);
 		try {
-	        parser P = new parser(new Yylex(inFile));
+	        scanner = new Yylex(inFile);
+	        Scanner tokens = bufferTokens ? scanner.scanAll().scanner()
+	                                      : scanner;
+	        if (PhaseStats.ENABLED) tokens = stats.countTokens(tokens);
+	        parser P = new parser(tokens);
+	        P.pipeline = pipeline;
 	        return P.parse();
+		} catch (TooManyErrorsException e){
+			throw e;
 		} catch (Exception e){
 			return null;
+		} finally {
+			ErrMsg.attach(saved);
+			if (pipeline == null) {
+				diagnostics.join(parseDiagnostics);
+			}
 		}
 	}
 	
+	/**
+	 * Parse the input into a FlatAst, reporting syntax errors to the
+	 * diagnostics as the parser recovers from them.
+	 * @return the AST, or null if the parse could not recover
+	 */
+	private FlatAst parseFlat(){
+		Diagnostics parseDiagnostics = diagnostics.forkByPosition();
+		Diagnostics saved = ErrMsg.attach(parseDiagnostics);
+		try {
+	        scanner = new Yylex(inFile);
+	        Scanner tokens = bufferTokens ? scanner.scanAll().scanner()
+	                                      : scanner;
+	        if (PhaseStats.ENABLED) tokens = stats.countTokens(tokens);
+	        FlatParser P = new FlatParser(tokens);
+	        P.parse();
+	        return P.ast;
+		} catch (TooManyErrorsException e){
+			throw e;
+		} catch (Exception e){
+			return null;
+		} finally {
+			ErrMsg.attach(saved);
+			diagnostics.join(parseDiagnostics);
+		}
+	}
+	
+	/**
+	 * Compile the input. All warnings and errors are collected in a
+	 * new Diagnostics and printed in one go at the end.
+	 * @return one of the RESULT_ codes
+	 */
 	public int process(){
-		Symbol cfgRoot = parseCFG();
-		
-		ProgramNode astRoot = (ProgramNode)cfgRoot.value; 
-		if (ErrMsg.getErr()) {  
-			return P5.RESULT_SYNTAX_ERROR;
+		if (!PhaseStats.ENABLED) {
+			return compile();
+		}
+		stats = new PhaseStats(inName);
+		PhaseStats saved = PhaseStats.attach(stats);
+		int result = RESULT_OTHER_ERROR;
+		try {
+			result = compile();
+			return result;
+		} finally {
+			stats.finish(result, diagnostics, getLineCount());
+			PhaseStats.attach(saved);
+			PhaseStats.report(stats);
+		}
+	}
+	
+	private int compile(){
+		diagnostics = new Diagnostics(maxErrors);
+		Diagnostics saved = ErrMsg.attach(diagnostics);
+		// result if we have to stop because of too many errors
+		int stopResult = P5.RESULT_SYNTAX_ERROR;
+		PhaseEvent phase = PhaseEvent.start("parse", inName);
+		DeclPipeline pipeline = null;
+		try {
+			if (PhaseStats.ENABLED) stats.begin(PhaseStats.PARSE);
+			if (pipelined && !flat) {
+				pipeline = new DeclPipeline(diagnostics, parallelism);
+			}
+			program = null;
+			if (flat) {
+				FlatAst ast = parseFlat();
+				if (ast == null || diagnostics.hasErrors()) {
+					return P5.RESULT_SYNTAX_ERROR;
+				}
+				stopResult = P5.RESULT_TYPE_ERROR;
+				FlatAnalysis analysis = new FlatAnalysis(ast);
+				
+				phase = phase.next("nameAnalysis");
+				if (PhaseStats.ENABLED) stats.begin(PhaseStats.NAME_ANALYSIS);
+				analysis.nameAnalysis();
+				
+				phase = phase.next("typeCheck");
+				if (PhaseStats.ENABLED) stats.begin(PhaseStats.TYPE_CHECK);
+				analysis.typeCheck();
+				
+				phase = phase.next("unparse");
+				if (PhaseStats.ENABLED) stats.begin(PhaseStats.UNPARSE);
+				ast.unparse(outFile, analysis);
+				return P5.RESULT_CORRECT;
+			}
+			Symbol cfgRoot = parseCFG(pipeline);
+			if (cfgRoot != null) {
+				program = (ProgramNode)cfgRoot.value;
+			}
+			boolean syntaxErrors = (pipeline != null)
+				? pipeline.hasSyntaxErrors() : diagnostics.hasErrors();
+			if (program == null || syntaxErrors) {
+				return P5.RESULT_SYNTAX_ERROR;
+			}
+			ProgramNode astRoot = program;
+			stopResult = P5.RESULT_TYPE_ERROR;
+			
+			if (pipeline == null) {
+				phase = phase.next("nameAnalysis");
+				if (PhaseStats.ENABLED) stats.begin(PhaseStats.NAME_ANALYSIS);
+				astRoot.nameAnalysis();  // perform name analysis
+				
+				phase = phase.next("typeCheck");
+				if (PhaseStats.ENABLED) stats.begin(PhaseStats.TYPE_CHECK);
+				astRoot.typeCheck(parallelism);
+			} else {
+				// the rest of the type checks
+				phase = phase.next("typeCheck");
+				if (PhaseStats.ENABLED) stats.begin(PhaseStats.TYPE_CHECK);
+				pipeline.finish();
+			}
+			
+			phase = phase.next("unparse");
+			if (PhaseStats.ENABLED) stats.begin(PhaseStats.UNPARSE);
+			astRoot.unparse(outFile, 0);
+			return P5.RESULT_CORRECT;
+		} catch (TooManyErrorsException e){
+			if (pipeline != null) pipeline.close();
+			diagnostics.flush(errStream);
+			errStream.println(e.getMessage());
+			return stopResult;
+		} finally {
+			if (pipeline != null) pipeline.close();
+			phase.commit();
+			if (PhaseStats.ENABLED) stats.end();
+			diagnostics.flush(errStream);
+			ErrMsg.attach(saved);
 		}
-		
-		astRoot.nameAnalysis();  // perform name analysis
-		
-		astRoot.typeCheck();
-		
-		astRoot.unparse(outFile, 0);
-		return P5.RESULT_CORRECT;
 	}
 	
 	public void run(){
 		int resultCode = process();
+		if (PhaseStats.ENABLED) errStream.print(stats.summary());
 		if (resultCode == RESULT_CORRECT){
 			cleanup();
 			return;
@@ -0,0 +1,307 @@
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Batch compiler: compiles many C-- files in one JVM.
+ *
+ * There should be 1 or 2 command-line arguments:
+ *    1. a manifest file, each line of which names a source file and the
+ *       file its unparsed version should be written to, or a directory,
+ *       every .cmm file of which is compiled
+ *    2. for a directory, the directory the unparsed versions (named
+ *       after the sources, with .out instead of .cmm) are written to;
+ *       the source directory if not given
+ * They may be preceded by the options
+ *    -j N        compile N files at a time (default: number of cores)
+ *    -maxerrs N  stop compiling a file after N errors
+ *
+ * Each file is compiled by its own P5, on a pool of worker threads.  The
+ * program prints one line per file with its P5.RESULT_ code, followed by
+ * the file's warnings and errors, and finally the number of files and
+ * lines compiled per second.  A failing file does not stop the others.
+ * With -Dcmm.stats=FILE, the phase times of each file are written to FILE
+ * and their totals printed at the end (see PhaseStats).
+ */
+public class P5Batch {
+	private int threads = Runtime.getRuntime().availableProcessors();
+	private int maxErrors = 0;
+	private PrintStream out = System.out;
+	private PhaseStats totals = new PhaseStats("total");
+
+	/**
+	 * One source file to compile and the outcome of compiling it.
+	 */
+	public static class Job {
+		private String infile;
+		private String outfile;
+		private int result = P5.RESULT_OTHER_ERROR;
+		private int lines;
+		private String messages = "";
+		private String failure;  // why it cannot be compiled at all
+
+		public Job(String infile, String outfile) {
+			this.infile = infile;
+			this.outfile = outfile;
+		}
+
+		/**
+		 * A job that fails without being compiled.
+		 * @param failure the message it fails with
+		 */
+		static Job failed(String infile, String failure) {
+			Job job = new Job(infile, null);
+			job.failure = failure;
+			return job;
+		}
+
+		public String getInfile() {
+			return infile;
+		}
+
+		public String getOutfile() {
+			return outfile;
+		}
+
+		/**
+		 * @return one of the P5.RESULT_ codes
+		 */
+		public int getResult() {
+			return result;
+		}
+
+		/**
+		 * @return number of source lines scanned
+		 */
+		public int getLines() {
+			return lines;
+		}
+
+		/**
+		 * @return the warnings and errors printed for this file
+		 */
+		public String getMessages() {
+			return messages;
+		}
+	}
+
+	/**
+	 * Number of files to compile at a time
+	 * @param threads number of worker threads
+	 */
+	public void setThreads(int threads) {
+		this.threads = threads;
+	}
+
+	/**
+	 * Number of errors after which each file's analysis stops; 0 (the
+	 * default) means no limit
+	 * @param maxErrors error cap
+	 */
+	public void setMaxErrors(int maxErrors) {
+		this.maxErrors = maxErrors;
+	}
+
+	/**
+	 * Compile every job on the worker pool and fill in its result. Jobs
+	 * are reported to the output stream as they finish.
+	 * @param jobs files to compile
+	 */
+	public void compileAll(List<Job> jobs) throws InterruptedException {
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<?>> futures = new ArrayList<Future<?>>();
+			for (final Job job : jobs) {
+				futures.add(pool.submit(new Runnable() {
+					public void run() {
+						try {
+							compile(job);
+						} finally {
+							report(job);
+						}
+					}
+				}));
+			}
+			for (Future<?> f : futures) {
+				try {
+					f.get();
+				} catch (ExecutionException e) {
+					// compile catches everything, so only report can get
+					// here; it is a bug, but it only affects one job
+					out.println("unexpected " + e.getCause());
+				}
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Compile a single job on the calling thread.
+	 */
+	public void compile(Job job) {
+		if (job.failure != null) {
+			job.result = P5.RESULT_OTHER_ERROR;
+			job.messages = job.failure + "\n";
+			return;
+		}
+		ByteArrayOutputStream messages = new ByteArrayOutputStream();
+		PrintStream err = new PrintStream(messages, true);
+		P5 p5 = new P5();
+		p5.setErrStream(err);
+		p5.setMaxErrors(maxErrors);
+		try {
+			p5.setInfile(job.infile);
+			p5.setOutfile(job.outfile);
+			job.result = p5.process();
+			if (job.result == P5.RESULT_CORRECT
+					&& p5.getDiagnostics().hasErrors()) {
+				job.result = P5.RESULT_TYPE_ERROR;
+			}
+			job.lines = p5.getLineCount();
+			if (PhaseStats.ENABLED) totals.add(p5.getStats());
+		} catch (Throwable e) {
+			// also the scanner's Error on unmatched input, or a bug in the
+			// compiler: either way only this file fails
+			err.println(e.getMessage() != null ? e.getMessage()
+			                                   : e.toString());
+			job.result = P5.RESULT_OTHER_ERROR;
+		} finally {
+			p5.cleanup();
+		}
+		err.flush();
+		job.messages = messages.toString();
+	}
+
+	/**
+	 * @return times and counts summed over all files compiled; only
+	 * collected if PhaseStats.ENABLED
+	 */
+	public PhaseStats getTotals() {
+		return totals;
+	}
+
+	private void report(Job job) {
+		synchronized (out) {
+			out.println(job.result + " " + job.infile);
+			out.print(job.messages);
+		}
+	}
+
+	/**
+	 * Read a manifest: each non-blank line has a source file name and an
+	 * output file name separated by white space.
+	 */
+	public static List<Job> readManifest(String filename) throws IOException {
+		List<Job> jobs = new ArrayList<Job>();
+		BufferedReader in = new BufferedReader(new FileReader(filename));
+		try {
+			String line;
+			while ((line = in.readLine()) != null) {
+				String[] parts = line.trim().split("\\s+");
+				if (parts.length == 2) {
+					jobs.add(new Job(parts[0], parts[1]));
+				} else if (!parts[0].isEmpty()) {
+					throw new IOException("bad manifest line: " + line);
+				}
+			}
+		} finally {
+			in.close();
+		}
+		return jobs;
+	}
+
+	/**
+	 * A job for every .cmm file in a directory; file.cmm is unparsed to
+	 * file.out in outdir.  If the directory cannot be listed, a single job
+	 * for it that fails.
+	 */
+	public static List<Job> scanDirectory(File dir, File outdir) {
+		List<Job> jobs = new ArrayList<Job>();
+		String[] names = dir.list();
+		if (names == null) {  // unreadable, or an I/O error
+			jobs.add(Job.failed(dir.getPath(),
+			                    "Could not list " + dir.getPath()));
+			return jobs;
+		}
+		Arrays.sort(names);
+		for (String name : names) {
+			if (name.endsWith(".cmm")) {
+				String base = name.substring(0, name.length() - 4);
+				jobs.add(new Job(new File(dir, name).getPath(),
+				                 new File(outdir, base + ".out").getPath()));
+			}
+		}
+		return jobs;
+	}
+
+	private static void usage(String problem) {
+		System.err.println(problem);
+		System.err.println("usage: java P5Batch [-j N] [-maxerrs N]"
+				+ " (manifest | sourcedir [outdir])");
+	}
+
+	public static void main(String[] args) throws Exception {
+		P5Batch batch = new P5Batch();
+		int first = 0;
+		while (args.length - first > 1 && args[first].startsWith("-")) {
+			String option = args[first];
+			int value;
+			try {
+				value = Integer.parseInt(args[first + 1]);
+			} catch (NumberFormatException e) {
+				usage(option + " must be followed by a number");
+				return;
+			}
+			if (option.equals("-j")) {
+				batch.setThreads(value);
+			} else if (option.equals("-maxerrs")) {
+				batch.setMaxErrors(value);
+			} else {
+				usage("unknown option " + option);
+				return;
+			}
+			first += 2;
+		}
+		if (args.length - first < 1) {
+			usage("please supply a manifest file or a directory"
+					+ " of source files");
+			return;
+		}
+
+		File source = new File(args[first]);
+		List<Job> jobs;
+		if (source.isDirectory()) {
+			File outdir = (args.length - first > 1) ? new File(args[first + 1])
+			                                        : source;
+			jobs = scanDirectory(source, outdir);
+		} else {
+			jobs = readManifest(args[first]);
+		}
+
+		long start = System.nanoTime();
+		batch.compileAll(jobs);
+		double secs = (System.nanoTime() - start) / 1e9;
+
+		int[] counts = new int[3];
+		int other = 0;
+		long lines = 0;
+		for (Job job : jobs) {
+			if (job.result >= 0 && job.result < counts.length) {
+				counts[job.result]++;
+			} else {
+				other++;
+			}
+			lines += job.lines;
+		}
+		System.out.printf("%d files (%d correct, %d syntax errors, "
+				+ "%d type errors, %d other) in %.3f s: "
+				+ "%.1f files/sec, %.1f lines/sec%n",
+				jobs.size(), counts[P5.RESULT_CORRECT],
+				counts[P5.RESULT_SYNTAX_ERROR], counts[P5.RESULT_TYPE_ERROR],
+				other, secs, jobs.size() / secs, lines / secs);
+		if (PhaseStats.ENABLED) {
+			System.out.print(batch.getTotals().summary());
+		}
+	}
+}
@@ -0,0 +1,108 @@
+import java.io.*;
+import java.net.*;
+import java.nio.file.*;
+
+/**
+ * Client for P5Server.
+ *
+ * There should be 2 or 3 command-line arguments:
+ *    1. the port the server is listening on
+ *    2. the file to be compiled
+ *    3. the output file into which the unparsed program is written
+ *       (not written if omitted)
+ * The source is sent to the server as text.  The server's warnings and
+ * errors are printed to System.err and the exit status is the server's
+ * P5.RESULT_ code.
+ */
+public class P5Client {
+	private Socket socket;
+	private InputStream in;
+	private OutputStream out;
+
+	/**
+	 * The answer to one compile request.
+	 */
+	public static class Response {
+		public int result;
+		public String diagnostics;
+		public String output;
+	}
+
+	/**
+	 * Connect to a server on the loopback interface.
+	 */
+	public P5Client(int port) throws IOException {
+		socket = new Socket(InetAddress.getLoopbackAddress(), port);
+		socket.setTcpNoDelay(true);
+		in = new BufferedInputStream(socket.getInputStream());
+		out = new BufferedOutputStream(socket.getOutputStream());
+	}
+
+	/**
+	 * Compile source text on the server. May be called any number of
+	 * times on one connection.
+	 */
+	public Response compile(byte[] source) throws IOException {
+		P5Server.writeBlock(out, "COMPILE", source);
+		out.flush();
+
+		Response response = new Response();
+		String[] result = expect("RESULT");
+		response.result = Integer.parseInt(result[1]);
+		response.diagnostics = readBlock("DIAGNOSTICS");
+		response.output = readBlock("OUTPUT");
+		return response;
+	}
+
+	/**
+	 * Close the connection.
+	 */
+	public void close() throws IOException {
+		P5Server.writeLine(out, "QUIT");
+		out.flush();
+		socket.close();
+	}
+
+	private String[] expect(String name) throws IOException {
+		String line = P5Server.readLine(in);
+		if (line == null) {
+			throw new EOFException();
+		}
+		String[] parts = line.split(" ", 2);
+		if (!parts[0].equals(name)) {
+			throw new IOException("server: " + line);
+		}
+		return parts;
+	}
+
+	private String readBlock(String name) throws IOException {
+		int n = Integer.parseInt(expect(name)[1]);
+		return new String(P5Server.readBytes(in, n), "UTF-8");
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 2) {
+			System.err.println("please supply the server's port and the"
+					+ " name of the file to be compiled");
+			System.exit(P5.RESULT_OTHER_ERROR);
+		}
+		P5Client client = new P5Client(Integer.parseInt(args[0]));
+		Response response;
+		try {
+			response = client.compile(Files.readAllBytes(Paths.get(args[1])));
+		} finally {
+			client.close();
+		}
+		System.err.print(response.diagnostics);
+		if (args.length > 2) {
+			Writer w = new OutputStreamWriter(new FileOutputStream(args[2]),
+			                                  "UTF-8");
+			try {
+				w.write(response.output);
+			} finally {
+				w.close();
+			}
+		}
+		System.exit(response.result);
+	}
+}
@@ -0,0 +1,285 @@
+import java.io.*;
+import java.net.*;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.*;
+
+/**
+ * Compile server: a long-running P5 that compiles requests sent over a
+ * loopback socket, so that editors and CI hooks don't pay for JVM startup
+ * and JIT warm-up on every file.
+ *
+ * There should be 1 command-line argument, the port to listen on (0 picks
+ * a free one; the port is printed on startup).  It may be preceded by
+ *    -j N  serve N connections at a time (default: number of cores)
+ *
+ * Protocol.  A connection carries any number of requests.  A request is
+ * one header line, optionally followed by the source text:
+ *    COMPILE <nbytes> [maxerrs]   followed by nbytes of UTF-8 source
+ *    FILE <path> [maxerrs]        compile the named file
+ *    QUIT                         close the connection
+ * The answer to a compile request is
+ *    RESULT <code>                one of the P5.RESULT_ codes
+ *    DIAGNOSTICS <nbytes>         followed by the warnings and errors
+ *    OUTPUT <nbytes>              followed by the unparsed program
+ * and the answer to a malformed request is a single ERROR <message> line.
+ * A COMPILE whose length is missing, negative or more than
+ * MAX_SOURCE_BYTES is answered with ERROR too, and then the connection is
+ * closed, as the rest of it cannot be read as requests.  Any other
+ * malformed COMPILE has its source read (and dropped) before the ERROR.
+ *
+ * Every request is compiled by a fresh P5 with its own diagnostics, so
+ * requests on different connections can be compiled at the same time.
+ */
+public class P5Server {
+	/** Longest source a COMPILE request may send. */
+	public static final int MAX_SOURCE_BYTES = 64 << 20;
+
+	private ServerSocket serverSocket;
+	private ExecutorService pool;
+
+	/**
+	 * Listen on the given loopback port.
+	 * @param port port number, or 0 for any free port
+	 * @param threads number of connections served at a time
+	 */
+	public P5Server(int port, int threads) throws IOException {
+		serverSocket = new ServerSocket(port, 50,
+		                                InetAddress.getLoopbackAddress());
+		pool = Executors.newFixedThreadPool(threads);
+	}
+
+	/**
+	 * @return the port the server is listening on
+	 */
+	public int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	/**
+	 * Accept connections until the server socket is closed.
+	 */
+	public void serve() throws IOException {
+		try {
+			while (true) {
+				final Socket socket;
+				try {
+					socket = serverSocket.accept();
+				} catch (SocketException e) {
+					return;  // closed by close()
+				}
+				pool.execute(new Runnable() {
+					public void run() {
+						handle(socket);
+					}
+				});
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Stop accepting connections.
+	 */
+	public void close() throws IOException {
+		serverSocket.close();
+	}
+
+	private void handle(Socket socket) {
+		try {
+			InputStream in = new BufferedInputStream(socket.getInputStream());
+			OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+			String header;
+			while ((header = readLine(in)) != null) {
+				String[] parts = header.trim().split("\\s+");
+				if (parts[0].equals("QUIT")) {
+					break;
+				}
+				try {
+					answer(parts, in, out);
+				} catch (BadLengthException e) {
+					writeLine(out, "ERROR " + e.getMessage());
+					out.flush();
+					break;
+				} catch (IllegalArgumentException e) {
+					writeLine(out, "ERROR " + e.getMessage());
+				}
+				out.flush();
+			}
+		} catch (IOException e) {
+			// the client went away; nothing to answer
+		} finally {
+			try {
+				socket.close();
+			} catch (IOException e) {
+			}
+		}
+	}
+
+	private void answer(String[] request, InputStream in, OutputStream out)
+			throws IOException {
+		byte[] source = null;
+		if (request[0].equals("COMPILE")) {
+			// read the source before the rest of the header is checked, so
+			// that it is never taken for more requests
+			source = readBytes(in, compileLength(request));
+		} else if (!request[0].equals("FILE")) {
+			throw new IllegalArgumentException("unknown request " + request[0]);
+		}
+		if (request.length < 2 || request.length > 3) {
+			throw new IllegalArgumentException("bad request");
+		}
+		int maxErrors = (request.length == 3) ? parseInt(request[2]) : 0;
+
+		P5 p5 = new P5();
+		if (source != null) {
+			p5.setInput(new InputStreamReader(new ByteArrayInputStream(source),
+			                                  StandardCharsets.UTF_8));
+		} else {
+			try {
+				p5.setInfile(request[1]);
+			} catch (Exception e) {
+				throw new IllegalArgumentException(e.getMessage());
+			}
+		}
+
+		ByteArrayOutputStream diagnostics = new ByteArrayOutputStream();
+		StringWriter unparsed = new StringWriter();
+		PrintStream err = new PrintStream(diagnostics, true, "UTF-8");
+		p5.setErrStream(err);
+		p5.setOutput(unparsed);
+		p5.setMaxErrors(maxErrors);
+		int result;
+		try {
+			result = p5.process();
+			if (result == P5.RESULT_CORRECT && p5.getDiagnostics().hasErrors()) {
+				result = P5.RESULT_TYPE_ERROR;
+			}
+		} catch (Throwable e) {
+			// the scanner's Error on unmatched input, or a bug in the
+			// compiler: still answer, so the client is not left waiting
+			err.println(e.getMessage() != null ? e.getMessage()
+			                                   : e.toString());
+			result = P5.RESULT_OTHER_ERROR;
+		} finally {
+			p5.cleanup();
+		}
+
+		writeLine(out, "RESULT " + result);
+		writeBlock(out, "DIAGNOSTICS", diagnostics.toByteArray());
+		writeBlock(out, "OUTPUT",
+		           unparsed.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * A COMPILE header without a length the server will read: the
+	 * connection cannot go on after it.
+	 */
+	private static class BadLengthException extends IllegalArgumentException {
+		BadLengthException(String message) {
+			super(message);
+		}
+	}
+
+	/**
+	 * @return the number of source bytes that follow a COMPILE header
+	 * @throws BadLengthException if it is missing, not a number, negative
+	 * or more than MAX_SOURCE_BYTES
+	 */
+	private static int compileLength(String[] request) {
+		if (request.length < 2) {
+			throw new BadLengthException("missing length");
+		}
+		int length;
+		try {
+			length = Integer.parseInt(request[1]);
+		} catch (NumberFormatException e) {
+			throw new BadLengthException("bad length " + request[1]);
+		}
+		if (length < 0 || length > MAX_SOURCE_BYTES) {
+			throw new BadLengthException("bad length " + length
+					+ " (at most " + MAX_SOURCE_BYTES + " bytes)");
+		}
+		return length;
+	}
+
+	private static int parseInt(String s) {
+		try {
+			return Integer.parseInt(s);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("bad number " + s);
+		}
+	}
+
+	/**
+	 * Read a header line (ASCII, terminated by a newline).
+	 * @return the line, or null at end of stream
+	 */
+	static String readLine(InputStream in) throws IOException {
+		StringBuilder sb = new StringBuilder();
+		int c;
+		while ((c = in.read()) != '\n') {
+			if (c == -1) {
+				return (sb.length() == 0) ? null : sb.toString();
+			}
+			sb.append((char)c);
+		}
+		return sb.toString();
+	}
+
+	static byte[] readBytes(InputStream in, int n) throws IOException {
+		byte[] bytes = new byte[n];
+		int off = 0;
+		while (off < n) {
+			int got = in.read(bytes, off, n - off);
+			if (got == -1) {
+				throw new EOFException();
+			}
+			off += got;
+		}
+		return bytes;
+	}
+
+	static void writeLine(OutputStream out, String line) throws IOException {
+		out.write((line + "\n").getBytes(StandardCharsets.US_ASCII));
+	}
+
+	static void writeBlock(OutputStream out, String name, byte[] bytes)
+			throws IOException {
+		writeLine(out, name + " " + bytes.length);
+		out.write(bytes);
+	}
+
+	private static void usage(String problem) {
+		System.err.println(problem);
+		System.err.println("usage: java P5Server [-j N] port");
+	}
+
+	public static void main(String[] args) throws IOException {
+		int threads = Runtime.getRuntime().availableProcessors();
+		int first = 0;
+		if (args.length > 2 && args[0].equals("-j")) {
+			try {
+				threads = Integer.parseInt(args[1]);
+			} catch (NumberFormatException e) {
+				usage("-j must be followed by a number");
+				return;
+			}
+			first = 2;
+		}
+		if (args.length - first < 1) {
+			usage("please supply the port to listen on");
+			return;
+		}
+		int port;
+		try {
+			port = Integer.parseInt(args[first]);
+		} catch (NumberFormatException e) {
+			usage("bad port " + args[first]);
+			return;
+		}
+		P5Server server = new P5Server(port, threads);
+		System.out.println("listening on port " + server.getPort());
+		server.serve();
+	}
+}
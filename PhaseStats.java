@@ -0,0 +1,264 @@
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java_cup.runtime.Scanner;
+import java_cup.runtime.Symbol;
+
+/**
+ * Timing, allocation and size counts for the phases of one compilation
+ * (P5.process()).
+ *
+ * Collection is off unless the JVM is started with -Dcmm.stats=FILE.
+ * Each compilation then appends one JSON line to FILE (or prints it to
+ * System.err if FILE is - or empty), and P5 and P5Batch print a summary
+ * table.  ENABLED is a static final, so when collection is off the JIT
+ * drops every "if (PhaseStats.ENABLED)" test along with its body.
+ *
+ * For each phase (parse, which includes scanning, nameAnalysis,
+ * typeCheck and unparse) the wall time, CPU time and bytes allocated are
+ * those of the compiling thread; with P5 -j the type checking done on
+ * other threads shows up in wall time only.  With P5 -pipeline, name
+ * analysis is done during the parse and counted in it, and typeCheck is
+ * the wait for the type checks still running when the parse ends.  The
+ * counts are of tokens scanned, AST nodes and symbols created, and
+ * warnings and errors.
+ */
+public class PhaseStats {
+	public static final String PROPERTY = "cmm.stats";
+	public static final boolean ENABLED = System.getProperty(PROPERTY) != null;
+
+	public static final int PARSE = 0;
+	public static final int NAME_ANALYSIS = 1;
+	public static final int TYPE_CHECK = 2;
+	public static final int UNPARSE = 3;
+	private static final String[] PHASE_NAMES = {
+		"parse", "nameAnalysis", "typeCheck", "unparse"
+	};
+
+	private static final ThreadMXBean threads =
+		ENABLED ? ManagementFactory.getThreadMXBean() : null;
+	private static final ThreadLocal<PhaseStats> current =
+		new ThreadLocal<PhaseStats>();
+	private static PrintStream report;
+
+	private String source;
+	private int result = -1;  // P5.RESULT_OTHER_ERROR
+	private int compilations;
+	private long[] wallNanos = new long[PHASE_NAMES.length];
+	private long[] cpuNanos = new long[PHASE_NAMES.length];
+	private long[] allocBytes = new long[PHASE_NAMES.length];
+	private int phase = -1;     // phase being timed, or -1
+	private long startWall;
+	private long startCpu;
+	private long startAlloc;
+	private long tokens;
+	private long nodes;
+	private long symbols;
+	private long diagnostics;
+	private long errors;
+	private long lines;
+
+	/**
+	 * @param source name of the source being compiled, for the report
+	 */
+	public PhaseStats(String source) {
+		this.source = source;
+	}
+
+	/**
+	 * Make stats the collector for AST nodes and symbols created on the
+	 * calling thread.
+	 * @param stats new collector, or null for none
+	 * @return the previous collector, or null
+	 */
+	public static PhaseStats attach(PhaseStats stats) {
+		PhaseStats previous = current.get();
+		current.set(stats);
+		return previous;
+	}
+
+	/**
+	 * Called for every AST node created
+	 */
+	static void countNode() {
+		PhaseStats stats = current.get();
+		if (stats != null) {
+			stats.nodes++;
+		}
+	}
+
+	/**
+	 * Called for every symbol created
+	 */
+	static void countSymbol() {
+		PhaseStats stats = current.get();
+		if (stats != null) {
+			stats.symbols++;
+		}
+	}
+
+	/**
+	 * @return a scanner that passes on the tokens of the given one,
+	 * counting them
+	 */
+	public Scanner countTokens(final Scanner scanner) {
+		return new Scanner() {
+			public Symbol next_token() throws Exception {
+				tokens++;
+				return scanner.next_token();
+			}
+		};
+	}
+
+	/**
+	 * Start timing the given phase, ending the one before it.
+	 */
+	public void begin(int phase) {
+		end();
+		this.phase = phase;
+		long id = Thread.currentThread().getId();
+		startAlloc = allocatedBytes(id);
+		startCpu = threads.getThreadCpuTime(id);
+		startWall = System.nanoTime();
+	}
+
+	/**
+	 * Stop timing the current phase, if any.
+	 */
+	public void end() {
+		if (phase < 0) {
+			return;
+		}
+		long wall = System.nanoTime();
+		long id = Thread.currentThread().getId();
+		wallNanos[phase] += wall - startWall;
+		cpuNanos[phase] += threads.getThreadCpuTime(id) - startCpu;
+		allocBytes[phase] += allocatedBytes(id) - startAlloc;
+		phase = -1;
+	}
+
+	private static long allocatedBytes(long threadId) {
+		if (threads instanceof com.sun.management.ThreadMXBean) {
+			return ((com.sun.management.ThreadMXBean)threads)
+				.getThreadAllocatedBytes(threadId);
+		}
+		return 0;
+	}
+
+	/**
+	 * Record the outcome of the compilation.
+	 * @param result one of the P5.RESULT_ codes
+	 * @param d the compilation's diagnostics, or null
+	 * @param lines number of source lines
+	 */
+	public void finish(int result, Diagnostics d, int lines) {
+		end();
+		this.result = result;
+		this.compilations = 1;
+		this.lines = lines;
+		if (d != null) {
+			errors = d.errorCount();
+			diagnostics = errors + d.warningCount();
+		}
+	}
+
+	/**
+	 * Add the times and counts of another compilation to these.
+	 */
+	public synchronized void add(PhaseStats other) {
+		for (int i = 0; i < PHASE_NAMES.length; i++) {
+			wallNanos[i] += other.wallNanos[i];
+			cpuNanos[i] += other.cpuNanos[i];
+			allocBytes[i] += other.allocBytes[i];
+		}
+		compilations += other.compilations;
+		tokens += other.tokens;
+		nodes += other.nodes;
+		symbols += other.symbols;
+		diagnostics += other.diagnostics;
+		errors += other.errors;
+		lines += other.lines;
+	}
+
+	/**
+	 * @return the stats as one line of JSON
+	 */
+	public String toJson() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("{\"source\":\"");
+		for (int i = 0; i < source.length(); i++) {
+			char c = source.charAt(i);
+			if (c == '"' || c == '\\') {
+				sb.append('\\').append(c);
+			} else if (c < ' ') {
+				sb.append(String.format("\\u%04x", (int)c));
+			} else {
+				sb.append(c);
+			}
+		}
+		sb.append("\",\"result\":").append(result);
+		sb.append(",\"phases\":{");
+		for (int i = 0; i < PHASE_NAMES.length; i++) {
+			sb.append(i == 0 ? "\"" : ",\"").append(PHASE_NAMES[i])
+			  .append("\":{\"wallNanos\":").append(wallNanos[i])
+			  .append(",\"cpuNanos\":").append(cpuNanos[i])
+			  .append(",\"allocBytes\":").append(allocBytes[i])
+			  .append('}');
+		}
+		sb.append("},\"lines\":").append(lines);
+		sb.append(",\"tokens\":").append(tokens);
+		sb.append(",\"nodes\":").append(nodes);
+		sb.append(",\"symbols\":").append(symbols);
+		sb.append(",\"diagnostics\":").append(diagnostics);
+		sb.append(",\"errors\":").append(errors);
+		sb.append('}');
+		return sb.toString();
+	}
+
+	/**
+	 * @return the stats as a table, for people
+	 */
+	public String summary() {
+		StringWriter s = new StringWriter();
+		PrintWriter p = new PrintWriter(s);
+		p.printf("%-14s %10s %10s %12s%n", "phase", "wall ms", "cpu ms",
+		         "alloc KB");
+		long wall = 0, cpu = 0, alloc = 0;
+		for (int i = 0; i < PHASE_NAMES.length; i++) {
+			p.printf("%-14s %10.2f %10.2f %12d%n", PHASE_NAMES[i],
+			         wallNanos[i] / 1e6, cpuNanos[i] / 1e6, allocBytes[i] / 1024);
+			wall += wallNanos[i];
+			cpu += cpuNanos[i];
+			alloc += allocBytes[i];
+		}
+		p.printf("%-14s %10.2f %10.2f %12d%n", "total", wall / 1e6, cpu / 1e6,
+		         alloc / 1024);
+		p.printf("%d compilations, %d lines, %d tokens, %d AST nodes, "
+		         + "%d symbols, %d diagnostics (%d errors)%n",
+		         compilations, lines, tokens, nodes, symbols, diagnostics,
+		         errors);
+		p.flush();
+		return s.toString();
+	}
+
+	/**
+	 * Append the stats to the report named by the cmm.stats property.
+	 */
+	public static synchronized void report(PhaseStats stats) {
+		if (report == null) {
+			String file = System.getProperty(PROPERTY);
+			if (file.isEmpty() || file.equals("-")) {
+				report = System.err;
+			} else {
+				try {
+					report = new PrintStream(
+						new FileOutputStream(file, true), true, "UTF-8");
+				} catch (IOException e) {
+					System.err.println("cannot write " + file + ": " + e);
+					report = System.err;
+				}
+			}
+		}
+		report.println(stats.toJson());
+	}
+}
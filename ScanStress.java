@@ -0,0 +1,216 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java_cup.runtime.Scanner;
+import java_cup.runtime.Symbol;
+
+/**
+ * Stress test of scanning many files at once: checks that a scanner's
+ * columns (TokenVal.charnum) do not depend on other scanners running at
+ * the same time.
+ *
+ * The command-line arguments are the C-- files to scan, preceded by the
+ * options
+ *    -j N       scan N files at a time (default: 8)
+ *    -rounds N  scan every file N times (default: 100)
+ *    -buffer    scan each file into a TokenBuffer first (see Yylex.scanAll)
+ *
+ * Each file is first scanned alone, by one scanner, and the symbol, line
+ * and column of every token, and the scanner's messages, are recorded.
+ * Then every file is scanned rounds times, all on a pool of worker
+ * threads, each scan by a new scanner, and each scan is compared with the
+ * recorded one.  The program prints the first difference of each scan
+ * that differs and exits with status 1 if any does.
+ */
+public class ScanStress {
+	private int threads = 8;
+	private int rounds = 100;
+	private boolean bufferTokens = false;
+
+	/**
+	 * The tokens of one scan: symbol, line and column of each, and the
+	 * messages the scanner reported.
+	 */
+	private static class Scan {
+		private int[] tokens = new int[3 * 256];
+		private int size;
+		private String messages;
+
+		private void add(Symbol s) {
+			if (size == tokens.length) {
+				tokens = Arrays.copyOf(tokens, 2 * size);
+			}
+			TokenVal val = (s.value instanceof TokenVal) ? (TokenVal)s.value
+			                                             : null;
+			tokens[size++] = s.sym;
+			tokens[size++] = (val == null) ? -1 : val.linenum;
+			tokens[size++] = (val == null) ? -1 : val.charnum;
+		}
+
+		/**
+		 * @return a description of the first difference from expected,
+		 * or null if the scans are the same
+		 */
+		private String compare(Scan expected) {
+			int n = Math.min(size, expected.size);
+			for (int i = 0; i < n; i += 3) {
+				if (tokens[i] != expected.tokens[i]
+						|| tokens[i + 1] != expected.tokens[i + 1]
+						|| tokens[i + 2] != expected.tokens[i + 2]) {
+					return "token " + (i / 3) + ": expected sym "
+						+ expected.tokens[i] + " at " + expected.tokens[i + 1]
+						+ ":" + expected.tokens[i + 2] + ", got sym "
+						+ tokens[i] + " at " + tokens[i + 1] + ":"
+						+ tokens[i + 2];
+				}
+			}
+			if (size != expected.size) {
+				return "expected " + (expected.size / 3) + " tokens, got "
+					+ (size / 3);
+			}
+			if (!messages.equals(expected.messages)) {
+				return "expected messages\n" + expected.messages + "got\n"
+					+ messages;
+			}
+			return null;
+		}
+	}
+
+	public void setThreads(int threads) {
+		this.threads = threads;
+	}
+
+	public void setRounds(int rounds) {
+		this.rounds = rounds;
+	}
+
+	public void setBufferTokens(boolean bufferTokens) {
+		this.bufferTokens = bufferTokens;
+	}
+
+	/**
+	 * Scan a source with a new scanner on the calling thread.
+	 */
+	private Scan scan(byte[] source) throws Exception {
+		Scan scan = new Scan();
+		Diagnostics diagnostics = new Diagnostics();
+		Diagnostics saved = ErrMsg.attach(diagnostics);
+		try {
+			Yylex yylex = new Yylex(new InputStreamReader(
+				new ByteArrayInputStream(source), StandardCharsets.UTF_8));
+			Scanner scanner = bufferTokens ? yylex.scanAll().scanner() : yylex;
+			Symbol s;
+			do {
+				s = scanner.next_token();
+				scan.add(s);
+			} while (s.sym != sym.EOF);
+		} finally {
+			ErrMsg.attach(saved);
+		}
+		ByteArrayOutputStream messages = new ByteArrayOutputStream();
+		diagnostics.flush(new PrintStream(messages, true, "UTF-8"));
+		scan.messages = messages.toString("UTF-8");
+		return scan;
+	}
+
+	/**
+	 * Scan every file alone, then rounds times each on the pool, and
+	 * compare.
+	 * @return the number of scans that differ from the first
+	 */
+	public int run(List<String> files) throws Exception {
+		final List<byte[]> sources = new ArrayList<byte[]>();
+		final List<Scan> expected = new ArrayList<Scan>();
+		long tokens = 0;
+		for (String file : files) {
+			byte[] source = Files.readAllBytes(Paths.get(file));
+			Scan scan = scan(source);
+			sources.add(source);
+			expected.add(scan);
+			tokens += scan.size / 3;
+		}
+
+		final AtomicInteger failures = new AtomicInteger();
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		long start = System.nanoTime();
+		try {
+			List<Future<?>> futures = new ArrayList<Future<?>>();
+			for (int round = 0; round < rounds; round++) {
+				for (int i = 0; i < files.size(); i++) {
+					final String file = files.get(i);
+					final byte[] source = sources.get(i);
+					final Scan reference = expected.get(i);
+					futures.add(pool.submit(new Callable<Void>() {
+						public Void call() throws Exception {
+							String diff = scan(source).compare(reference);
+							if (diff != null) {
+								failures.incrementAndGet();
+								synchronized (System.out) {
+									System.out.println(file + ": " + diff);
+								}
+							}
+							return null;
+						}
+					}));
+				}
+			}
+			for (Future<?> f : futures) {
+				f.get();
+			}
+		} finally {
+			pool.shutdown();
+		}
+		double secs = (System.nanoTime() - start) / 1e9;
+		System.out.printf("%d scans of %d files (%d tokens) on %d threads"
+				+ " in %.3f s: %d differ%n", rounds * files.size(),
+				files.size(), tokens * rounds, threads, secs, failures.get());
+		return failures.get();
+	}
+
+	private static void usage(String problem) {
+		System.err.println(problem);
+		System.err.println("usage: java ScanStress [-j N] [-rounds N]"
+				+ " [-buffer] file...");
+	}
+
+	public static void main(String[] args) throws Exception {
+		ScanStress stress = new ScanStress();
+		int first = 0;
+		while (first < args.length && args[first].startsWith("-")) {
+			String option = args[first];
+			if (option.equals("-buffer")) {
+				stress.setBufferTokens(true);
+				first++;
+				continue;
+			}
+			int value;
+			try {
+				value = Integer.parseInt(args[first + 1]);
+			} catch (RuntimeException e) {
+				usage(option + " must be followed by a number");
+				return;
+			}
+			if (option.equals("-j")) {
+				stress.setThreads(value);
+			} else if (option.equals("-rounds")) {
+				stress.setRounds(value);
+			} else {
+				usage("unknown option " + option);
+				return;
+			}
+			first += 2;
+		}
+		if (first == args.length) {
+			usage("please supply the files to scan");
+			return;
+		}
+		int failures = stress.run(Arrays.asList(args).subList(first,
+		                                                       args.length));
+		if (failures > 0) {
+			System.exit(1);
+		}
+	}
+}
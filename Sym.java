@@ -8,6 +8,7 @@ public class Sym {
     private Type type;
     
     public Sym(Type type) {
+        if (PhaseStats.ENABLED) PhaseStats.countSymbol();
         this.type = type;
     }
     
@@ -30,15 +31,21 @@ class FnSym extends Sym {
     private Type returnType;
     private int numParams;
     private List<Type> paramTypes;
+    private int[] paramSig;  // ids of paramTypes, for matching actuals
     
     public FnSym(Type type, int numparams) {
-        super(new FnType());
+        super(Type.FN);
         returnType = type;
         numParams = numparams;
     }
 
     public void addFormals(List<Type> L) {
         paramTypes = L;
+        paramSig = new int[L.size()];
+        int i = 0;
+        for (Type type : L) {
+            paramSig[i++] = type.id();
+        }
     }
     
     public Type getReturnType() {
@@ -53,6 +60,13 @@ class FnSym extends Sym {
         return paramTypes;
     }
 
+    /**
+     * Return the ids of the parameter types, in order.
+     */
+    public int[] getParamSignature() {
+        return paramSig;
+    }
+
     public String toString() {
         // make list of formals
         String str = "";
@@ -81,7 +95,7 @@ class StructSym extends Sym {
     private IdNode structType;  // name of the struct type
     
     public StructSym(IdNode id) {
-        super(new StructType(id));
+        super(Type.structType(id));
         structType = id;
     }
 
@@ -98,14 +112,20 @@ class StructSym extends Sym {
  */
 class StructDefSym extends Sym {
     // new fields
-    private SymTable symTab;
+    private SymbolTable symTab;
+    private StructType instanceType;  // canonical type of this struct's variables
     
-    public StructDefSym(SymTable table) {
-        super(new StructDefType());
+    public StructDefSym(IdNode id, SymbolTable table) {
+        super(Type.STRUCT_DEF);
         symTab = table;
+        instanceType = new StructType(id);
     }
 
-    public SymTable getSymTable() {
+    public SymbolTable getSymTable() {
         return symTab;
     }
+
+    public StructType getInstanceType() {
+        return instanceType;
+    }
 }
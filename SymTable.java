@@ -1,14 +1,14 @@
 import java.util.*;
 
-public class SymTable {
-    private List<HashMap<String, Sym>> list;
+public class SymTable implements SymbolTable {
+    private List<HashMap<Name, Sym>> list;
     
     public SymTable() {
-        list = new LinkedList<HashMap<String, Sym>>();
-        list.add(new HashMap<String, Sym>());
+        list = new LinkedList<HashMap<Name, Sym>>();
+        list.add(new HashMap<Name, Sym>());
     }
     
-    public void addDecl(String name, Sym sym) 
+    public void addDecl(Name name, Sym sym) 
 	throws DuplicateSymException, EmptySymTableException, WrongArgumentException {
 	if (name == null && sym == null) {
 	    throw new WrongArgumentException("Arguments name and sym are null.");
@@ -24,7 +24,7 @@ public class SymTable {
             throw new EmptySymTableException();
         }
 	
-        HashMap<String, Sym> symTab = list.get(0);
+        HashMap<Name, Sym> symTab = list.get(0);
         if (symTab.containsKey(name))
             throw new DuplicateSymException();
         
@@ -32,26 +32,31 @@ public class SymTable {
     }
     
     public void addScope() {
-        list.add(0, new HashMap<String, Sym>());
+        list.add(0, new HashMap<Name, Sym>());
     }
     
-    public Sym lookupLocal(String name) {
+    public Sym lookupLocal(Name name) {
         if (list.isEmpty())
             return null;
         
-        HashMap<String, Sym> symTab = list.get(0); 
+        HashMap<Name, Sym> symTab = list.get(0); 
         return symTab.get(name);
     }
     
-    public Sym lookupGlobal(String name) {
+    public Sym lookupGlobal(Name name) {
         if (list.isEmpty())
             return null;
         
-        for (HashMap<String, Sym> symTab : list) {
+        int depth = 0;
+        for (HashMap<Name, Sym> symTab : list) {
             Sym sym = symTab.get(name);
-            if (sym != null)
+            if (sym != null) {
+                SymLookupEvent.record(name, depth, list.size());
                 return sym;
+            }
+            depth++;
         }
+        SymLookupEvent.record(name, -1, list.size());
         return null;
     }
     
@@ -63,7 +68,7 @@ public class SymTable {
     
     public void print() {
         System.out.print("\n=== Sym Table ===\n");
-        for (HashMap<String, Sym> symTab : list) {
+        for (HashMap<Name, Sym> symTab : list) {
             System.out.println(symTab.toString());
         }
         System.out.println();
@@ -0,0 +1,43 @@
+/**
+ * SymbolTable
+ *
+ * A stack of scopes, each mapping names to their Syms, as used by name
+ * analysis.  SymTable keeps a HashMap per scope; ChainedSymTable keeps a
+ * chain of shadowed declarations per name, for deeply nested programs.
+ */
+public interface SymbolTable {
+    /**
+     * Declare name in the innermost scope.
+     * @throws DuplicateSymException if name is already declared there
+     * @throws EmptySymTableException if there is no scope
+     * @throws WrongArgumentException if name or sym is null
+     */
+    void addDecl(Name name, Sym sym)
+	throws DuplicateSymException, EmptySymTableException, WrongArgumentException;
+
+    /**
+     * Open a new innermost scope.
+     */
+    void addScope();
+
+    /**
+     * @return the declaration of name in the innermost scope, or null
+     */
+    Sym lookupLocal(Name name);
+
+    /**
+     * @return the innermost declaration of name in any scope, or null
+     */
+    Sym lookupGlobal(Name name);
+
+    /**
+     * Close the innermost scope.
+     * @throws EmptySymTableException if there is no scope
+     */
+    void removeScope() throws EmptySymTableException;
+
+    /**
+     * Print every scope, innermost first.
+     */
+    void print();
+}
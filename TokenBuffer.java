@@ -0,0 +1,180 @@
+import java.util.Arrays;
+import java_cup.runtime.Scanner;
+import java_cup.runtime.Symbol;
+
+/**
+ * TokenBuffer
+ *
+ * The tokens of a whole source file, as filled in by Yylex.scanAll().
+ * Instead of a Symbol and a TokenVal per token, the buffer keeps three
+ * parallel arrays:
+ *    kinds      the token's sym constant
+ *    positions  its line (high 32 bits) and column (low 32 bits)
+ *    payloads   for an ID the id of its Name in the scanner's NamePool,
+ *               for an INTLITERAL its value, for a STRINGLITERAL the
+ *               index of its text (see string()), otherwise 0
+ * plus one char array holding the text of all the string literals.  So
+ * scanning a large file allocates a handful of arrays, which grow by
+ * doubling, rather than two objects per token.  The last token is always
+ * EOF.
+ *
+ * The buffer is not changed once scanned, and any number of consumers may
+ * read it, each through its own scanner() (on any thread).
+ */
+public class TokenBuffer {
+    private final NamePool names;
+    private int[] kinds = new int[1024];
+    private long[] positions = new long[1024];
+    private int[] payloads = new int[1024];
+    private int size;
+    private char[] text = new char[256];
+    private int textSize;
+    private int[] strings = new int[16];  // start of each string in text
+    private int stringCount;
+
+    TokenBuffer(NamePool names) {
+        this.names = names;
+    }
+
+    /**
+     * Append a token.
+     */
+    void add(int kind, int line, int column, int payload) {
+        if (size == kinds.length) {
+            int capacity = size * 2;
+            kinds = Arrays.copyOf(kinds, capacity);
+            positions = Arrays.copyOf(positions, capacity);
+            payloads = Arrays.copyOf(payloads, capacity);
+        }
+        kinds[size] = kind;
+        positions[size] = ((long)line << 32) | (column & 0xffffffffL);
+        payloads[size] = payload;
+        size++;
+    }
+
+    /**
+     * Save the text of a string literal: len chars of buf starting at off.
+     * @return the payload of the string literal's token
+     */
+    int addString(char[] buf, int off, int len) {
+        if (textSize + len > text.length) {
+            text = Arrays.copyOf(text, Math.max(text.length * 2,
+                                                textSize + len));
+        }
+        System.arraycopy(buf, off, text, textSize, len);
+        if (stringCount + 1 >= strings.length) {
+            strings = Arrays.copyOf(strings, strings.length * 2);
+        }
+        strings[stringCount] = textSize;
+        textSize += len;
+        strings[stringCount + 1] = textSize;
+        return stringCount++;
+    }
+
+    /**
+     * Return the number of tokens, including the final EOF.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return the sym constant of token i.
+     */
+    public int kind(int i) {
+        checkIndex(i);
+        return kinds[i];
+    }
+
+    /**
+     * Return the line of token i (1-based).
+     */
+    public int line(int i) {
+        checkIndex(i);
+        return (int)(positions[i] >>> 32);
+    }
+
+    /**
+     * Return the column of token i (1-based).
+     */
+    public int column(int i) {
+        checkIndex(i);
+        return (int)positions[i];
+    }
+
+    /**
+     * Return the payload of token i (see above).
+     */
+    public int payload(int i) {
+        checkIndex(i);
+        return payloads[i];
+    }
+
+    /**
+     * Return the Name of ID token i.
+     */
+    public Name name(int i) {
+        return names.get(payload(i));
+    }
+
+    /**
+     * Return the text, including the quotes, of STRINGLITERAL token i.
+     */
+    public String string(int i) {
+        int s = payload(i);
+        return new String(text, strings[s], strings[s + 1] - strings[s]);
+    }
+
+    /**
+     * Return the pool of the identifiers' Names.
+     */
+    public NamePool names() {
+        return names;
+    }
+
+    /**
+     * Return a new scanner over the tokens, for a parser.  It makes the
+     * same Symbols as Yylex.next_token() would have; only the tokens'
+     * values are made per consumer.
+     */
+    public Scanner scanner() {
+        return new Scanner() {
+            private int next;
+
+            public Symbol next_token() {
+                int i = next;
+                if (i < size - 1) {
+                    next++;
+                }
+                return symbol(i);
+            }
+        };
+    }
+
+    private Symbol symbol(int i) {
+        int kind = kinds[i];
+        int line = (int)(positions[i] >>> 32);
+        int column = (int)positions[i];
+        switch (kind) {
+        case sym.EOF:
+            return new Symbol(sym.EOF);
+        case sym.ID:
+            return new Symbol(kind, new IdTokenVal(line, column,
+                                                   names.get(payloads[i])));
+        case sym.INTLITERAL:
+            return new Symbol(kind, new IntLitTokenVal(line, column,
+                                                       payloads[i]));
+        case sym.STRINGLITERAL:
+            return new Symbol(kind, new StrLitTokenVal(line, column,
+                                                       string(i)));
+        default:
+            return new Symbol(kind, new TokenVal(line, column));
+        }
+    }
+
+    private void checkIndex(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("token " + i);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+/**
+ * Thrown by Diagnostics when the error cap of a compilation is reached.
+ */
+public class TooManyErrorsException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public TooManyErrorsException(int count) {
+        super(count + " errors; stopping");
+    }
+}
@@ -1,20 +1,72 @@
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Type class and its subclasses: 
  * ErrorType, IntType, BoolType, VoidType, StringType, FnType, StructType,
  */
 abstract public class Type {
 
+    // source of type ids; must be initialized before the instances below
+    private static final AtomicInteger nextId = new AtomicInteger();
+
+    /**
+     * canonical instances of the primitive types
+     *
+     * Types are never created by the type checker; every primitive type is
+     * one of these singletons and every struct type is interned once per
+     * StructDefSym (see structType), so two types are equal exactly when
+     * they are the same object.
+     */
+    public static final Type ERROR = new ErrorType();
+    public static final Type INT = new IntType();
+    public static final Type BOOL = new BoolType();
+    public static final Type VOID = new VoidType();
+    public static final Type STRING = new StringType();
+    public static final Type FN = new FnType();
+    public static final Type STRUCT_DEF = new StructDefType();
+
+    // small integer that identifies this type, assigned when it is interned
+    private final int myId;
+
     /**
      * default constructor
      */
-    public Type() {
+    Type() {
+        myId = nextId.getAndIncrement();
     }
 
     /**
-     * every subclass must provide a toString method and an equals method
+     * Returns this type's id.  Ids are stable for the life of the type and,
+     * since types are interned, two types are equal exactly when their ids
+     * are equal.
+     */
+    public int id() {
+        return myId;
+    }
+
+    /**
+     * Returns the canonical type of variables declared to be of the struct
+     * type named by id, or ERROR if id is not linked to a struct definition.
+     */
+    public static Type structType(IdNode id) {
+        Sym sym = id.sym();
+        if (!(sym instanceof StructDefSym)) {
+            return ERROR;
+        }
+        return ((StructDefSym)sym).getInstanceType();
+    }
+
+    /**
+     * every subclass must provide a toString method
      */
     abstract public String toString();
-    abstract public boolean equals(Type t);
+
+    /**
+     * types are interned, so equality is identity
+     */
+    public final boolean equals(Type t) {
+        return this == t;
+    }
 
     /**
      * default methods for "isXXXType"
@@ -61,10 +113,6 @@ class ErrorType extends Type {
         return true;
     }
 
-    public boolean equals(Type t) {
-        return t.isErrorType();
-    }
-
     public String toString() {
         return "error";
     }
@@ -79,10 +127,6 @@ class IntType extends Type {
         return true;
     }
 
-    public boolean equals(Type t) {
-        return t.isIntType();
-    }
-
     public String toString() {
         return "int";
     }
@@ -97,10 +141,6 @@ class BoolType extends Type {
         return true;
     }
 
-    public boolean equals(Type t) {
-        return t.isBoolType();
-    }
-
     public String toString() {
         return "bool";
     }
@@ -115,10 +155,6 @@ class VoidType extends Type {
         return true;
     }
 
-    public boolean equals(Type t) {
-        return t.isVoidType();
-    }
-
     public String toString() {
         return "void";
     }
@@ -133,10 +169,6 @@ class StringType extends Type {
         return true;
     }
 
-    public boolean equals(Type t) {
-        return t.isStringType();
-    }
-
     public String toString() {
         return "String";
     }
@@ -151,10 +183,6 @@ class FnType extends Type {
         return true;
     }
 
-    public boolean equals(Type t) {
-        return t.isFnType();
-    }
-
     public String toString() {
         return "function";
     }
@@ -166,7 +194,7 @@ class FnType extends Type {
 class StructType extends Type {
     private IdNode myId;
     
-    public StructType(IdNode id) {
+    StructType(IdNode id) {
         myId = id;
     }
     
@@ -174,12 +202,8 @@ class StructType extends Type {
         return true;
     }
 
-    public boolean equals(Type t) {
-        return t.isStructType();
-    }
-
     public String toString() {
-        return myId.name();
+        return myId.name().toString();
     }
 }
 
@@ -192,10 +216,6 @@ class StructDefType extends Type {
         return true;
     }
 
-    public boolean equals(Type t) {
-        return t.isStructDefType();
-    }
-
     public String toString() {
         return "struct";
     }
@@ -1,5 +1,8 @@
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
 
 // **********************************************************************
 // The ASTnode class defines the nodes of the abstract-syntax tree that
@@ -107,6 +110,10 @@ import java.util.*;
 // **********************************************************************
 
 abstract class ASTnode { 
+    ASTnode() {
+        if (PhaseStats.ENABLED) PhaseStats.countNode();
+    }
+
     // every subclass must provide an unparse operation
     abstract public void unparse(PrintWriter p, int indent);
 
@@ -114,6 +121,19 @@ abstract class ASTnode {
     protected void doIndent(PrintWriter p, int indent) {
         for (int k=0; k<indent; k++) p.print(" ");
     }
+
+    /**
+     * Returns the kids of a list node as an unmodifiable, array-backed
+     * list with no spare capacity.  The parser's ArrayLists are trimmed
+     * and kept rather than copied, so they must not be changed afterwards.
+     */
+    protected static <T> List<T> kids(ArrayList<T> list) {
+        if (list.isEmpty()) {
+            return Collections.emptyList();
+        }
+        list.trimToSize();
+        return Collections.unmodifiableList(list);
+    }
 }
 
 // **********************************************************************
@@ -130,9 +150,11 @@ class ProgramNode extends ASTnode {
      * nameAnalysis
      * Creates an empty symbol table for the outermost scope, then processes
      * all of the globals, struct defintions, and functions in the program.
+     * The program's scopes use a ChainedSymTable so that lookups of names
+     * declared in outer scopes stay cheap however deeply blocks are nested.
      */
     public void nameAnalysis() {
-        SymTable symTab = new SymTable();
+        SymbolTable symTab = new ChainedSymTable();
         myDeclList.nameAnalysis(symTab);
     }
 
@@ -144,6 +166,24 @@ class ProgramNode extends ASTnode {
 	//System.out.println("--- Inside ProgramNode typeCheck ---");
 	return myDeclList.typeCheck();
     }
+
+    /**
+     * typeCheck (parallel)
+     * Type checks the functions of the program on a ForkJoinPool with the
+     * given parallelism; a parallelism of 1 or less checks them
+     * sequentially.  Messages are printed in the same order either way.
+     */
+    public boolean typeCheck(int parallelism) {
+        if (parallelism <= 1) {
+            return typeCheck();
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return myDeclList.typeCheck(pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
     
     public void unparse(PrintWriter p, int indent) {
         myDeclList.unparse(p, indent);
@@ -154,15 +194,15 @@ class ProgramNode extends ASTnode {
 }
 
 class DeclListNode extends ASTnode {
-    public DeclListNode(List<DeclNode> S) {
-        myDecls = S;
+    public DeclListNode(ArrayList<DeclNode> S) {
+        myDecls = kids(S);
     }
 
     /**
      * nameAnalysis
      * Given a symbol table symTab, process all of the decls in the list.
      */
-    public void nameAnalysis(SymTable symTab) {
+    public void nameAnalysis(SymbolTable symTab) {
         nameAnalysis(symTab, symTab);
     }
    
@@ -188,6 +228,68 @@ class DeclListNode extends ASTnode {
 	return result;
     }
 
+    /**
+     * typeCheck (parallel)
+     * Type check the bodies of the functions in the list on the given pool.
+     * After name analysis a function body only reads Syms that are already
+     * linked, so the bodies can be checked independently.  Each worker
+     * reports into a collector forked, in source order, from the calling
+     * thread's, so the messages come out as for the sequential typeCheck.
+     */
+    public boolean typeCheck(ForkJoinPool pool) {
+        Diagnostics diagnostics = ErrMsg.diagnostics();
+        List<FnTypeCheckTask> tasks = new ArrayList<FnTypeCheckTask>();
+        for (DeclNode node : myDecls) {
+            if (node instanceof FnDeclNode) {
+                FnTypeCheckTask task = new FnTypeCheckTask((FnDeclNode)node,
+                        diagnostics == null ? null : diagnostics.fork());
+                pool.execute(task);
+                tasks.add(task);
+            }
+        }
+
+        boolean result = true;
+        for (FnTypeCheckTask task : tasks) {
+            try {
+                if (!task.join()) {
+                    result = false;
+                }
+            } finally {
+                if (diagnostics != null) {
+                    diagnostics.join(task.diagnostics());
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Type checks one function, reporting into its own collector.
+     */
+    static class FnTypeCheckTask extends RecursiveTask<Boolean> {
+        private static final long serialVersionUID = 1L;
+        private FnDeclNode myFn;
+        private Diagnostics myDiagnostics;
+
+        FnTypeCheckTask(FnDeclNode fn, Diagnostics diagnostics) {
+            myFn = fn;
+            myDiagnostics = diagnostics;
+        }
+
+        Diagnostics diagnostics() {
+            return myDiagnostics;
+        }
+
+        protected Boolean compute() {
+            Diagnostics saved = ErrMsg.attach(myDiagnostics);
+            try {
+                return myFn.typeCheck();
+            } finally {
+                ErrMsg.attach(saved);
+            }
+        }
+    }
+
 
     /**
      * nameAnalysis
@@ -195,7 +297,7 @@ class DeclListNode extends ASTnode {
      * (for processing struct names in variable decls), process all of the 
      * decls in the list.
      */    
-    public void nameAnalysis(SymTable symTab, SymTable globalTab) {
+    public void nameAnalysis(SymbolTable symTab, SymbolTable globalTab) {
         for (DeclNode node : myDecls) {
             if (node instanceof VarDeclNode) {
                 ((VarDeclNode)node).nameAnalysis(symTab, globalTab);
@@ -222,8 +324,8 @@ class DeclListNode extends ASTnode {
 }
 
 class FormalsListNode extends ASTnode {
-    public FormalsListNode(List<FormalDeclNode> S) {
-        myFormals = S;
+    public FormalsListNode(ArrayList<FormalDeclNode> S) {
+        myFormals = kids(S);
     }
 
     /**
@@ -233,8 +335,8 @@ class FormalsListNode extends ASTnode {
      *     process the formal decl
      *     if there was no error, add type of formal decl to list
      */
-    public List<Type> nameAnalysis(SymTable symTab) {
-        List<Type> typeList = new LinkedList<Type>();
+    public List<Type> nameAnalysis(SymbolTable symTab) {
+        List<Type> typeList = new ArrayList<Type>(myFormals.size());
         for (FormalDeclNode node : myFormals) {
             Sym sym = node.nameAnalysis(symTab);
             if (sym != null) {
@@ -278,11 +380,20 @@ class FnBodyNode extends ASTnode {
      * - process the declaration list
      * - process the statement list
      */
-    public void nameAnalysis(SymTable symTab) {
+    public void nameAnalysis(SymbolTable symTab) {
         myDeclList.nameAnalysis(symTab);
         myStmtList.nameAnalysis(symTab);
     }    
     
+    /**
+     * size
+     * Return the number of statements in the body, including those in
+     * nested blocks.
+     */
+    public int size() {
+        return myStmtList.size();
+    }
+    
     public boolean typeCheck(TypeNode returnType) {
 	//System.out.println("--- Inside FnBodyNode typeCheck ---");
 	// vardecl list does not need to type checked because those
@@ -303,20 +414,33 @@ class FnBodyNode extends ASTnode {
 }
 
 class StmtListNode extends ASTnode {
-    public StmtListNode(List<StmtNode> S) {
-        myStmts = S;
+    public StmtListNode(ArrayList<StmtNode> S) {
+        myStmts = kids(S);
     }
 
     /**
      * nameAnalysis
      * Given a symbol table symTab, process each statement in the list.
      */
-    public void nameAnalysis(SymTable symTab) {
+    public void nameAnalysis(SymbolTable symTab) {
         for (StmtNode node : myStmts) {
             node.nameAnalysis(symTab);
         }
     }    
     
+    /**
+     * size
+     * Return the number of statements in the list, including those in
+     * nested blocks.
+     */
+    public int size() {
+        int n = 0;
+        for (StmtNode node : myStmts) {
+            n += node.size();
+        }
+        return n;
+    }
+
     public boolean typeCheck(TypeNode returnType) {
 	//System.out.println("--- Inside StmtListNode typeCheck ---");
         boolean rtc = true;
@@ -339,15 +463,15 @@ class StmtListNode extends ASTnode {
 }
 
 class ExpListNode extends ASTnode {
-    public ExpListNode(List<ExpNode> S) {
-        myExps = S;
+    public ExpListNode(ArrayList<ExpNode> S) {
+        myExps = kids(S);
     }
     
     /**
      * nameAnalysis
      * Given a symbol table symTab, process each exp in the list.
      */
-    public void nameAnalysis(SymTable symTab) {
+    public void nameAnalysis(SymbolTable symTab) {
         for (ExpNode node : myExps) {
             node.nameAnalysis(symTab);
         }
@@ -386,7 +510,7 @@ abstract class DeclNode extends ASTnode {
     /**
      * Note: a formal decl needs to return a sym
      */
-    abstract public Sym nameAnalysis(SymTable symTab);
+    abstract public Sym nameAnalysis(SymbolTable symTab);
 }
 
 class VarDeclNode extends DeclNode {
@@ -411,13 +535,13 @@ class VarDeclNode extends DeclNode {
      * globalTab is global symbol table (for struct type names)
      * symTab and globalTab can be the same
      */
-    public Sym nameAnalysis(SymTable symTab) {
+    public Sym nameAnalysis(SymbolTable symTab) {
         return nameAnalysis(symTab, symTab);
     }
     
-    public Sym nameAnalysis(SymTable symTab, SymTable globalTab) {
+    public Sym nameAnalysis(SymbolTable symTab, SymbolTable globalTab) {
         boolean badDecl = false;
-        String name = myId.name();
+        Name name = myId.name();
         Sym sym = null;
         IdNode structId = null;
 
@@ -517,8 +641,10 @@ class FnDeclNode extends DeclNode {
      *     process the body of the function
      *     exit scope
      */
-    public Sym nameAnalysis(SymTable symTab) {
-        String name = myId.name();
+    public Sym nameAnalysis(SymbolTable symTab) {
+        FunctionEvent event = new FunctionEvent();
+        event.begin();
+        Name name = myId.name();
         FnSym sym = null;
         
         if (symTab.lookupLocal(name) != null) {
@@ -564,17 +690,36 @@ class FnDeclNode extends DeclNode {
             System.exit(-1);
         }
         
+        commit(event, "nameAnalysis");
         return null;
     }    
     
     public boolean typeCheck() {
 	//System.out.println("--- Inside FnDeclNode typeCheck ---");
+	FunctionEvent event = new FunctionEvent();
+	event.begin();
 	
 	// Getting the return type of the function.
 	// This will be used later when type analysis on
 	// return statement is done
 	TypeNode returnType = myType;
-	return myBody.typeCheck(returnType);
+	boolean result = myBody.typeCheck(returnType);
+	commit(event, "typeCheck");
+	return result;
+    }
+
+    /**
+     * commit
+     * Record a FunctionEvent for this function, if it is being recorded.
+     */
+    private void commit(FunctionEvent event, String analysis) {
+        if (event.shouldCommit()) {
+            event.analysis = analysis;
+            event.function = myId.name().toString();
+            event.line = myId.lineNum();
+            event.bodySize = myBody.size();
+            event.commit();
+        }
     }
     
     public void unparse(PrintWriter p, int indent) {
@@ -610,8 +755,8 @@ class FormalDeclNode extends DeclNode {
      *     then issue multiply declared error message and return null
      * else add a new entry to the symbol table and return that Sym
      */
-    public Sym nameAnalysis(SymTable symTab) {
-        String name = myId.name();
+    public Sym nameAnalysis(SymbolTable symTab) {
+        Name name = myId.name();
         boolean badDecl = false;
         Sym sym = null;
         
@@ -683,8 +828,8 @@ class StructDeclNode extends DeclNode {
      * if no errors
      *     add a new entry to symbol table for this struct
      */
-    public Sym nameAnalysis(SymTable symTab) {
-        String name = myId.name();
+    public Sym nameAnalysis(SymbolTable symTab) {
+        Name name = myId.name();
         boolean badDecl = false;
         
         if (symTab.lookupLocal(name) != null) {
@@ -693,14 +838,14 @@ class StructDeclNode extends DeclNode {
             badDecl = true;            
         }
 
-        SymTable structSymTab = new SymTable();
+        SymbolTable structSymTab = new SymTable();
         
         // process the fields of the struct
         myDeclList.nameAnalysis(structSymTab, symTab);
         
         if (!badDecl) {
             try {   // add entry to symbol table
-                StructDefSym sym = new StructDefSym(structSymTab);
+                StructDefSym sym = new StructDefSym(myId, structSymTab);
                 symTab.addDecl(name, sym);
                 myId.link(sym);
             } catch (DuplicateSymException ex) {
@@ -760,7 +905,7 @@ class IntNode extends TypeNode {
      * type
      */
     public Type type() {
-        return new IntType();
+        return Type.INT;
     }
     
     public void unparse(PrintWriter p, int indent) {
@@ -776,7 +921,7 @@ class BoolNode extends TypeNode {
      * type
      */
     public Type type() {
-        return new BoolType();
+        return Type.BOOL;
     }
     
     public void unparse(PrintWriter p, int indent) {
@@ -792,7 +937,7 @@ class VoidNode extends TypeNode {
      * type
      */
     public Type type() {
-        return new VoidType();
+        return Type.VOID;
     }
     
     public void unparse(PrintWriter p, int indent) {
@@ -813,7 +958,7 @@ class StructNode extends TypeNode {
      * type
      */
     public Type type() {
-        return new StructType(myId);
+        return Type.structType(myId);
     }
     
     public void unparse(PrintWriter p, int indent) {
@@ -830,8 +975,17 @@ class StructNode extends TypeNode {
 // **********************************************************************
 
 abstract class StmtNode extends ASTnode {
-    abstract public void nameAnalysis(SymTable symTab);
+    abstract public void nameAnalysis(SymbolTable symTab);
     abstract public boolean typeCheck(TypeNode returnType);
+
+    /**
+     * size
+     * Return the number of statements this one consists of: 1, plus the
+     * statements in its blocks for if, while and repeat.
+     */
+    public int size() {
+        return 1;
+    }
 }
 
 class AssignStmtNode extends StmtNode {
@@ -843,7 +997,7 @@ class AssignStmtNode extends StmtNode {
      * nameAnalysis
      * Given a symbol table symTab, perform name analysis on this node's child
      */
-    public void nameAnalysis(SymTable symTab) {
+    public void nameAnalysis(SymbolTable symTab) {
         myAssign.nameAnalysis(symTab);
     }
     
@@ -878,7 +1032,7 @@ class PostIncStmtNode extends StmtNode {
      * nameAnalysis
      * Given a symbol table symTab, perform name analysis on this node's child
      */
-    public void nameAnalysis(SymTable symTab) {
+    public void nameAnalysis(SymbolTable symTab) {
         myExp.nameAnalysis(symTab);
     }
     
@@ -917,7 +1071,7 @@ class PostDecStmtNode extends StmtNode {
      * nameAnalysis
      * Given a symbol table symTab, perform name analysis on this node's child
      */
-    public void nameAnalysis(SymTable symTab) {
+    public void nameAnalysis(SymbolTable symTab) {
         myExp.nameAnalysis(symTab);
     }
     
@@ -956,7 +1110,7 @@ class ReadStmtNode extends StmtNode {
      * nameAnalysis
      * Given a symbol table symTab, perform name analysis on this node's child
      */
-    public void nameAnalysis(SymTable symTab) {
+    public void nameAnalysis(SymbolTable symTab) {
         myExp.nameAnalysis(symTab);
     }    
     
@@ -1012,7 +1166,7 @@ class WriteStmtNode extends StmtNode {
      * nameAnalysis
      * Given a symbol table symTab, perform name analysis on this node's child
      */
-    public void nameAnalysis(SymTable symTab) {
+    public void nameAnalysis(SymbolTable symTab) {
         myExp.nameAnalysis(symTab);
     }
     
@@ -1081,7 +1235,7 @@ class IfStmtNode extends StmtNode {
      * - process the decls and stmts
      * - exit the scope
      */
-    public void nameAnalysis(SymTable symTab) {
+    public void nameAnalysis(SymbolTable symTab) {
         myExp.nameAnalysis(symTab);
         symTab.addScope();
         myDeclList.nameAnalysis(symTab);
@@ -1095,6 +1249,10 @@ class IfStmtNode extends StmtNode {
         }
     }
     
+    public int size() {
+        return 1 + myStmtList.size();
+    }
+
     public boolean typeCheck(TypeNode returnType) {
 	//System.out.println("--- Inside IfStmtNode typeCheck ---");
 	Type type = myExp.typeCheck();
@@ -1154,7 +1312,7 @@ class IfElseStmtNode extends StmtNode {
      * - process the decls and stmts of else
      * - exit the scope
      */
-    public void nameAnalysis(SymTable symTab) {
+    public void nameAnalysis(SymbolTable symTab) {
         myExp.nameAnalysis(symTab);
         symTab.addScope();
         myThenDeclList.nameAnalysis(symTab);
@@ -1178,6 +1336,10 @@ class IfElseStmtNode extends StmtNode {
         }
     }
     
+    public int size() {
+        return 1 + myThenStmtList.size() + myElseStmtList.size();
+    }
+
     public boolean typeCheck(TypeNode returnType) {
 	//System.out.println("--- Inside IfElseStmtNode typeCheck ---");
 	Type type = myExp.typeCheck();
@@ -1237,7 +1399,7 @@ class WhileStmtNode extends StmtNode {
      * - process the decls and stmts
      * - exit the scope
      */
-    public void nameAnalysis(SymTable symTab) {
+    public void nameAnalysis(SymbolTable symTab) {
         myExp.nameAnalysis(symTab);
         symTab.addScope();
         myDeclList.nameAnalysis(symTab);
@@ -1251,6 +1413,10 @@ class WhileStmtNode extends StmtNode {
         }
     }
     
+    public int size() {
+        return 1 + myStmtList.size();
+    }
+
     public boolean typeCheck(TypeNode returnType) {
 	//System.out.println("--- Inside WhileStmtNode typeCheck ---");
 	Type type = myExp.typeCheck();
@@ -1299,7 +1465,7 @@ class RepeatStmtNode extends StmtNode {
      * - process the decls and stmts
      * - exit the scope
      */
-    public void nameAnalysis(SymTable symTab) {
+    public void nameAnalysis(SymbolTable symTab) {
         myExp.nameAnalysis(symTab);
         symTab.addScope();
         myDeclList.nameAnalysis(symTab);
@@ -1313,6 +1479,10 @@ class RepeatStmtNode extends StmtNode {
         }
     }
 
+    public int size() {
+        return 1 + myStmtList.size();
+    }
+
     public boolean typeCheck(TypeNode returnType) {
 	//System.out.println("--- Inside RepeatStmtNode typeCheck ---");
 	IdNode idnode = myExp.getIdNode();
@@ -1360,7 +1530,7 @@ class CallStmtNode extends StmtNode {
      * nameAnalysis
      * Given a symbol table symTab, perform name analysis on this node's child
      */
-    public void nameAnalysis(SymTable symTab) {
+    public void nameAnalysis(SymbolTable symTab) {
         myCall.nameAnalysis(symTab);
     }
 
@@ -1396,7 +1566,7 @@ class ReturnStmtNode extends StmtNode {
      * Given a symbol table symTab, perform name analysis on this node's child,
      * if it has one
      */
-    public void nameAnalysis(SymTable symTab) {
+    public void nameAnalysis(SymbolTable symTab) {
         if (myExp != null) {
             myExp.nameAnalysis(symTab);
         }
@@ -1423,7 +1593,7 @@ class ReturnStmtNode extends StmtNode {
 		rtc = false;
 	    } else {
 		// Checking the type of function and return type
-		if (type.toString().equals(rType.toString())) {
+		if (type.equals(rType)) {
 		    rtc = true;
 		} else {
 		    idnode.setIdNodeError("Bad return value");
@@ -1457,14 +1627,63 @@ abstract class ExpNode extends ASTnode {
     /**
      * Default version for nodes with no names
      */
-    public void nameAnalysis(SymTable symTab) { }
-    abstract public Type typeCheck();
-    //public Type typeCheck() { 
-    //    System.out.println("If you are seeing this message. Find a better way to declare this method in ExpNode class such that other classes can override it.");
-    //    return new IntType(); 
-    //};    
-    //abstract public Type typeCheck();
+    public void nameAnalysis(SymbolTable symTab) { }
+
+    /**
+     * typeCheck
+     * Returns the type of this expression.  The type (and any errors in the
+     * expression) is computed by computeType the first time it is asked
+     * for; later calls return the cached type, so each subtree is checked
+     * exactly once however many times its parents ask for its type.
+     */
+    public final Type typeCheck() {
+        Type type = myType;
+        if (type != null) {
+            cacheHits.increment();
+            return type;
+        }
+        cacheMisses.increment();
+        type = computeType();
+        myType = type;
+        return type;
+    }
+
+    /**
+     * Every subclass must provide a computeType method that type checks
+     * this node and its children and returns the resulting type.
+     */
+    abstract protected Type computeType();
+
+    /**
+     * Forget the cached type, e.g. because a name in this node was relinked.
+     */
+    protected void invalidateType() {
+        myType = null;
+    }
+
     abstract public IdNode getIdNode();
+
+    /**
+     * Number of typeCheck calls answered from the cache, and number that
+     * had to call computeType, since the last resetTypeCacheCounts.
+     */
+    public static long typeCacheHits() {
+        return cacheHits.sum();
+    }
+
+    public static long typeCacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    public static void resetTypeCacheCounts() {
+        cacheHits.reset();
+        cacheMisses.reset();
+    }
+
+    private Type myType;  // cached result of computeType, or null
+
+    private static final LongAdder cacheHits = new LongAdder();
+    private static final LongAdder cacheMisses = new LongAdder();
 }
 
 class IntLitNode extends ExpNode {
@@ -1478,9 +1697,9 @@ class IntLitNode extends ExpNode {
         p.print(myIntVal);
     }
 
-    public Type typeCheck() {
+    protected Type computeType() {
 	//System.out.println("--- Inside IntLitNode typeCheck ---");
-	return new IntType();
+	return Type.INT;
     }
    
     public IdNode getIdNode() {
@@ -1489,7 +1708,7 @@ class IntLitNode extends ExpNode {
 	
 	// Creating the symbol for the idnode and linking
 	// it to the id
-	Sym sym = new Sym(new IntType());
+	Sym sym = new Sym(Type.INT);
 	idnode.link(sym);
 	return idnode;
     }
@@ -1510,9 +1729,9 @@ class StringLitNode extends ExpNode {
         p.print(myStrVal);
     }
 
-    public Type typeCheck() {
+    protected Type computeType() {
 	//System.out.println("--- Inside StringLitNode typeCheck ---");
-	return new StringType();
+	return Type.STRING;
     }
     
     public IdNode getIdNode() {
@@ -1521,7 +1740,7 @@ class StringLitNode extends ExpNode {
 	
 	// Creating the symbol for the idnode and linking
 	// it to the id
-	Sym sym = new Sym(new StringType());
+	Sym sym = new Sym(Type.STRING);
 	idnode.link(sym);
 	return idnode;
     }
@@ -1541,9 +1760,9 @@ class TrueNode extends ExpNode {
         p.print("true");
     }
 
-    public Type typeCheck() {
+    protected Type computeType() {
 	//System.out.println("--- Inside TrueNode typeCheck ---");
-	return new BoolType();
+	return Type.BOOL;
     }
     
     public IdNode getIdNode() {
@@ -1552,7 +1771,7 @@ class TrueNode extends ExpNode {
 	
 	// Creating the symbol for the idnode and linking
 	// it to the id
-	Sym sym = new Sym(new BoolType());
+	Sym sym = new Sym(Type.BOOL);
 	idnode.link(sym);
 	return idnode;
     }
@@ -1571,9 +1790,9 @@ class FalseNode extends ExpNode {
         p.print("false");
     }
 
-    public Type typeCheck() {
+    protected Type computeType() {
 	//System.out.println("--- Inside FalseNode typeCheck ---");
-	return new BoolType();
+	return Type.BOOL;
     }
     
     public IdNode getIdNode() {
@@ -1582,7 +1801,7 @@ class FalseNode extends ExpNode {
 	
 	// Creating the symbol for the idnode and linking
 	// it to the id
-	Sym sym = new Sym(new BoolType());
+	Sym sym = new Sym(Type.BOOL);
 	idnode.link(sym);
 	return idnode;
     }
@@ -1592,10 +1811,18 @@ class FalseNode extends ExpNode {
 }
 
 class IdNode extends ExpNode {
-    public IdNode(int lineNum, int charNum, String strVal) {
+    public IdNode(int lineNum, int charNum, Name name) {
         myLineNum = lineNum;
         myCharNum = charNum;
-        myStrVal = strVal;
+        myName = name;
+    }
+
+    /**
+     * An ID made up by the compiler (e.g. by getIdNode) that is never
+     * declared or looked up.
+     */
+    public IdNode(int lineNum, int charNum, String strVal) {
+        this(lineNum, charNum, new Name(strVal));
     }
 
     /**
@@ -1603,18 +1830,17 @@ class IdNode extends ExpNode {
      */
     public void link(Sym sym) {
         mySym = sym;
+        invalidateType();
     }
     
-    public Type typeCheck() {
+    protected Type computeType() {
 	//System.out.println("--- Inside IdNode typeCheck ---");
 	if (mySym != null) {
 	    return mySym.getType();
 	} 
-	else {
-	    System.err.println("ID with null sym field in IdNode.typeCheck " + myLineNum);
-	    System.exit(-1);
-	}
-	return null;
+	// the ID is undeclared (or a bad field name), which name analysis
+	// has already reported
+	return Type.ERROR;
 
 	//return mySym.getType();
     }
@@ -1622,8 +1848,8 @@ class IdNode extends ExpNode {
     /**
      * Return the name of this ID.
      */
-    public String name() {
-	return myStrVal;
+    public Name name() {
+	return myName;
     }
 
     /**
@@ -1663,8 +1889,8 @@ class IdNode extends ExpNode {
      * - check for use of undeclared name
      * - if ok, link to symbol table entry
      */
-    public void nameAnalysis(SymTable symTab) {
-	Sym sym = symTab.lookupGlobal(myStrVal);
+    public void nameAnalysis(SymbolTable symTab) {
+	Sym sym = symTab.lookupGlobal(myName);
 	if (sym == null) {
 	    ErrMsg.fatal(myLineNum, myCharNum, "Undeclared identifier");
 	} else {
@@ -1673,7 +1899,7 @@ class IdNode extends ExpNode {
     }
 
     public void unparse(PrintWriter p, int indent) {
-	p.print(myStrVal);
+	p.print(myName);
 	if (mySym != null) {
 	    p.print("(" + mySym + ")");
 	}
@@ -1681,7 +1907,7 @@ class IdNode extends ExpNode {
 
     private int myLineNum;
     private int myCharNum;
-    private String myStrVal;
+    private Name myName;
     private Sym mySym;
 }
 
@@ -1693,7 +1919,7 @@ class DotAccessExpNode extends ExpNode {
     }
 
     // TODO: Structs
-    public Type typeCheck() {
+    protected Type computeType() {
 	//System.out.println("--- Inside DotAccessExpNode typeCheck ---");
 	//System.out.println(myId.name());
 	//System.out.println(myId.sym().getType()) ;
@@ -1733,9 +1959,11 @@ class DotAccessExpNode extends ExpNode {
      *   a dot-access "higher up" in the AST can get access to the symbol
      *   table for the appropriate struct definition
      */
-    public void nameAnalysis(SymTable symTab) {
+    public void nameAnalysis(SymbolTable symTab) {
+	DotAccessEvent event = new DotAccessEvent();
+	event.begin();
 	badAccess = false;
-	SymTable structSymTab = null; // to lookup RHS of dot-access
+	SymbolTable structSymTab = null; // to lookup RHS of dot-access
 	Sym sym = null;
 
 	myLoc.nameAnalysis(symTab);  // do name analysis on LHS
@@ -1817,6 +2045,25 @@ class DotAccessExpNode extends ExpNode {
 		}
 	    }
 	}
+
+	if (event.shouldCommit() && DotAccessEvent.sample()) {
+	    event.field = myId.name().toString();
+	    event.chainLength = chainLength();
+	    event.line = myId.lineNum();
+	    event.commit();
+	}
+    }
+
+    /**
+     * Return the number of dots in this location.
+     */
+    private int chainLength() {
+	int n = 1;
+	for (ExpNode loc = myLoc; loc instanceof DotAccessExpNode;
+	     loc = ((DotAccessExpNode)loc).myLoc) {
+	    n++;
+	}
+	return n;
     }    
 
     public IdNode getIdNode() {
@@ -1847,12 +2094,12 @@ class AssignNode extends ExpNode {
      * Given a symbol table symTab, perform name analysis on this node's 
      * two children
      */
-    public void nameAnalysis(SymTable symTab) {
+    public void nameAnalysis(SymbolTable symTab) {
 	myLhs.nameAnalysis(symTab);
 	myExp.nameAnalysis(symTab);
     }
 
-    public Type typeCheck() {
+    protected Type computeType() {
 	//System.out.println("--- Inside AssignNode typeCheck ---");
 	Type lType = myLhs.typeCheck();
 	Type rType = myExp.typeCheck();
@@ -1862,32 +2109,32 @@ class AssignNode extends ExpNode {
 	if (lType instanceof FnType && rType instanceof FnType) {
 	    idnode.setIdNodeError("Function assignment");
 	    rtc = false;
-	    return new ErrorType();
+	    return Type.ERROR;
 	}
 
 	if (lType instanceof StructDefType && rType instanceof StructDefType) {
 	    idnode.setIdNodeError("Struct name assignment");
 	    rtc = false;
-	    return new ErrorType();
+	    return Type.ERROR;
 	}
 
 	if (lType instanceof StructType && rType instanceof StructType) {
 	    idnode.setIdNodeError("Struct variable assignment");
 	    rtc = false;
-	    return new ErrorType();
+	    return Type.ERROR;
 	}
 
 	if (lType instanceof ErrorType || rType instanceof ErrorType) {
 	    rtc = false;
-	    return new ErrorType();
+	    return Type.ERROR;
 	} else {
-	    if (lType.toString().equals(rType.toString())) {
+	    if (lType.equals(rType)) {
 		rtc = true;
 		return lType; // Can return either lType or rType
 	    } else {
 		idnode.setIdNodeError("Type mismatch");
 		rtc = false;
-		return new ErrorType();
+		return Type.ERROR;
 	    }
 	}
 
@@ -1918,39 +2165,38 @@ class CallExpNode extends ExpNode {
 
     public CallExpNode(IdNode name) {
 	myId = name;
-	myExpList = new ExpListNode(new LinkedList<ExpNode>());
+	myExpList = new ExpListNode(new ArrayList<ExpNode>(0));
     }
 
-    public Type typeCheck() {
+    protected Type computeType() {
 	//System.out.println("--- Inside CallExpNode typeCheck ---");
 
 	// Getting the type of the function
-	Type type = myId.sym().getType();
+	Type type = myId.typeCheck();
 	boolean rtc = true;
 
 	// Checking if id is a valid function
-	if (!(type instanceof FnType)) {
+	if (type instanceof ErrorType) {
+	    // undeclared function, already reported by name analysis
+	    rtc = false;
+	} else if (!(type instanceof FnType)) {
 	    myId.setIdNodeError("Attempt to call a non-function");
 	    rtc = false;
 	} else { // valid function found
-	    // Getting the params for this function from sym table
-	    List<Type> paramsList = ((FnSym)(myId.sym())).getParamTypes();
+	    // Getting the parameter signature for this function from sym table
+	    int[] paramSig = ((FnSym)(myId.sym())).getParamSignature();
 	    List<ExpNode> expList = myExpList.getList();
 
-	    //System.out.println("size of explist: " + expList.size());
-	    //System.out.println("size of params: " + paramsList.size());
-
 	    // Checking if the # of args are same
-	    if (expList.size() != paramsList.size()) {
+	    if (expList.size() != paramSig.length) {
 		rtc = false;
 		myId.setIdNodeError("Function call with wrong number of args");
 	    } else { // args are same
-		for (int i = 0; i < expList.size(); i++) {
-		    //System.out.println("param: " + paramsList.get(i).toString() + " exp: " + expList.get(i).typeCheck().toString());
-		    String param = paramsList.get(i).toString();
-		    String formal = expList.get(i).typeCheck().toString();
-		    if (!param.equals(formal)) {
-			IdNode idnode = expList.get(i).getIdNode();
+		int i = 0;
+		for (ExpNode exp : expList) {
+		    // types are interned, so comparing ids compares types
+		    if (exp.typeCheck().id() != paramSig[i++]) {
+			IdNode idnode = exp.getIdNode();
 			idnode.setIdNodeError("Type of actual does not match type of formal");
 			rtc = false;
 		    }
@@ -1964,7 +2210,7 @@ class CallExpNode extends ExpNode {
 	if (rtc) {
 	    return ((FnSym)(myId.sym())).getReturnType();
 	} else {
-	    return new ErrorType();
+	    return Type.ERROR;
 	}
     }
 
@@ -1973,7 +2219,7 @@ class CallExpNode extends ExpNode {
      * Given a symbol table symTab, perform name analysis on this node's 
      * two children
      */
-    public void nameAnalysis(SymTable symTab) {
+    public void nameAnalysis(SymbolTable symTab) {
 	myId.nameAnalysis(symTab);
 	myExpList.nameAnalysis(symTab);
     }    
@@ -2007,7 +2253,7 @@ abstract class UnaryExpNode extends ExpNode {
      * nameAnalysis
      * Given a symbol table symTab, perform name analysis on this node's child
      */
-    public void nameAnalysis(SymTable symTab) {
+    public void nameAnalysis(SymbolTable symTab) {
 	myExp.nameAnalysis(symTab);
     }
 
@@ -2030,7 +2276,7 @@ abstract class BinaryExpNode extends ExpNode {
      * Given a symbol table symTab, perform name analysis on this node's 
      * two children
      */
-    public void nameAnalysis(SymTable symTab) {
+    public void nameAnalysis(SymbolTable symTab) {
 	myExp1.nameAnalysis(symTab);
 	myExp2.nameAnalysis(symTab);
     }
@@ -2080,9 +2326,9 @@ abstract class BinaryExpNode extends ExpNode {
 
 	if (rtc) {
 	    // Result of solving inequalities is bool
-	    return new BoolType();
+	    return Type.BOOL;
 	} else {
-	    return new ErrorType();
+	    return Type.ERROR;
 	}
     }
 
@@ -2125,9 +2371,9 @@ abstract class BinaryExpNode extends ExpNode {
 
 	if (rtc) {
 	    // Result of solving inequalities is Int
-	    return new IntType();
+	    return Type.INT;
 	} else {
-	    return new ErrorType();
+	    return Type.ERROR;
 	}
     }
 
@@ -2170,9 +2416,9 @@ abstract class BinaryExpNode extends ExpNode {
 
 	if (rtc) {
 	    // Result of solving and, or is Bool
-	    return new BoolType();
+	    return Type.BOOL;
 	} else {
-	    return new ErrorType();
+	    return Type.ERROR;
 	}
     }
 
@@ -2215,14 +2461,14 @@ abstract class BinaryExpNode extends ExpNode {
 	}
 
 	if (rtc) {
-	    if (lType.toString().equals(rType.toString())) {
-		return new BoolType();
+	    if (lType.equals(rType)) {
+		return Type.BOOL;
 	    } else {
 		idnode.setIdNodeError("Type mismatch");
-		return new ErrorType();
+		return Type.ERROR;
 	    }
 	} else {
-	    return new ErrorType();
+	    return Type.ERROR;
 	}
     }
     // two kids
@@ -2239,7 +2485,7 @@ class UnaryMinusNode extends UnaryExpNode {
 	super(exp);
     }
 
-    public Type typeCheck() {
+    protected Type computeType() {
 	//System.out.println("--- Inside UnaryMinusNode typeCheck ---");
 	Type type = myExp.typeCheck();
 	IdNode idnode = myExp.getIdNode();
@@ -2257,9 +2503,9 @@ class UnaryMinusNode extends UnaryExpNode {
 
 	// Returning the correct type
 	if (rtc) {
-	    return new IntType(); 
+	    return Type.INT; 
 	} else {
-	    return new ErrorType();
+	    return Type.ERROR;
 	}
     }
 
@@ -2275,7 +2521,7 @@ class NotNode extends UnaryExpNode {
 	super(exp);
     }
 
-    public Type typeCheck() {
+    protected Type computeType() {
 	//System.out.println("--- Inside NotNode typeCheck ---");
 	Type type = myExp.typeCheck();
 	IdNode idnode = myExp.getIdNode();
@@ -2293,9 +2539,9 @@ class NotNode extends UnaryExpNode {
 
 	// Returning the correct type
 	if (rtc) {
-	    return new BoolType(); 
+	    return Type.BOOL; 
 	} else {
-	    return new ErrorType();
+	    return Type.ERROR;
 	}
     }
 
@@ -2315,7 +2561,7 @@ class PlusNode extends BinaryExpNode {
 	super(exp1, exp2);
     }
 
-    public Type typeCheck() {
+    protected Type computeType() {
 	//System.out.println("--- Inside PlusNode typeCheck ---");
 	return checkMathOperators(myExp1, myExp2);
     }
@@ -2334,7 +2580,7 @@ class MinusNode extends BinaryExpNode {
 	super(exp1, exp2);
     }
 
-    public Type typeCheck() {
+    protected Type computeType() {
 	//System.out.println("--- Inside MinusNode typeCheck ---");
 	return checkMathOperators(myExp1, myExp2);
     }
@@ -2353,7 +2599,7 @@ class TimesNode extends BinaryExpNode {
 	super(exp1, exp2);
     }
 
-    public Type typeCheck() {
+    protected Type computeType() {
 	//System.out.println("--- Inside TimesNode typeCheck ---");
 	return checkMathOperators(myExp1, myExp2);
     }
@@ -2372,7 +2618,7 @@ class DivideNode extends BinaryExpNode {
 	super(exp1, exp2);
     }
 
-    public Type typeCheck() {
+    protected Type computeType() {
 	//System.out.println("--- Inside DivideNode typeCheck ---");
 	return checkMathOperators(myExp1, myExp2);
     }
@@ -2391,7 +2637,7 @@ class AndNode extends BinaryExpNode {
 	super(exp1, exp2);
     }
 
-    public Type typeCheck() {
+    protected Type computeType() {
 	//System.out.println("--- Inside AndNode typeCheck ---");
 	return checkBinaryBoolOp(myExp1, myExp2);
     }
@@ -2410,7 +2656,7 @@ class OrNode extends BinaryExpNode {
 	super(exp1, exp2);
     }
 
-    public Type typeCheck() {
+    protected Type computeType() {
 	//System.out.println("--- Inside OrNode typeCheck ---");
 	return checkBinaryBoolOp(myExp1, myExp2);
     }
@@ -2429,7 +2675,7 @@ class EqualsNode extends BinaryExpNode {
 	super(exp1, exp2);
     }
 
-    public Type typeCheck() {
+    protected Type computeType() {
 	//System.out.println("--- Inside EqualsNode typeCheck ---");
 	return checkEqualsOp(myExp1, myExp2);
     }
@@ -2448,7 +2694,7 @@ class NotEqualsNode extends BinaryExpNode {
 	super(exp1, exp2);
     }
 
-    public Type typeCheck() {
+    protected Type computeType() {
 	//System.out.println("--- Inside NotEqualsNode typeCheck ---");
 	//return new IntType();
 	return checkEqualsOp(myExp1, myExp2);
@@ -2469,7 +2715,7 @@ class LessNode extends BinaryExpNode {
 	super(exp1, exp2);
     }
 
-    public Type typeCheck() {
+    protected Type computeType() {
 	//System.out.println("--- Inside LessNode typeCheck ---");
 	return checkInEqualities(myExp1, myExp2);
     }
@@ -2488,7 +2734,7 @@ class GreaterNode extends BinaryExpNode {
 	super(exp1, exp2);
     }
 
-    public Type typeCheck() {
+    protected Type computeType() {
 	//System.out.println("--- Inside GreaterNode typeCheck ---");
 	//System.out.println(myExp1);
 	//System.out.println(myExp2);
@@ -2509,7 +2755,7 @@ class LessEqNode extends BinaryExpNode {
 	super(exp1, exp2);
     }
 
-    public Type typeCheck() {
+    protected Type computeType() {
 	//System.out.println("--- Inside LessEqNode typeCheck ---");
 	return checkInEqualities(myExp1, myExp2);
     }
@@ -2528,7 +2774,7 @@ class GreaterEqNode extends BinaryExpNode {
 	super(exp1, exp2);
     }
 
-    public Type typeCheck() {
+    protected Type computeType() {
 	//System.out.println("--- Inside GreaterEqNode typeCheck ---");
 	//System.out.println(myExp1);
 	//System.out.println(myExp2);
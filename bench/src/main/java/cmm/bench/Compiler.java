@@ -0,0 +1,123 @@
+package cmm.bench;
+
+import java.io.*;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java_cup.runtime.Scanner;
+import java_cup.runtime.Symbol;
+
+/**
+ * Entry points into the compiler's phases.
+ *
+ * The compiler's classes live in the unnamed package, which cannot be
+ * imported, and JMH does not accept benchmarks in the unnamed package.  The
+ * classes are therefore reached through method handles, which the JIT
+ * inlines like ordinary calls once they are held in static finals.
+ */
+final class Compiler {
+    private static final MethodHandle NEW_YYLEX;
+    private static final MethodHandle NEW_PARSER;
+    private static final MethodHandle NAME_ANALYSIS;
+    private static final MethodHandle TYPE_CHECK;
+    private static final MethodHandle UNPARSE;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            Class<?> yylex = Class.forName("Yylex");
+            Class<?> parser = Class.forName("parser");
+            Class<?> program = Class.forName("ProgramNode");
+
+            NEW_YYLEX = lookup.unreflectConstructor(
+                accessible(yylex.getDeclaredConstructor(Reader.class)))
+                .asType(MethodType.methodType(Scanner.class, Reader.class));
+            NEW_PARSER = lookup.unreflectConstructor(
+                accessible(parser.getConstructor(Scanner.class)))
+                .asType(MethodType.methodType(
+                    java_cup.runtime.lr_parser.class, Scanner.class));
+            NAME_ANALYSIS = lookup.unreflect(
+                accessible(program.getMethod("nameAnalysis")))
+                .asType(MethodType.methodType(void.class, Object.class));
+            TYPE_CHECK = lookup.unreflect(
+                accessible(program.getMethod("typeCheck")))
+                .asType(MethodType.methodType(boolean.class, Object.class));
+            UNPARSE = lookup.unreflect(
+                accessible(program.getMethod("unparse", PrintWriter.class,
+                                             int.class)))
+                .asType(MethodType.methodType(void.class, Object.class,
+                                              PrintWriter.class, int.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private Compiler() {
+    }
+
+    private static <T extends AccessibleObject> T accessible(T member) {
+        member.setAccessible(true);
+        return member;
+    }
+
+    /**
+     * A new scanner (Yylex) for the given source.
+     */
+    static Scanner scanner(Reader source) {
+        try {
+            return (Scanner)NEW_YYLEX.invokeExact(source);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * Parse the tokens delivered by the scanner.
+     * @return the root of the AST (a ProgramNode)
+     */
+    static Object parse(Scanner scanner) {
+        try {
+            java_cup.runtime.lr_parser p =
+                (java_cup.runtime.lr_parser)NEW_PARSER.invokeExact(scanner);
+            Symbol root = p.parse();
+            return root.value;
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static void nameAnalysis(Object program) {
+        try {
+            NAME_ANALYSIS.invokeExact(program);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static boolean typeCheck(Object program) {
+        try {
+            return (boolean)TYPE_CHECK.invokeExact(program);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    static void unparse(Object program, PrintWriter out) {
+        try {
+            UNPARSE.invokeExact(program, out, 0);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException) {
+            return (RuntimeException)t;
+        }
+        if (t instanceof Error) {
+            throw (Error)t;
+        }
+        return new RuntimeException(t);
+    }
+}
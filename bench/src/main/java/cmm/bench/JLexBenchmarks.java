@@ -0,0 +1,141 @@
+package cmm.bench;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for JLex generating scanners for large sets of keywords and
+ * operators, with the default (Hopcroft) minimization of the DFA, with
+ * the classic one (-classic-minimize), and with the DFA's transitions
+ * found on all processors (-parallel).
+ *
+ * The setup generates each spec once in each mode and fails unless the
+ * scanners are byte for byte the same: both minimizers number the states
+ * they keep in the same order, so on these specs the minimized tables
+ * must agree, and -parallel only changes how the DFA is found.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JLexBenchmarks {
+    @Param({"50", "300"})
+    public int keywords;
+
+    @Param({"20", "100"})
+    public int operators;
+
+    @Param({"1"})
+    public long seed;
+
+    private Path dir;
+    private Path spec;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("jlex-bench");
+        spec = dir.resolve("keywords.jlex");
+        Files.write(spec, spec(keywords, operators, seed).getBytes("UTF-8"));
+        byte[] hopcroft = generate();
+        byte[] classic = generate("-classic-minimize");
+        if (!Arrays.equals(hopcroft, classic)) {
+            throw new IllegalStateException(
+                "minimized tables differ for " + keywords + " keywords, "
+                + operators + " operators");
+        }
+        if (!Arrays.equals(hopcroft, generate("-parallel"))) {
+            throw new IllegalStateException(
+                "-parallel changes the scanner for " + keywords
+                + " keywords, " + operators + " operators");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(dir.resolve("keywords.jlex.java"));
+        Files.deleteIfExists(spec);
+        Files.deleteIfExists(dir);
+    }
+
+    @Benchmark
+    public int hopcroft() throws IOException {
+        return generate().length;
+    }
+
+    @Benchmark
+    public int classic() throws IOException {
+        return generate("-classic-minimize").length;
+    }
+
+    @Benchmark
+    public int parallel() throws IOException {
+        return generate("-parallel").length;
+    }
+
+    /**
+     * Run JLex on the spec, without its progress messages, and return the
+     * scanner it wrote.
+     */
+    private byte[] generate(String... options) throws IOException {
+        String[] args = Arrays.copyOf(options, options.length + 1);
+        args[options.length] = spec.toString();
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        try {
+            JLex.Main.main(args);
+        } finally {
+            System.setOut(out);
+        }
+        return Files.readAllBytes(dir.resolve("keywords.jlex.java"));
+    }
+
+    /**
+     * Return a JLex spec with the given numbers of (distinct, random)
+     * keywords and operators, each its own token, plus identifiers,
+     * integers and white space.
+     */
+    static String spec(int keywords, int operators, long seed) {
+        Random random = new Random(seed);
+        Set<String> words = new TreeSet<String>();
+        while (words.size() < keywords) {
+            words.add(word(random, "abcdefghijklmnopqrstuvwxyz", 2, 10));
+        }
+        Set<String> ops = new TreeSet<String>();
+        while (ops.size() < operators) {
+            ops.add(word(random, "+-*/<>=!&|^%~:?@", 1, 4));
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("import java_cup.runtime.*;\n%%\n%cup\n%line\n%%\n");
+        int token = 0;
+        for (String w : words) {
+            sb.append('"').append(w).append("\" { return new Symbol(")
+              .append(++token).append("); }\n");
+        }
+        for (String op : ops) {
+            sb.append('"').append(op).append("\" { return new Symbol(")
+              .append(++token).append("); }\n");
+        }
+        sb.append("[a-zA-Z_][a-zA-Z0-9_]* { return new Symbol(")
+          .append(++token).append("); }\n");
+        sb.append("[0-9]+ { return new Symbol(")
+          .append(++token).append("); }\n");
+        sb.append("[ \\t\\n]+ { }\n");
+        sb.append(". { }\n");
+        return sb.toString();
+    }
+
+    private static String word(Random random, String chars, int min,
+                               int max) {
+        int len = min + random.nextInt(max - min + 1);
+        StringBuilder sb = new StringBuilder(len);
+        for (int i = 0; i < len; i++) {
+            sb.append(chars.charAt(random.nextInt(chars.length())));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,160 @@
+package cmm.bench;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java_cup.runtime.Scanner;
+import java_cup.runtime.Symbol;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for each phase of P5.process() in isolation:
+ * scanning (Yylex.next_token), parsing (parser.parse, fed from a
+ * pre-scanned token list), name analysis, type checking and unparsing.
+ *
+ * Each phase is run over generated programs (see ProgramGenerator) of
+ * several sizes, with a fixed seed so that runs are comparable.  Run with
+ * -prof gc to get the allocation rate of each phase.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PhaseBenchmarks {
+    @Param({"10", "100", "1000"})
+    public int functions;
+
+    @Param({"0"})
+    public double errorDensity;
+
+    @Param({"1"})
+    public long seed;
+
+    private String source;
+    private List<Symbol> tokens;
+    private Object program;  // ProgramNode, name analyzed
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ProgramGenerator gen = new ProgramGenerator(seed);
+        gen.setFunctions(functions);
+        gen.setErrorDensity(errorDensity);
+        source = gen.generate();
+        tokens = new ArrayList<Symbol>();
+        Scanner scanner = Compiler.scanner(new StringReader(source));
+        Symbol token;
+        do {
+            token = nextToken(scanner);
+            tokens.add(token);
+        } while (token.sym != 0);  // sym.EOF
+        program = Compiler.parse(Compiler.scanner(new StringReader(source)));
+        Compiler.nameAnalysis(program);
+    }
+
+    @Benchmark
+    public int scan() {
+        Scanner scanner = Compiler.scanner(new StringReader(source));
+        int count = 0;
+        while (nextToken(scanner).sym != 0) {
+            count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public Object parse() {
+        return Compiler.parse(new Replay(tokens));
+    }
+
+    @Benchmark
+    public Object nameAnalysis() {
+        // name analysis rebuilds the symbol tables and relinks every
+        // IdNode, so it can be repeated on the same tree
+        Compiler.nameAnalysis(program);
+        return program;
+    }
+
+    @Benchmark
+    public void unparse(Blackhole bh) {
+        PrintWriter out = new PrintWriter(new BlackholeWriter(bh));
+        Compiler.unparse(program, out);
+        out.flush();
+    }
+
+    /**
+     * Type checking caches the type of every expression, so each
+     * invocation needs a tree that has not been type checked yet.
+     */
+    @State(Scope.Thread)
+    public static class FreshTree {
+        Object program;
+
+        @Setup(Level.Invocation)
+        public void setUp(PhaseBenchmarks b) {
+            program = Compiler.parse(new Replay(b.tokens));
+            Compiler.nameAnalysis(program);
+        }
+    }
+
+    @Benchmark
+    public boolean typeCheck(FreshTree tree) {
+        return Compiler.typeCheck(tree.program);
+    }
+
+    private static Symbol nextToken(Scanner scanner) {
+        try {
+            return scanner.next_token();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Replays scanned tokens to the parser.  The parser marks the Symbols
+     * it has used and rejects them if they come round again, so each
+     * token is delivered as a fresh copy (which costs one small
+     * allocation per token).
+     */
+    private static class Replay implements Scanner {
+        private final List<Symbol> tokens;
+        private int next;
+
+        Replay(List<Symbol> tokens) {
+            this.tokens = tokens;
+        }
+
+        public Symbol next_token() {
+            Symbol s = tokens.get(next++);
+            return new Symbol(s.sym, s.left, s.right, s.value);
+        }
+    }
+
+    /**
+     * Hands everything written to it to a Blackhole.
+     */
+    private static class BlackholeWriter extends Writer {
+        private final Blackhole bh;
+
+        BlackholeWriter(Blackhole bh) {
+            this.bh = bh;
+        }
+
+        public void write(char[] cbuf, int off, int len) {
+            bh.consume(cbuf);
+            bh.consume(len);
+        }
+
+        public void write(String str, int off, int len) {
+            bh.consume(str);
+        }
+
+        public void flush() {
+        }
+
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,748 @@
+package cmm.bench;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Generator of synthetic C-- programs for load testing.
+ *
+ * The programs follow the grammar in cminusminus.cup and, with no errors
+ * asked for, pass name analysis and type checking.  The shape of the
+ * program is set by
+ *    functions     number of functions
+ *    structDepth   number of struct definitions, each (after the first)
+ *                  with a field of the one before it
+ *    dotChain      longest chain of dot-accesses (at most structDepth)
+ *    scopeDepth    deepest nesting of if/else, while and repeat blocks
+ *    exprDepth     deepest nesting of operators in an expression
+ *    fanOut        number of calls made by each function
+ *    statements    number of statements in a function body (nested
+ *                  blocks get half as many)
+ *    errorDensity  chance that a statement or local declaration is
+ *                  replaced by one with a name or type error (or an
+ *                  integer literal that is too large)
+ *    syntaxErrors  number of statements with a syntax error or an
+ *                  illegal character; either stops the compiler before
+ *                  name analysis
+ *
+ * The program depends only on these settings and the seed, so the same
+ * seed gives the same program on every run and every JVM.
+ */
+public final class ProgramGenerator {
+    // types of variables, functions and expressions; struct Sk is STRUCT + k
+    private static final int INT = 0;
+    private static final int BOOL = 1;
+    private static final int VOID = 2;
+    private static final int STRUCT = 10;
+
+    private static final String[] TYPE_NAMES = {"int", "bool", "void"};
+    private static final String[] ARITHMETIC_OPS = {" + ", " - ", " * ", " / "};
+    private static final String[] LOGICAL_OPS = {" && ", " || "};
+    private static final String[] EQUALITY_OPS = {" == ", " != "};
+    private static final String[] RELATIONAL_OPS = {
+        " < ", " > ", " <= ", " >= "
+    };
+    private static final String[] STRINGS = {
+        "\"\"", "\"x = \"", "\"done\\n\"", "\"\\tquote: \\\" \\' \\? \\\\\""
+    };
+
+    private static final int ERROR_KINDS = 21;
+    private static final int DECL_ERROR_KINDS = 3;
+
+    private long seed;
+    private int functions = 100;
+    private int structDepth = 3;
+    private int dotChain = 3;
+    private int scopeDepth = 3;
+    private int exprDepth = 3;
+    private int fanOut = 2;
+    private int statements = 8;
+    private double errorDensity = 0;
+    private int syntaxErrors = 0;
+
+    // state of the program being generated
+    private Random random;
+    private StringBuilder out;
+    private String indent;
+    private int[] fnTypes;
+    private int[][] fnFormals;
+    private int current;        // index of the function being generated
+    private int callsLeft;      // calls still to be made by that function
+    private int[] syntaxErrorsAt;  // statements to break, per function
+    private List<List<Var>> scopes;
+    private int nextName;
+    private int injected;
+
+    /**
+     * A variable and its type.
+     */
+    private static final class Var {
+        final String name;
+        final int type;
+
+        Var(String name, int type) {
+            this.name = name;
+            this.type = type;
+        }
+    }
+
+    public ProgramGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public void setFunctions(int functions) {
+        this.functions = functions;
+    }
+
+    public void setStructDepth(int structDepth) {
+        this.structDepth = structDepth;
+    }
+
+    public void setDotChain(int dotChain) {
+        this.dotChain = dotChain;
+    }
+
+    public void setScopeDepth(int scopeDepth) {
+        this.scopeDepth = scopeDepth;
+    }
+
+    public void setExprDepth(int exprDepth) {
+        this.exprDepth = exprDepth;
+    }
+
+    public void setFanOut(int fanOut) {
+        this.fanOut = fanOut;
+    }
+
+    public void setStatements(int statements) {
+        this.statements = statements;
+    }
+
+    /**
+     * @param errorDensity chance (0 to 1) that a statement or declaration
+     *                     has an error
+     */
+    public void setErrorDensity(double errorDensity) {
+        this.errorDensity = errorDensity;
+    }
+
+    public void setSyntaxErrors(int syntaxErrors) {
+        this.syntaxErrors = syntaxErrors;
+    }
+
+    /**
+     * @return number of errors put into the last program generated (the
+     *         compiler may report more, e.g. for a call with bad arguments)
+     */
+    public int getInjectedErrors() {
+        return injected;
+    }
+
+    /**
+     * @return the program for the current settings and seed
+     */
+    public String generate() {
+        random = new Random(seed);
+        out = new StringBuilder();
+        indent = "";
+        scopes = new ArrayList<List<Var>>();
+        nextName = 0;
+        injected = 0;
+
+        out.append("// generated by ProgramGenerator, seed ").append(seed)
+           .append("\n\n");
+        for (int k = 1; k <= structDepth; k++) {
+            structDecl(k);
+        }
+
+        openScope();
+        varDecl("count", INT);
+        varDecl("done", BOOL);
+        if (structDepth > 0) {
+            varDecl("g", STRUCT + structDepth);
+        }
+        out.append("\n");
+
+        fnTypes = new int[functions];
+        fnFormals = new int[functions][];
+        for (int i = 0; i < functions; i++) {
+            fnTypes[i] = random.nextInt(3);
+            fnFormals[i] = new int[random.nextInt(4)];
+            for (int j = 0; j < fnFormals[i].length; j++) {
+                fnFormals[i][j] = random.nextInt(2);
+            }
+        }
+        syntaxErrorsAt = new int[functions];
+        for (int i = 0; i < syntaxErrors && functions > 0; i++) {
+            syntaxErrorsAt[random.nextInt(functions)]++;
+        }
+        for (int i = 0; i < functions; i++) {
+            fnDecl(i);
+        }
+        closeScope();
+        return out.toString();
+    }
+
+    private void structDecl(int k) {
+        out.append("struct S").append(k).append(" {\n");
+        out.append("    int i").append(k).append(";\n");
+        out.append("    bool b").append(k).append(";\n");
+        if (k > 1) {
+            out.append("    struct S").append(k - 1).append(" s").append(k)
+               .append(";\n");
+        }
+        out.append("};\n\n");
+    }
+
+    private void fnDecl(int i) {
+        current = i;
+        callsLeft = fanOut;
+        out.append(TYPE_NAMES[fnTypes[i]]).append(" f").append(i).append("(");
+        openScope();
+        for (int j = 0; j < fnFormals[i].length; j++) {
+            String name = "p" + j;
+            declare(name, fnFormals[i][j]);
+            out.append(j == 0 ? "" : ", ").append(TYPE_NAMES[fnFormals[i][j]])
+               .append(" ").append(name);
+        }
+        out.append(") {\n");
+        indent = "    ";
+
+        localDecls(2 + random.nextInt(3));
+        for (int n = 0; n < syntaxErrorsAt[i]; n++) {
+            line(random.nextBoolean() ? "count = (1;" : "count = 1 $;");
+        }
+        for (int n = 0; n < statements; n++) {
+            stmt(1);
+        }
+        while (callsLeft > 0) {
+            line(call(-1) + ";");
+        }
+        if (fnTypes[i] == VOID) {
+            line("return;");
+        } else {
+            line("return " + exp(fnTypes[i], exprDepth) + ";");
+        }
+
+        closeScope();
+        indent = "";
+        out.append("}\n\n");
+    }
+
+    /**
+     * Local variables of a function or block: ints, bools and, where
+     * there are structs, a struct variable.  Some reuse the name of a
+     * variable in an enclosing scope.
+     */
+    private void localDecls(int n) {
+        for (int j = 0; j < n; j++) {
+            if (random.nextDouble() < errorDensity) {
+                declError();
+                continue;
+            }
+            int type;
+            if (j == n - 1 && structDepth > 0) {
+                type = STRUCT + 1 + random.nextInt(structDepth);
+            } else {
+                type = random.nextInt(2);
+            }
+            String name = null;
+            if (scopes.size() > 2 && random.nextInt(4) == 0) {
+                name = shadowable();
+            }
+            if (name == null) {
+                name = "x" + nextName++;
+            }
+            varDecl(name, type);
+        }
+    }
+
+    /**
+     * A name declared in an enclosing scope (other than the global one)
+     * but not in the innermost one, or null.
+     */
+    private String shadowable() {
+        List<Var> outer = scopes.get(scopes.size() - 2);
+        if (outer.isEmpty()) {
+            return null;
+        }
+        String name = outer.get(random.nextInt(outer.size())).name;
+        for (Var v : scopes.get(scopes.size() - 1)) {
+            if (v.name.equals(name)) {
+                return null;
+            }
+        }
+        return name;
+    }
+
+    private void varDecl(String name, int type) {
+        declare(name, type);
+        line(typeName(type) + " " + name + ";");
+    }
+
+    private void declError() {
+        injected++;
+        switch (random.nextInt(DECL_ERROR_KINDS)) {
+        case 0: {  // multiply declared
+            String name = "x" + nextName++;
+            line(typeName(INT) + " " + name + ";");
+            line(typeName(BOOL) + " " + name + ";");
+            break;
+        }
+        case 1:
+            line("void x" + nextName++ + ";");
+            break;
+        default:
+            line("struct Undefined x" + nextName++ + ";");
+            break;
+        }
+    }
+
+    private void stmt(int depth) {
+        if (random.nextDouble() < errorDensity) {
+            errorStmt();
+            return;
+        }
+        int kinds = (depth < scopeDepth) ? 11 : 7;
+        switch (random.nextInt(kinds)) {
+        case 0:
+        case 1: {
+            int type = random.nextInt(2);
+            line(loc(type) + " = " + exp(type, exprDepth) + ";");
+            break;
+        }
+        case 2:
+            line(loc(INT) + (random.nextBoolean() ? "++;" : "--;"));
+            break;
+        case 3:
+            line("cin >> " + loc(random.nextInt(2)) + ";");
+            break;
+        case 4:
+            if (random.nextInt(3) == 0) {
+                line("cout << " + STRINGS[random.nextInt(STRINGS.length)] + ";");
+            } else {
+                line("cout << " + exp(random.nextInt(2), exprDepth) + ";");
+            }
+            break;
+        case 5:
+            if (callsLeft > 0) {
+                line(call(-1) + ";");
+            } else {
+                line((random.nextBoolean() ? "// " : "# ") + "comment "
+                     + nextName++);
+            }
+            break;
+        case 6:
+            if (fnTypes[current] == VOID) {
+                line("return;");
+            } else {
+                line("return " + exp(fnTypes[current], exprDepth) + ";");
+            }
+            break;
+        case 7:
+            line("if (" + exp(BOOL, exprDepth) + ") {");
+            block(depth + 1);
+            line("}");
+            break;
+        case 8:
+            line("if (" + exp(BOOL, exprDepth) + ") {");
+            block(depth + 1);
+            line("}");
+            line("else {");
+            block(depth + 1);
+            line("}");
+            break;
+        case 9:
+            line("while (" + exp(BOOL, exprDepth) + ") {");
+            block(depth + 1);
+            line("}");
+            break;
+        default:
+            line("repeat (" + exp(INT, exprDepth) + ") {");
+            block(depth + 1);
+            line("}");
+            break;
+        }
+    }
+
+    private void block(int depth) {
+        String outer = indent;
+        indent = outer + "    ";
+        openScope();
+        localDecls(random.nextInt(3));
+        int n = Math.max(1, statements / 2);
+        for (int i = 0; i < n; i++) {
+            stmt(depth);
+        }
+        closeScope();
+        indent = outer;
+    }
+
+    /**
+     * A statement with a name or type error; the program still parses.
+     */
+    private void errorStmt() {
+        injected++;
+        int fn = random.nextInt(current + 1);
+        List<Var> structs = visibleStructs();
+        switch (random.nextInt(ERROR_KINDS)) {
+        case 0:
+            line("u" + nextName++ + " = " + exp(INT, 1) + ";");
+            break;
+        case 1:
+            line(loc(INT) + " = " + exp(BOOL, 1) + ";");
+            break;
+        case 2:
+            line(loc(INT) + " = " + operand(BOOL, 1) + " + " + operand(INT, 1)
+                 + ";");
+            break;
+        case 3:
+            line(loc(BOOL) + " = " + operand(INT, 1) + " && "
+                 + operand(BOOL, 1) + ";");
+            break;
+        case 4:
+            line(loc(BOOL) + " = " + operand(BOOL, 1) + " < "
+                 + operand(INT, 1) + ";");
+            break;
+        case 5:
+            line("if (" + exp(INT, 1) + ") {");
+            line("}");
+            break;
+        case 6:
+            line("while (" + exp(INT, 1) + ") {");
+            line("}");
+            break;
+        case 7:
+            line("repeat (" + exp(BOOL, 1) + ") {");
+            line("}");
+            break;
+        case 8:  // wrong number of args
+            line("f" + fn + "(" + args(fnFormals[fn], 1, -1) + ");");
+            break;
+        case 9: {  // bad actual, or wrong number of args if there are none
+            int n = fnFormals[fn].length;
+            line("f" + fn + "(" + args(fnFormals[fn], (n == 0) ? 1 : 0, n - 1)
+                 + ");");
+            break;
+        }
+        case 10:
+            line(pick(visible(INT)).name + "();");
+            break;
+        case 11:
+            line(pick(visible(INT)).name + ".i1 = 1;");
+            break;
+        case 12:
+            if (structs.isEmpty()) {
+                line("count = nothing;");
+            } else {
+                line(pick(structs).name + ".nothing = 1;");
+            }
+            break;
+        case 13:
+            if (structs.isEmpty()) {
+                line("cin >> f" + fn + ";");
+            } else {
+                line("cin >> " + pick(structs).name + ";");
+            }
+            break;
+        case 14:
+            line("cout << f" + fn + ";");
+            break;
+        case 15:
+            line("f" + fn + " = f" + random.nextInt(current + 1) + ";");
+            break;
+        case 16:
+            if (structs.isEmpty()) {
+                line("count = done;");
+            } else {
+                String name = pick(structs).name;
+                line(name + " = " + name + ";");
+            }
+            break;
+        case 17:
+            if (fnTypes[current] == VOID) {
+                line("return " + exp(INT, 1) + ";");
+            } else if (random.nextBoolean()) {
+                line("return;");
+            } else {
+                line("return " + exp(1 - fnTypes[current], 1) + ";");
+            }
+            break;
+        case 18: {
+            int voidFn = fnOfType(VOID);
+            if (voidFn < 0) {
+                line("cout << S1;");
+            } else {
+                line("cout << " + call(voidFn) + ";");
+            }
+            break;
+        }
+        case 19:
+            line(loc(INT) + " = 99999999999;");
+            break;
+        default:
+            line(loc(BOOL) + " = f" + fn + " == f" + random.nextInt(current + 1)
+                 + ";");
+            break;
+        }
+    }
+
+    /**
+     * An expression of the given type (INT or BOOL) with operators nested
+     * at most depth deep.
+     */
+    private String exp(int type, int depth) {
+        if (depth <= 0 || random.nextInt(4) == 0) {
+            return leaf(type);
+        }
+        int d = depth - 1;
+        if (random.nextInt(8) == 0) {
+            return loc(type) + " = " + exp(type, d);
+        }
+        if (type == INT) {
+            if (random.nextInt(6) == 0) {
+                return "-" + operand(INT, d);
+            }
+            return operand(INT, d) + pick(ARITHMETIC_OPS) + operand(INT, d);
+        }
+        switch (random.nextInt(6)) {
+        case 0:
+            return "!" + operand(BOOL, d);
+        case 1:
+        case 2:
+            return operand(BOOL, d) + pick(LOGICAL_OPS) + operand(BOOL, d);
+        case 3: {
+            int t = random.nextInt(2);
+            return operand(t, d) + pick(EQUALITY_OPS) + operand(t, d);
+        }
+        default:
+            return operand(INT, d) + pick(RELATIONAL_OPS) + operand(INT, d);
+        }
+    }
+
+    /**
+     * An operand of an operator: a term or a parenthesized expression.
+     */
+    private String operand(int type, int depth) {
+        if (depth <= 0 || random.nextInt(3) == 0) {
+            return leaf(type);
+        }
+        return "(" + exp(type, depth) + ")";
+    }
+
+    private String leaf(int type) {
+        int r = random.nextInt(8);
+        if (r == 0 && callsLeft > 0) {
+            int fn = fnOfType(type);
+            if (fn >= 0) {
+                return call(fn);
+            }
+        }
+        if (r < 3) {
+            if (type == INT) {
+                return Integer.toString(random.nextInt(5) == 0 ? 0
+                                        : random.nextInt(1000));
+            }
+            return random.nextBoolean() ? "true" : "false";
+        }
+        return loc(type);
+    }
+
+    /**
+     * A call of the given function, or of any function up to and
+     * including the current one if fn is -1.
+     */
+    private String call(int fn) {
+        if (fn < 0) {
+            fn = random.nextInt(current + 1);
+        }
+        callsLeft--;
+        return "f" + fn + "(" + args(fnFormals[fn], 0, -1) + ")";
+    }
+
+    /**
+     * Actuals for the given formals, with extra more of them, and the one
+     * at position bad (if any) of the wrong type.
+     */
+    private String args(int[] formals, int extra, int bad) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < formals.length + extra; i++) {
+            int type = (i < formals.length) ? formals[i] : INT;
+            if (i == bad) {
+                type = 1 - type;
+            }
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(exp(type, 1));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * A function up to and including the current one that returns the
+     * given type, or -1 if there is none.
+     */
+    private int fnOfType(int type) {
+        int start = random.nextInt(current + 1);
+        for (int i = 0; i <= current; i++) {
+            int fn = (start + i) % (current + 1);
+            if (fnTypes[fn] == type) {
+                return fn;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * A location of the given type (INT or BOOL): a variable, or a chain of
+     * dot-accesses ending in a field.
+     */
+    private String loc(int type) {
+        List<Var> structs = visibleStructs();
+        if (dotChain > 0 && !structs.isEmpty() && random.nextInt(3) == 0) {
+            Var v = pick(structs);
+            int level = v.type - STRUCT;
+            int down = random.nextInt(Math.min(dotChain, level));
+            StringBuilder sb = new StringBuilder(v.name);
+            for (int i = 0; i < down; i++) {
+                sb.append(".s").append(level--);
+            }
+            sb.append(type == INT ? ".i" : ".b").append(level);
+            return sb.toString();
+        }
+        return pick(visible(type)).name;
+    }
+
+    private void openScope() {
+        scopes.add(new ArrayList<Var>());
+    }
+
+    private void closeScope() {
+        scopes.remove(scopes.size() - 1);
+    }
+
+    private void declare(String name, int type) {
+        scopes.get(scopes.size() - 1).add(new Var(name, type));
+    }
+
+    /**
+     * The variables of the given type that are in scope, i.e. not hidden
+     * by a declaration of the same name in an inner scope.
+     */
+    private List<Var> visible(int type) {
+        List<Var> vars = new ArrayList<Var>();
+        Set<String> seen = new HashSet<String>();
+        for (int i = scopes.size() - 1; i >= 0; i--) {
+            for (Var v : scopes.get(i)) {
+                if (seen.add(v.name) && v.type == type) {
+                    vars.add(v);
+                }
+            }
+        }
+        return vars;
+    }
+
+    private List<Var> visibleStructs() {
+        List<Var> vars = new ArrayList<Var>();
+        Set<String> seen = new HashSet<String>();
+        for (int i = scopes.size() - 1; i >= 0; i--) {
+            for (Var v : scopes.get(i)) {
+                if (seen.add(v.name) && v.type > STRUCT) {
+                    vars.add(v);
+                }
+            }
+        }
+        return vars;
+    }
+
+    private static String typeName(int type) {
+        return (type > STRUCT) ? "struct S" + (type - STRUCT) : TYPE_NAMES[type];
+    }
+
+    private <T> T pick(List<T> list) {
+        return list.get(random.nextInt(list.size()));
+    }
+
+    private String pick(String[] choices) {
+        return choices[random.nextInt(choices.length)];
+    }
+
+    private void line(String s) {
+        out.append(indent).append(s).append('\n');
+    }
+
+    /**
+     * Write generated programs to files, e.g. as input for P5Batch.
+     *
+     * The last command-line argument is the directory the programs
+     * (gen0.cmm, gen1.cmm, ...) are written to, or - for the standard
+     * output.  It may be preceded by the options
+     *    -count N  number of programs, with seeds seed, seed+1, ...
+     *    -seed N  -functions N  -structs N  -chain N  -nesting N
+     *    -expr N  -fanout N  -statements N  -errors P  -syntax N
+     * which set the knobs described above.
+     */
+    public static void main(String[] args) throws IOException {
+        ProgramGenerator gen = new ProgramGenerator(0);
+        long seed = 0;
+        int count = 1;
+        int first = 0;
+        while (args.length - first > 2 && args[first].startsWith("-")) {
+            String option = args[first];
+            String value = args[first + 1];
+            if (option.equals("-count")) {
+                count = Integer.parseInt(value);
+            } else if (option.equals("-seed")) {
+                seed = Long.parseLong(value);
+            } else if (option.equals("-functions")) {
+                gen.setFunctions(Integer.parseInt(value));
+            } else if (option.equals("-structs")) {
+                gen.setStructDepth(Integer.parseInt(value));
+            } else if (option.equals("-chain")) {
+                gen.setDotChain(Integer.parseInt(value));
+            } else if (option.equals("-nesting")) {
+                gen.setScopeDepth(Integer.parseInt(value));
+            } else if (option.equals("-expr")) {
+                gen.setExprDepth(Integer.parseInt(value));
+            } else if (option.equals("-fanout")) {
+                gen.setFanOut(Integer.parseInt(value));
+            } else if (option.equals("-statements")) {
+                gen.setStatements(Integer.parseInt(value));
+            } else if (option.equals("-errors")) {
+                gen.setErrorDensity(Double.parseDouble(value));
+            } else if (option.equals("-syntax")) {
+                gen.setSyntaxErrors(Integer.parseInt(value));
+            } else {
+                System.err.println("unknown option " + option);
+                System.exit(1);
+            }
+            first += 2;
+        }
+        if (args.length - first != 1) {
+            System.err.println("please supply the output directory, or -");
+            System.exit(1);
+        }
+
+        for (int i = 0; i < count; i++) {
+            gen.setSeed(seed + i);
+            String program = gen.generate();
+            if (args[first].equals("-")) {
+                System.out.print(program);
+                continue;
+            }
+            File file = new File(args[first], "gen" + i + ".cmm");
+            Writer w = new OutputStreamWriter(new FileOutputStream(file),
+                                              "UTF-8");
+            try {
+                w.write(program);
+            } finally {
+                w.close();
+            }
+        }
+    }
+}
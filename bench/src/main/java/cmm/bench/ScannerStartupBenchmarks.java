@@ -0,0 +1,70 @@
+package cmm.bench;
+
+import java.io.*;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks the latency of a cold C-- scanner's first token: loading and
+ * initializing Yylex, making one and scanning one token, with the
+ * transition tables JLex emits in each format:
+ *    string          run-length encoded strings, unpacked by each instance
+ *    comb            comb vectors, unpacked once per class from strings
+ *    comb-resource   comb vectors, read once per class from Yylex.tables
+ *    direct          no transition table: the transitions as code
+ *
+ * The setup runs JLex on cminusminus.jlex with the format's option and
+ * compiles the scanner (see Scanners).  Each invocation then loads
+ * it, with the rest of the compiler, in a class loader of its own, so
+ * nothing is initialized yet.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 200)
+@Fork(3)
+@State(Scope.Thread)
+public class ScannerStartupBenchmarks {
+    @Param({"string", "comb", "comb-resource", "direct"})
+    public String tables;
+
+    private Path dir;
+    private URL[] classPath;  // the new Yylex first, then the compiler
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dir = Files.createTempDirectory("scanner-startup");
+        classPath = tables.equals("string")
+            ? Scanners.build(dir)
+            : Scanners.build(dir, "-" + tables);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Scanners.delete(dir);
+    }
+
+    @Benchmark
+    public Object firstToken() throws Exception {
+        // the system loader's parent as parent, so that every class of
+        // the compiler, not only Yylex, is loaded afresh (and in one
+        // runtime package, as Yylex uses package-private members of the
+        // others)
+        try (URLClassLoader loader = new URLClassLoader(
+                 classPath, ClassLoader.getSystemClassLoader().getParent())) {
+            Class<?> yylex = Class.forName("Yylex", true, loader);
+            Constructor<?> ctor = yylex.getDeclaredConstructor(Reader.class);
+            ctor.setAccessible(true);
+            Object scanner = ctor.newInstance(
+                new StringReader("int main() { return 0; }"));
+            Method next = yylex.getMethod("next_token");
+            next.setAccessible(true);
+            return next.invoke(scanner);
+        }
+    }
+}
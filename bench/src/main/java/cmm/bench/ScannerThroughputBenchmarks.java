@@ -0,0 +1,82 @@
+package cmm.bench;
+
+import java.io.*;
+import java.lang.reflect.Constructor;
+import java.net.URL;
+import java.nio.file.*;
+import java.util.concurrent.TimeUnit;
+import java_cup.runtime.Scanner;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks the throughput of the C-- scanner, in tokens per second (the
+ * "tokens" counter), with the transitions JLex emits in each mode:
+ *    table    comb vectors (-comb), a table lookup per character
+ *    direct   code (-direct), a switch per state, and runs that stay in
+ *             one state (identifiers, numbers, comments, white space)
+ *             consumed by a tight loop
+ *
+ * The setup generates and compiles each scanner (see Scanners) and loads
+ * it with a compiler of its own, so that the two are compiled by the JIT
+ * apart.  The input is a generated program (see ProgramGenerator).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class ScannerThroughputBenchmarks {
+    @Param({"table", "direct"})
+    public String mode;
+
+    @Param({"100", "1000"})
+    public int functions;
+
+    @Param({"1"})
+    public long seed;
+
+    private Path dir;
+    private Constructor<?> yylex;
+    private String source;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Tokens {
+        public long tokens;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            tokens = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dir = Files.createTempDirectory("scanner-throughput");
+        URL[] classPath = mode.equals("table")
+            ? Scanners.build(dir, "-comb")
+            : Scanners.build(dir, "-direct", "-comb");
+        yylex = Scanners.load(classPath).getDeclaredConstructor(Reader.class);
+        yylex.setAccessible(true);
+        ProgramGenerator gen = new ProgramGenerator(seed);
+        gen.setFunctions(functions);
+        source = gen.generate();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Scanners.delete(dir);
+    }
+
+    @Benchmark
+    public int scan(Tokens counter) throws Exception {
+        Scanner scanner = (Scanner)yylex.newInstance(new StringReader(source));
+        int count = 0;
+        while (scanner.next_token().sym != 0) {  // sym.EOF
+            count++;
+        }
+        counter.tokens += count;
+        return count;
+    }
+}
@@ -0,0 +1,106 @@
+package cmm.bench;
+
+import java.io.*;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.*;
+import java.util.Comparator;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+/**
+ * C-- scanners generated by JLex with the options under test.
+ *
+ * build runs JLex on cminusminus.jlex (packed into p5.jar) and compiles
+ * the scanner against the rest of the compiler; the class path it returns
+ * puts the new Yylex (and its tables) ahead of the one in p5.jar.
+ */
+final class Scanners {
+    private Scanners() {
+    }
+
+    /**
+     * Generate and compile a scanner in dir.
+     * @return the class path of a compiler with that scanner
+     */
+    static URL[] build(Path dir, String... options) throws Exception {
+        Path spec = dir.resolve("cminusminus.jlex");
+        try (InputStream in = Scanners.class
+                 .getResourceAsStream("/cminusminus.jlex")) {
+            if (in == null) {
+                throw new IllegalStateException(
+                    "cminusminus.jlex is not in p5.jar");
+            }
+            Files.copy(in, spec);
+        }
+        String[] args = new String[options.length + 1];
+        System.arraycopy(options, 0, args, 0, options.length);
+        args[options.length] = spec.toString();
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        try {
+            JLex.Main.main(args);
+        } finally {
+            System.setOut(out);
+        }
+
+        URL p5 = Class.forName("Yylex", false, Scanners.class.getClassLoader())
+            .getProtectionDomain().getCodeSource().getLocation();
+        JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+        int status = javac.run(null, null, null, "-nowarn",
+            "-cp", Paths.get(p5.toURI()).toString(),
+            "-d", dir.toString(),
+            dir.resolve("cminusminus.jlex.java").toString());
+        if (status != 0) {
+            throw new IllegalStateException("cannot compile the scanner");
+        }
+        return new URL[] { dir.toUri().toURL(), p5 };
+    }
+
+    /**
+     * Load the Yylex of a class path from build, with the rest of the
+     * compiler but not the CUP runtime, which it shares with the caller:
+     * the scanner can then be driven through java_cup.runtime.Scanner.
+     */
+    static Class<?> load(URL[] classPath) throws ClassNotFoundException {
+        return Class.forName("Yylex", true, new CompilerLoader(classPath));
+    }
+
+    static void delete(Path dir) throws IOException {
+        Files.walk(dir)
+            .sorted(Comparator.reverseOrder())
+            .forEach(p -> p.toFile().delete());
+    }
+
+    /**
+     * Loads the compiler's classes itself, child first, and everything in
+     * a java, javax or java_cup package through its parent.
+     */
+    private static final class CompilerLoader extends URLClassLoader {
+        CompilerLoader(URL[] classPath) {
+            super(classPath, Scanners.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve)
+                throws ClassNotFoundException {
+            if (name.startsWith("java")) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> c = findLoadedClass(name);
+                if (c == null) {
+                    try {
+                        c = findClass(name);
+                    } catch (ClassNotFoundException e) {
+                        return super.loadClass(name, resolve);
+                    }
+                }
+                if (resolve) {
+                    resolveClass(c);
+                }
+                return c;
+            }
+        }
+    }
+}
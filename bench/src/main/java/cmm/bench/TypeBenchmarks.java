@@ -0,0 +1,136 @@
+package cmm.bench;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks the way the type checker makes and compares types, before
+ * and after types were interned:
+ *    allocated   a new IntType, BoolType, ... for each expression, and
+ *                types compared by their names (toString().equals)
+ *    interned    the canonical Type.INT, Type.BOOL, ... and types
+ *                compared by identity (Type.equals)
+ * Both check the same stream of expressions: each gets a type, which is
+ * compared with the type of the expression before it, as in an assignment
+ * or an equality test.  The types are drawn from the primitive ones at
+ * random, with a fixed seed.  Run with -prof gc to see the allocation.
+ *
+ * The Type classes live in the unnamed package, so they are reached
+ * through method handles (see Compiler).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TypeBenchmarks {
+    private static final String[] TYPES = {
+        "ErrorType", "IntType", "BoolType", "VoidType", "StringType"
+    };
+    private static final String[] CANONICAL = {
+        "ERROR", "INT", "BOOL", "VOID", "STRING"
+    };
+
+    private static final MethodHandle NEW_ERROR;
+    private static final MethodHandle NEW_INT;
+    private static final MethodHandle NEW_BOOL;
+    private static final MethodHandle NEW_VOID;
+    private static final MethodHandle NEW_STRING;
+    private static final MethodHandle EQUALS;
+    private static final Object[] INTERNED = new Object[TYPES.length];
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle[] ctors = new MethodHandle[TYPES.length];
+            for (int i = 0; i < TYPES.length; i++) {
+                Constructor<?> c = Class.forName(TYPES[i])
+                    .getDeclaredConstructor();
+                c.setAccessible(true);
+                ctors[i] = lookup.unreflectConstructor(c)
+                    .asType(MethodType.methodType(Object.class));
+            }
+            NEW_ERROR = ctors[0];
+            NEW_INT = ctors[1];
+            NEW_BOOL = ctors[2];
+            NEW_VOID = ctors[3];
+            NEW_STRING = ctors[4];
+            Class<?> type = Class.forName("Type");
+            for (int i = 0; i < CANONICAL.length; i++) {
+                INTERNED[i] = type.getField(CANONICAL[i]).get(null);
+            }
+            EQUALS = lookup.unreflect(type.getMethod("equals", type))
+                .asType(MethodType.methodType(boolean.class, Object.class,
+                                              Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final int EXPRESSIONS = 1024;
+
+    @Param({"1"})
+    public long seed;
+
+    private int[] kinds;  // index into TYPES of each expression's type
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(seed);
+        kinds = new int[EXPRESSIONS];
+        for (int i = 0; i < EXPRESSIONS; i++) {
+            kinds[i] = random.nextInt(TYPES.length);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EXPRESSIONS)
+    public int allocated() throws Throwable {
+        int equal = 0;
+        Object prev = newType(kinds[0]);
+        for (int i = 1; i < kinds.length; i++) {
+            Object t = newType(kinds[i]);
+            if (t.toString().equals(prev.toString())) {
+                equal++;
+            }
+            prev = t;
+        }
+        return equal;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EXPRESSIONS)
+    public int interned() throws Throwable {
+        int equal = 0;
+        Object prev = INTERNED[kinds[0]];
+        for (int i = 1; i < kinds.length; i++) {
+            Object t = INTERNED[kinds[i]];
+            if ((boolean)EQUALS.invokeExact(t, prev)) {
+                equal++;
+            }
+            prev = t;
+        }
+        return equal;
+    }
+
+    private static Object newType(int kind) throws Throwable {
+        switch (kind) {
+        case 0:
+            return (Object)NEW_ERROR.invokeExact();
+        case 1:
+            return (Object)NEW_INT.invokeExact();
+        case 2:
+            return (Object)NEW_BOOL.invokeExact();
+        case 3:
+            return (Object)NEW_VOID.invokeExact();
+        default:
+            return (Object)NEW_STRING.invokeExact();
+        }
+    }
+}
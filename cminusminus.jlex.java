@@ -0,0 +1,2762 @@
+import java_cup.runtime.*; // defines the Symbol class
+// The generated scanner will return a Symbol for each token that it finds.
+// A Symbol contains an Object field named value; that field will be of type
+// TokenVal, defined below.
+//
+// A TokenVal object contains the line number on which the token occurs as
+// well as the number of the character on that line that starts the token.
+// Some tokens (literals and IDs) also include the value of the token.
+class TokenVal {
+  // fields
+    int linenum;
+    int charnum;
+  // constructor
+    TokenVal(int line, int ch) {
+        linenum = line;
+        charnum = ch;
+    }
+}
+class IntLitTokenVal extends TokenVal {
+  // new field: the value of the integer literal
+    int intVal;
+  // constructor
+    IntLitTokenVal(int line, int ch, int val) {
+        super(line, ch);
+        intVal = val;
+    }
+}
+class IdTokenVal extends TokenVal {
+  // new field: the value of the identifier
+    Name idVal;
+  // constructor
+    IdTokenVal(int line, int ch, Name val) {
+        super(line, ch);
+    idVal = val;
+    }
+}
+class StrLitTokenVal extends TokenVal {
+  // new field: the value of the string literal
+    String strVal;
+  // constructor
+    StrLitTokenVal(int line, int ch, String val) {
+        super(line, ch);
+        strVal = val;
+    }
+}
+
+
+class Yylex implements java_cup.runtime.Scanner {
+	private final int YY_BUFFER_SIZE = 512;
+	private final int YY_F = -1;
+	private final int YY_NO_STATE = -1;
+	private final int YY_NOT_ACCEPT = 0;
+	private final int YY_START = 1;
+	private final int YY_END = 2;
+	private final int YY_NO_ANCHOR = 4;
+	private final int YY_BOL = 128;
+	private final int YY_EOF = 129;
+
+// The character number at which the current token starts on its line.
+// It belongs to the scanner instance, so several files can be scanned
+// at once (e.g. on different threads).
+private int charNum = 1;
+// The identifiers seen by this scanner.
+private NamePool names = new NamePool();
+// In buffer mode (see scanAll()) the tokens are recorded here, and each
+// token action returns RECORDED instead of a new Symbol.
+private TokenBuffer tokens;
+private static final Symbol RECORDED = new Symbol(sym.error);
+// Returns the number of complete lines scanned so far.
+int lineCount() {
+    return yyline;
+}
+// Scans the rest of the input into a TokenBuffer, whose scanner() can
+// then be given to the parser in place of this scanner.  Lexical errors
+// and warnings are reported as the input is scanned, that is, all before
+// any parse error.
+TokenBuffer scanAll() throws java.io.IOException {
+    tokens = new TokenBuffer(names);
+    try {
+        while (next_token() == RECORDED) {
+        }
+        return tokens;
+    } finally {
+        tokens = null;
+    }
+}
+// Returns the token just matched, which has no value but its position,
+// or records it in buffer mode.
+private Symbol token(int kind) {
+    Symbol S = (tokens != null) ? record(kind, 0)
+             : new Symbol(kind, new TokenVal(yyline+1, charNum));
+    charNum += yy_buffer_end - yy_buffer_start;
+    return S;
+}
+private Symbol record(int kind, int payload) {
+    tokens.add(kind, yyline+1, charNum, payload);
+    return RECORDED;
+}
+	private java.io.BufferedReader yy_reader;
+	private int yy_buffer_index;
+	private int yy_buffer_read;
+	private int yy_buffer_start;
+	private int yy_buffer_end;
+	private char yy_buffer[];
+	private int yyline;
+	private boolean yy_at_bol;
+	private int yy_lexical_state;
+
+	Yylex (java.io.Reader reader) {
+		this ();
+		if (null == reader) {
+			throw (new Error("Error: Bad input stream initializer."));
+		}
+		yy_reader = new java.io.BufferedReader(reader);
+	}
+
+	Yylex (java.io.InputStream instream) {
+		this ();
+		if (null == instream) {
+			throw (new Error("Error: Bad input stream initializer."));
+		}
+		yy_reader = new java.io.BufferedReader(new java.io.InputStreamReader(instream));
+	}
+
+	private Yylex () {
+		yy_buffer = new char[YY_BUFFER_SIZE];
+		yy_buffer_read = 0;
+		yy_buffer_index = 0;
+		yy_buffer_start = 0;
+		yy_buffer_end = 0;
+		yyline = 0;
+		yy_at_bol = true;
+		yy_lexical_state = YYINITIAL;
+	}
+
+	private boolean yy_eof_done = false;
+	private final int YYINITIAL = 0;
+	private final int yy_state_dtrans[] = {
+		0
+	};
+	private void yybegin (int state) {
+		yy_lexical_state = state;
+	}
+	private int yy_advance ()
+		throws java.io.IOException {
+		int next_read;
+		int i;
+		int j;
+
+		if (yy_buffer_index < yy_buffer_read) {
+			return yy_buffer[yy_buffer_index++];
+		}
+
+		if (0 != yy_buffer_start) {
+			i = yy_buffer_start;
+			j = 0;
+			while (i < yy_buffer_read) {
+				yy_buffer[j] = yy_buffer[i];
+				++i;
+				++j;
+			}
+			yy_buffer_end = yy_buffer_end - yy_buffer_start;
+			yy_buffer_start = 0;
+			yy_buffer_read = j;
+			yy_buffer_index = j;
+			next_read = yy_reader.read(yy_buffer,
+					yy_buffer_read,
+					yy_buffer.length - yy_buffer_read);
+			if (-1 == next_read) {
+				return YY_EOF;
+			}
+			yy_buffer_read = yy_buffer_read + next_read;
+		}
+
+		while (yy_buffer_index >= yy_buffer_read) {
+			if (yy_buffer_index >= yy_buffer.length) {
+				yy_buffer = yy_double(yy_buffer);
+			}
+			next_read = yy_reader.read(yy_buffer,
+					yy_buffer_read,
+					yy_buffer.length - yy_buffer_read);
+			if (-1 == next_read) {
+				return YY_EOF;
+			}
+			yy_buffer_read = yy_buffer_read + next_read;
+		}
+		return yy_buffer[yy_buffer_index++];
+	}
+	private void yy_move_end () {
+		if (yy_buffer_end > yy_buffer_start &&
+		    '\n' == yy_buffer[yy_buffer_end-1])
+			yy_buffer_end--;
+		if (yy_buffer_end > yy_buffer_start &&
+		    '\r' == yy_buffer[yy_buffer_end-1])
+			yy_buffer_end--;
+	}
+	private boolean yy_last_was_cr=false;
+	private void yy_mark_start () {
+		int i;
+		for (i = yy_buffer_start; i < yy_buffer_index; ++i) {
+			if ('\n' == yy_buffer[i] && !yy_last_was_cr) {
+				++yyline;
+			}
+			if ('\r' == yy_buffer[i]) {
+				++yyline;
+				yy_last_was_cr=true;
+			} else yy_last_was_cr=false;
+		}
+		yy_buffer_start = yy_buffer_index;
+	}
+	private void yy_mark_end () {
+		yy_buffer_end = yy_buffer_index;
+	}
+	private void yy_to_mark () {
+		yy_buffer_index = yy_buffer_end;
+		yy_at_bol = (yy_buffer_end > yy_buffer_start) &&
+		            ('\r' == yy_buffer[yy_buffer_end-1] ||
+		             '\n' == yy_buffer[yy_buffer_end-1] ||
+		             2028/*LS*/ == yy_buffer[yy_buffer_end-1] ||
+		             2029/*PS*/ == yy_buffer[yy_buffer_end-1]);
+	}
+	private java.lang.String yytext () {
+		return (new java.lang.String(yy_buffer,
+			yy_buffer_start,
+			yy_buffer_end - yy_buffer_start));
+	}
+	private int yylength () {
+		return yy_buffer_end - yy_buffer_start;
+	}
+	private char[] yy_double (char buf[]) {
+		int i;
+		char newbuf[];
+		newbuf = new char[2*buf.length];
+		for (i = 0; i < buf.length; ++i) {
+			newbuf[i] = buf[i];
+		}
+		return newbuf;
+	}
+	private final int YY_E_INTERNAL = 0;
+	private final int YY_E_MATCH = 1;
+	private java.lang.String yy_error_string[] = {
+		"Error: Internal error.\n",
+		"Error: Unmatched input.\n"
+	};
+	private void yy_error (int code,boolean fatal) {
+		java.lang.System.out.print(yy_error_string[code]);
+		java.lang.System.out.flush();
+		if (fatal) {
+			throw new Error("Fatal Error.\n");
+		}
+	}
+	private static final int yy_acpt[];
+	private static final int yy_cmap[];
+	static {
+		int yy_t[] = yy_unpack(new java.lang.String[] {
+			"b\001\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005" +
+			"\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005" +
+			"\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005" +
+			"\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005" +
+			"\005\005\005\005\005\005\005\005\005\005\005\005\005\005\001\005\005\005\005" +
+			"\005\005\203.........\033\032..\027..................\033*\026\035..+\031 !)" +
+			"'#($\034\025\025\025\025\025\025\025\025\025\025.\"%-&\031.\024\024\024\024\024" +
+			"\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024" +
+			"\024\024.\030..\024.\016\002\020\011\014\015\024\022\005\024\024\004\024\006" +
+			"\003\023\024\012\017\007\013\010\021\024\024\024\036,\037..\001\001"
+		});
+		int yy_at = 0;
+		yy_acpt = yy_take(yy_t, yy_at);
+		yy_at += 1 + yy_acpt.length;
+		yy_cmap = yy_take(yy_t, yy_at);
+	}
+
+	private static int[] yy_take (int t[], int at) {
+		return java.util.Arrays.copyOfRange(t, at + 1, at + 1 + t[at]);
+	}
+	private static int[] yy_unpack (java.lang.String parts[]) {
+		int size = 0;
+		for (int i = 0; i < parts.length; ++i) {
+			size += parts[i].length();
+		}
+		int t[] = new int[size];
+		int k = 0;
+		for (int i = 0; i < parts.length; ++i) {
+			java.lang.String s = parts[i];
+			for (int j = 0; j < s.length(); ++j) {
+				int c = s.charAt(j);
+				if (0xffff == c) {
+					c = (s.charAt(j + 1) << 16) | s.charAt(j + 2);
+					j += 2;
+				} else {
+					c = c - 1;
+				}
+				t[k++] = c;
+			}
+		}
+		return java.util.Arrays.copyOf(t, k);
+	}
+
+	private static int yy_next (int state, int col) {
+		switch (state) {
+		case 0:
+			return yy_row0(col);
+		case 1:
+		case 15:
+		case 16:
+		case 20:
+		case 21:
+		case 22:
+		case 23:
+		case 24:
+		case 25:
+		case 26:
+		case 31:
+		case 48:
+		case 50:
+		case 51:
+		case 52:
+		case 53:
+		case 54:
+		case 55:
+		case 56:
+		case 57:
+		case 58:
+		case 59:
+		case 83:
+			return yy_row1(col);
+		case 2:
+			return yy_row2(col);
+		case 3:
+		case 38:
+		case 61:
+		case 70:
+		case 73:
+		case 74:
+		case 75:
+		case 78:
+		case 81:
+		case 87:
+		case 89:
+		case 92:
+		case 93:
+		case 94:
+			return yy_row3(col);
+		case 4:
+			return yy_row4(col);
+		case 5:
+			return yy_row5(col);
+		case 6:
+			return yy_row6(col);
+		case 7:
+			return yy_row7(col);
+		case 8:
+			return yy_row8(col);
+		case 9:
+			return yy_row9(col);
+		case 10:
+			return yy_row10(col);
+		case 11:
+			return yy_row11(col);
+		case 12:
+			return yy_row12(col);
+		case 13:
+			return yy_row13(col);
+		case 14:
+			return yy_row14(col);
+		case 17:
+			return yy_row15(col);
+		case 18:
+			return yy_row16(col);
+		case 19:
+			return yy_row17(col);
+		case 27:
+			return yy_row18(col);
+		case 28:
+			return yy_row19(col);
+		case 29:
+			return yy_row20(col);
+		case 30:
+			return yy_row21(col);
+		case 32:
+			return yy_row22(col);
+		case 33:
+			return yy_row23(col);
+		case 34:
+			return yy_row24(col);
+		case 35:
+			return yy_row25(col);
+		case 36:
+			return yy_row26(col);
+		case 37:
+			return yy_row27(col);
+		case 39:
+			return yy_row28(col);
+		case 40:
+			return yy_row29(col);
+		case 41:
+			return yy_row30(col);
+		case 42:
+			return yy_row31(col);
+		case 43:
+			return yy_row32(col);
+		case 44:
+			return yy_row33(col);
+		case 45:
+			return yy_row34(col);
+		case 46:
+			return yy_row35(col);
+		case 47:
+			return yy_row36(col);
+		case 49:
+			return yy_row37(col);
+		case 60:
+			return yy_row38(col);
+		case 62:
+			return yy_row39(col);
+		case 63:
+			return yy_row40(col);
+		case 64:
+			return yy_row41(col);
+		case 65:
+			return yy_row42(col);
+		case 66:
+			return yy_row43(col);
+		case 67:
+			return yy_row44(col);
+		case 68:
+			return yy_row45(col);
+		case 69:
+			return yy_row46(col);
+		case 71:
+			return yy_row47(col);
+		case 72:
+			return yy_row48(col);
+		case 76:
+			return yy_row49(col);
+		case 77:
+			return yy_row50(col);
+		case 79:
+			return yy_row51(col);
+		case 80:
+			return yy_row52(col);
+		case 82:
+			return yy_row53(col);
+		case 84:
+			return yy_row54(col);
+		case 85:
+			return yy_row55(col);
+		case 86:
+			return yy_row56(col);
+		case 88:
+			return yy_row57(col);
+		case 90:
+			return yy_row58(col);
+		case 91:
+		case 95:
+			return yy_row59(col);
+		case 96:
+			return yy_row60(col);
+		default:
+			return -1;
+		}
+	}
+	private static int yy_row0 (int col) {
+		switch (col) {
+		case 0:
+			return 1;
+		case 1:
+			return 2;
+		case 4:
+			return 4;
+		case 6:
+			return 5;
+		case 7:
+			return 6;
+		case 9:
+			return 7;
+		case 11:
+			return 8;
+		case 12:
+			return 9;
+		case 14:
+			return 10;
+		case 15:
+			return 11;
+		case 16:
+			return 12;
+		case 20:
+			return 13;
+		case 21:
+			return 14;
+		case 22:
+			return -1;
+		case 23:
+		case 24:
+		case 45:
+			return 15;
+		case 25:
+			return 16;
+		case 26:
+			return 17;
+		case 27:
+			return 18;
+		case 28:
+			return 19;
+		case 29:
+			return 20;
+		case 30:
+			return 21;
+		case 31:
+			return 22;
+		case 32:
+			return 23;
+		case 33:
+			return 24;
+		case 34:
+			return 25;
+		case 35:
+			return 26;
+		case 36:
+			return 27;
+		case 37:
+			return 28;
+		case 38:
+			return 29;
+		case 39:
+			return 30;
+		case 40:
+			return 31;
+		case 41:
+			return 32;
+		case 42:
+			return 33;
+		case 43:
+			return 34;
+		case 44:
+			return 35;
+		}
+		return 3;
+	}
+	private static int yy_row1 (int col) {
+		return -1;
+	}
+	private static int yy_row2 (int col) {
+		switch (col) {
+		case 1:
+		case 3:
+		case 4:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 11:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 2:
+			return 36;
+		}
+		return -1;
+	}
+	private static int yy_row3 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 11:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		}
+		return -1;
+	}
+	private static int yy_row4 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 11:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 5:
+			return 37;
+		case 12:
+			return 38;
+		}
+		return -1;
+	}
+	private static int yy_row5 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 10:
+		case 11:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 9:
+			return 39;
+		}
+		return -1;
+	}
+	private static int yy_row6 (int col) {
+		switch (col) {
+		case 1:
+		case 3:
+		case 4:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 11:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 2:
+			return 40;
+		}
+		return -1;
+	}
+	private static int yy_row7 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 11:
+			return 41;
+		}
+		return -1;
+	}
+	private static int yy_row8 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 4:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 11:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 3:
+			return 42;
+		}
+		return -1;
+	}
+	private static int yy_row9 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 11:
+		case 12:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 13:
+			return 43;
+		}
+		return -1;
+	}
+	private static int yy_row10 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 5:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 11:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 6:
+			return 44;
+		}
+		return -1;
+	}
+	private static int yy_row11 (int col) {
+		switch (col) {
+		case 1:
+		case 3:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 11:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 2:
+			return 45;
+		case 4:
+			return 46;
+		}
+		return -1;
+	}
+	private static int yy_row12 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 11:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 17:
+			return 47;
+		}
+		return -1;
+	}
+	private static int yy_row13 (int col) {
+		switch (col) {
+		case 20:
+			return 13;
+		}
+		return -1;
+	}
+	private static int yy_row14 (int col) {
+		switch (col) {
+		case 0:
+		case 25:
+			return -1;
+		case 21:
+			return 48;
+		case 23:
+			return 49;
+		}
+		return 14;
+	}
+	private static int yy_row15 (int col) {
+		switch (col) {
+		case 26:
+			return 17;
+		}
+		return -1;
+	}
+	private static int yy_row16 (int col) {
+		switch (col) {
+		case 27:
+			return 19;
+		}
+		return -1;
+	}
+	private static int yy_row17 (int col) {
+		switch (col) {
+		case 0:
+		case 25:
+			return -1;
+		}
+		return 19;
+	}
+	private static int yy_row18 (int col) {
+		switch (col) {
+		case 36:
+			return 50;
+		case 44:
+			return 51;
+		}
+		return -1;
+	}
+	private static int yy_row19 (int col) {
+		switch (col) {
+		case 37:
+			return 52;
+		case 44:
+			return 53;
+		}
+		return -1;
+	}
+	private static int yy_row20 (int col) {
+		switch (col) {
+		case 38:
+			return 54;
+		}
+		return -1;
+	}
+	private static int yy_row21 (int col) {
+		switch (col) {
+		case 39:
+			return 55;
+		}
+		return -1;
+	}
+	private static int yy_row22 (int col) {
+		switch (col) {
+		case 44:
+			return 56;
+		}
+		return -1;
+	}
+	private static int yy_row23 (int col) {
+		switch (col) {
+		case 42:
+			return 57;
+		}
+		return -1;
+	}
+	private static int yy_row24 (int col) {
+		switch (col) {
+		case 43:
+			return 58;
+		}
+		return -1;
+	}
+	private static int yy_row25 (int col) {
+		switch (col) {
+		case 44:
+			return 59;
+		}
+		return -1;
+	}
+	private static int yy_row26 (int col) {
+		switch (col) {
+		case 1:
+		case 3:
+		case 4:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 11:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 2:
+			return 60;
+		}
+		return -1;
+	}
+	private static int yy_row27 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 5:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 11:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 6:
+			return 61;
+		}
+		return -1;
+	}
+	private static int yy_row28 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 11:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 10:
+			return 62;
+		}
+		return -1;
+	}
+	private static int yy_row29 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 11:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 4:
+			return 63;
+		}
+		return -1;
+	}
+	private static int yy_row30 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 5:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 11:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 19:
+		case 20:
+			return 3;
+		case 6:
+			return 64;
+		case 18:
+			return 65;
+		}
+		return -1;
+	}
+	private static int yy_row31 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 11:
+		case 12:
+		case 13:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 14:
+			return 66;
+		}
+		return -1;
+	}
+	private static int yy_row32 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 4:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 11:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 3:
+			return 67;
+		}
+		return -1;
+	}
+	private static int yy_row33 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 10:
+		case 11:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 9:
+			return 68;
+		}
+		return -1;
+	}
+	private static int yy_row34 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 11:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 10:
+			return 69;
+		}
+		return -1;
+	}
+	private static int yy_row35 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 11:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 5:
+			return 70;
+		}
+		return -1;
+	}
+	private static int yy_row36 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 11:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 4:
+			return 71;
+		}
+		return -1;
+	}
+	private static int yy_row37 (int col) {
+		switch (col) {
+		case 0:
+		case 25:
+			return -1;
+		case 5:
+		case 6:
+		case 21:
+		case 23:
+		case 24:
+			return 14;
+		}
+		return 72;
+	}
+	private static int yy_row38 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 4:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 11:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 3:
+			return 73;
+		}
+		return -1;
+	}
+	private static int yy_row39 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 11:
+			return 74;
+		}
+		return -1;
+	}
+	private static int yy_row40 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 5:
+		case 6:
+		case 7:
+		case 9:
+		case 10:
+		case 11:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 8:
+			return 75;
+		}
+		return -1;
+	}
+	private static int yy_row41 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 11:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 10:
+			return 76;
+		}
+		return -1;
+	}
+	private static int yy_row42 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 11:
+			return 77;
+		}
+		return -1;
+	}
+	private static int yy_row43 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 11:
+			return 78;
+		}
+		return -1;
+	}
+	private static int yy_row44 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 11:
+		case 12:
+		case 13:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 14:
+			return 79;
+		}
+		return -1;
+	}
+	private static int yy_row45 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 11:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 10:
+			return 80;
+		}
+		return -1;
+	}
+	private static int yy_row46 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 5:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 11:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 6:
+			return 81;
+		}
+		return -1;
+	}
+	private static int yy_row47 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 4:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 11:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 3:
+			return 82;
+		}
+		return -1;
+	}
+	private static int yy_row48 (int col) {
+		switch (col) {
+		case 0:
+		case 25:
+			return -1;
+		case 21:
+			return 83;
+		case 23:
+			return 84;
+		}
+		return 72;
+	}
+	private static int yy_row49 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 10:
+		case 11:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 9:
+			return 85;
+		}
+		return -1;
+	}
+	private static int yy_row50 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 11:
+		case 12:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 13:
+			return 86;
+		}
+		return -1;
+	}
+	private static int yy_row51 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 11:
+			return 87;
+		}
+		return -1;
+	}
+	private static int yy_row52 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 11:
+		case 12:
+		case 13:
+		case 14:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 15:
+			return 88;
+		}
+		return -1;
+	}
+	private static int yy_row53 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 5:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 11:
+			return 89;
+		}
+		return -1;
+	}
+	private static int yy_row54 (int col) {
+		switch (col) {
+		case 0:
+		case 25:
+			return -1;
+		case 5:
+		case 6:
+		case 23:
+		case 24:
+			return 72;
+		case 21:
+			return 91;
+		}
+		return 90;
+	}
+	private static int yy_row55 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 6:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 11:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 5:
+			return 92;
+		}
+		return -1;
+	}
+	private static int yy_row56 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 5:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 11:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 6:
+			return 93;
+		}
+		return -1;
+	}
+	private static int yy_row57 (int col) {
+		switch (col) {
+		case 1:
+		case 2:
+		case 3:
+		case 4:
+		case 5:
+		case 7:
+		case 8:
+		case 9:
+		case 10:
+		case 11:
+		case 12:
+		case 13:
+		case 14:
+		case 15:
+		case 16:
+		case 17:
+		case 18:
+		case 19:
+		case 20:
+			return 3;
+		case 6:
+			return 94;
+		}
+		return -1;
+	}
+	private static int yy_row58 (int col) {
+		switch (col) {
+		case 0:
+		case 25:
+			return -1;
+		case 21:
+			return 83;
+		}
+		return 90;
+	}
+	private static int yy_row59 (int col) {
+		switch (col) {
+		case 0:
+		case 21:
+		case 25:
+			return -1;
+		case 23:
+			return 96;
+		}
+		return 95;
+	}
+	private static int yy_row60 (int col) {
+		switch (col) {
+		case 5:
+		case 6:
+		case 21:
+		case 23:
+		case 24:
+			return 95;
+		}
+		return -1;
+	}
+	private void yy_skip (int state) {
+		char yy_b[] = yy_buffer;
+		int yy_i = yy_buffer_index;
+		int yy_n = yy_buffer_read;
+		switch (state) {
+		case 3:
+			while (yy_i < yy_n) {
+				int c = yy_b[yy_i];
+				if (!((48 <= c && c <= 57) || (65 <= c && c <= 90) || 95 == c || (97 <= c && c <= 122))) {
+					break;
+				}
+				++yy_i;
+			}
+			break;
+		case 13:
+			while (yy_i < yy_n) {
+				int c = yy_b[yy_i];
+				if (!((48 <= c && c <= 57))) {
+					break;
+				}
+				++yy_i;
+			}
+			break;
+		case 14:
+			while (yy_i < yy_n) {
+				int c = yy_b[yy_i];
+				if (!((0 <= c && c <= 9) || (11 <= c && c <= 33) || (35 <= c && c <= 91) || (93 <= c && c <= 127))) {
+					break;
+				}
+				++yy_i;
+			}
+			break;
+		case 17:
+			while (yy_i < yy_n) {
+				int c = yy_b[yy_i];
+				if (!(9 == c || 32 == c)) {
+					break;
+				}
+				++yy_i;
+			}
+			break;
+		case 19:
+			while (yy_i < yy_n) {
+				int c = yy_b[yy_i];
+				if (!((0 <= c && c <= 9) || (11 <= c && c <= 127))) {
+					break;
+				}
+				++yy_i;
+			}
+			break;
+		case 72:
+			while (yy_i < yy_n) {
+				int c = yy_b[yy_i];
+				if (!((0 <= c && c <= 9) || (11 <= c && c <= 33) || (35 <= c && c <= 91) || (93 <= c && c <= 127))) {
+					break;
+				}
+				++yy_i;
+			}
+			break;
+		case 90:
+			while (yy_i < yy_n) {
+				int c = yy_b[yy_i];
+				if (!((0 <= c && c <= 9) || (11 <= c && c <= 33) || (35 <= c && c <= 127))) {
+					break;
+				}
+				++yy_i;
+			}
+			break;
+		case 95:
+			while (yy_i < yy_n) {
+				int c = yy_b[yy_i];
+				if (!((0 <= c && c <= 9) || (11 <= c && c <= 33) || (35 <= c && c <= 91) || (93 <= c && c <= 127))) {
+					break;
+				}
+				++yy_i;
+			}
+			break;
+		}
+		yy_buffer_index = yy_i;
+	}
+	public java_cup.runtime.Symbol next_token ()
+		throws java.io.IOException {
+		int yy_lookahead;
+		int yy_anchor = YY_NO_ANCHOR;
+		int yy_state = yy_state_dtrans[yy_lexical_state];
+		int yy_next_state = YY_NO_STATE;
+		int yy_last_accept_state = YY_NO_STATE;
+		boolean yy_initial = true;
+		int yy_this_accept;
+
+		yy_mark_start();
+		yy_this_accept = yy_acpt[yy_state];
+		if (YY_NOT_ACCEPT != yy_this_accept) {
+			yy_last_accept_state = yy_state;
+			yy_mark_end();
+		}
+		while (true) {
+			if (yy_initial && yy_at_bol) yy_lookahead = YY_BOL;
+			else yy_lookahead = yy_advance();
+			yy_next_state = YY_F;
+			yy_next_state = yy_next(yy_state, yy_cmap[yy_lookahead]);
+			if (YY_EOF == yy_lookahead && true == yy_initial) {
+
+if (tokens != null) {
+    tokens.add(sym.EOF, yyline+1, charNum, 0);
+}
+return new Symbol(sym.EOF);
+			}
+			if (YY_F != yy_next_state) {
+				if (yy_next_state == yy_state) {
+					yy_skip(yy_state);
+				}
+				yy_state = yy_next_state;
+				yy_initial = false;
+				yy_this_accept = yy_acpt[yy_state];
+				if (YY_NOT_ACCEPT != yy_this_accept) {
+					yy_last_accept_state = yy_state;
+					yy_mark_end();
+				}
+			}
+			else {
+				if (YY_NO_STATE == yy_last_accept_state) {
+					throw (new Error("Lexical Error: Unmatched Input."));
+				}
+				else {
+					yy_anchor = yy_acpt[yy_last_accept_state];
+					if (0 != (YY_END & yy_anchor)) {
+						yy_move_end();
+					}
+					yy_to_mark();
+					switch (yy_last_accept_state) {
+					case 1:
+						
+					case -2:
+						break;
+					case 2:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -3:
+						break;
+					case 3:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -4:
+						break;
+					case 4:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -5:
+						break;
+					case 5:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -6:
+						break;
+					case 6:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -7:
+						break;
+					case 7:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -8:
+						break;
+					case 8:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -9:
+						break;
+					case 9:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -10:
+						break;
+					case 10:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -11:
+						break;
+					case 11:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -12:
+						break;
+					case 12:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -13:
+						break;
+					case 13:
+						{ // accumulate the value straight from the buffer, stopping
+            // as soon as it is known to be too large
+            long val = 0;
+            for (int i = yy_buffer_start;
+                 i < yy_buffer_end && val <= Integer.MAX_VALUE; i++) {
+                val = val * 10 + (yy_buffer[i] - '0');
+            }
+            int intVal;
+            if (val > Integer.MAX_VALUE) {
+                ErrMsg.warn(yyline+1, charNum,
+                            "integer literal too large; using max value");
+                intVal = Integer.MAX_VALUE;
+            } else {
+                intVal = (int)val;
+            }
+            Symbol S = (tokens != null) ? record(sym.INTLITERAL, intVal)
+                     : new Symbol(sym.INTLITERAL,
+                             new IntLitTokenVal(yyline+1, charNum, intVal));
+            charNum += yy_buffer_end - yy_buffer_start;
+            return S;
+          }
+					case -14:
+						break;
+					case 14:
+						{
+            // unterminated string
+            ErrMsg.fatal(yyline+1, charNum,
+                         "unterminated string literal ignored");
+          }
+					case -15:
+						break;
+					case 15:
+						{ ErrMsg.fatal(yyline+1, charNum,
+                         "illegal character ignored: " + yytext());
+            charNum++;
+          }
+					case -16:
+						break;
+					case 16:
+						{ charNum = 1; }
+					case -17:
+						break;
+					case 17:
+						{ charNum += yy_buffer_end - yy_buffer_start; }
+					case -18:
+						break;
+					case 18:
+						{ return token(sym.DIVIDE); }
+					case -19:
+						break;
+					case 19:
+						{ // comment - ignore. Note: don't need to update char num 
+            // since everything to end of line will be ignored
+          }
+					case -20:
+						break;
+					case 20:
+						{ return token(sym.LCURLY); }
+					case -21:
+						break;
+					case 21:
+						{ return token(sym.RCURLY); }
+					case -22:
+						break;
+					case 22:
+						{ return token(sym.LPAREN); }
+					case -23:
+						break;
+					case 23:
+						{ return token(sym.RPAREN); }
+					case -24:
+						break;
+					case 24:
+						{ return token(sym.SEMICOLON); }
+					case -25:
+						break;
+					case 25:
+						{ return token(sym.COMMA); }
+					case -26:
+						break;
+					case 26:
+						{ return token(sym.DOT); }
+					case -27:
+						break;
+					case 27:
+						{ return token(sym.LESS); }
+					case -28:
+						break;
+					case 28:
+						{ return token(sym.GREATER); }
+					case -29:
+						break;
+					case 29:
+						{ return token(sym.PLUS); }
+					case -30:
+						break;
+					case 30:
+						{ return token(sym.MINUS); }
+					case -31:
+						break;
+					case 31:
+						{ return token(sym.TIMES); }
+					case -32:
+						break;
+					case 32:
+						{ return token(sym.NOT); }
+					case -33:
+						break;
+					case 33:
+						{ ErrMsg.fatal(yyline+1, charNum,
+                         "illegal character ignored: " + yytext());
+            charNum++;
+          }
+					case -34:
+						break;
+					case 34:
+						{ ErrMsg.fatal(yyline+1, charNum,
+                         "illegal character ignored: " + yytext());
+            charNum++;
+          }
+					case -35:
+						break;
+					case 35:
+						{ return token(sym.ASSIGN); }
+					case -36:
+						break;
+					case 36:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -37:
+						break;
+					case 37:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -38:
+						break;
+					case 38:
+						{ return token(sym.IF); }
+					case -39:
+						break;
+					case 39:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -40:
+						break;
+					case 40:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -41:
+						break;
+					case 41:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -42:
+						break;
+					case 42:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -43:
+						break;
+					case 43:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -44:
+						break;
+					case 44:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -45:
+						break;
+					case 45:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -46:
+						break;
+					case 46:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -47:
+						break;
+					case 47:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -48:
+						break;
+					case 48:
+						{
+            int len = yy_buffer_end - yy_buffer_start;
+            Symbol S = (tokens != null)
+                     ? record(sym.STRINGLITERAL, tokens.addString(yy_buffer,
+                                                   yy_buffer_start, len))
+                     : new Symbol(sym.STRINGLITERAL,
+                             new StrLitTokenVal(yyline+1, charNum, yytext()));
+            charNum += len;
+            return S;
+          }
+					case -49:
+						break;
+					case 49:
+						{
+            // bad escape character
+            ErrMsg.fatal(yyline+1, charNum,
+             "unterminated string literal with bad escaped character ignored");
+          }
+					case -50:
+						break;
+					case 50:
+						{ return token(sym.WRITE); }
+					case -51:
+						break;
+					case 51:
+						{ return token(sym.LESSEQ); }
+					case -52:
+						break;
+					case 52:
+						{ return token(sym.READ); }
+					case -53:
+						break;
+					case 53:
+						{ return token(sym.GREATEREQ); }
+					case -54:
+						break;
+					case 54:
+						{ return token(sym.PLUSPLUS); }
+					case -55:
+						break;
+					case 55:
+						{ return token(sym.MINUSMINUS); }
+					case -56:
+						break;
+					case 56:
+						{ return token(sym.NOTEQUALS); }
+					case -57:
+						break;
+					case 57:
+						{ return token(sym.AND); }
+					case -58:
+						break;
+					case 58:
+						{ return token(sym.OR); }
+					case -59:
+						break;
+					case 59:
+						{ return token(sym.EQUALS); }
+					case -60:
+						break;
+					case 60:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -61:
+						break;
+					case 61:
+						{ return token(sym.INT); }
+					case -62:
+						break;
+					case 62:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -63:
+						break;
+					case 63:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -64:
+						break;
+					case 64:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -65:
+						break;
+					case 65:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -66:
+						break;
+					case 66:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -67:
+						break;
+					case 67:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -68:
+						break;
+					case 68:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -69:
+						break;
+					case 69:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -70:
+						break;
+					case 70:
+						{ return token(sym.CIN); }
+					case -71:
+						break;
+					case 71:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -72:
+						break;
+					case 72:
+						{
+            // bad escape character
+            ErrMsg.fatal(yyline+1, charNum,
+             "unterminated string literal with bad escaped character ignored");
+          }
+					case -73:
+						break;
+					case 73:
+						{ return token(sym.BOOL); }
+					case -74:
+						break;
+					case 74:
+						{ return token(sym.TRUE); }
+					case -75:
+						break;
+					case 75:
+						{ return token(sym.VOID); }
+					case -76:
+						break;
+					case 76:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -77:
+						break;
+					case 77:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -78:
+						break;
+					case 78:
+						{ return token(sym.ELSE); }
+					case -79:
+						break;
+					case 79:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -80:
+						break;
+					case 80:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -81:
+						break;
+					case 81:
+						{ return token(sym.COUT); }
+					case -82:
+						break;
+					case 82:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -83:
+						break;
+					case 83:
+						{
+            // bad escape character
+            ErrMsg.fatal(yyline+1, charNum,
+                         "string literal with bad escaped character ignored");
+            charNum += yytext().length();
+          }
+					case -84:
+						break;
+					case 84:
+						{
+            // bad escape character
+            ErrMsg.fatal(yyline+1, charNum,
+             "unterminated string literal with bad escaped character ignored");
+          }
+					case -85:
+						break;
+					case 85:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -86:
+						break;
+					case 86:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -87:
+						break;
+					case 87:
+						{ return token(sym.FALSE); }
+					case -88:
+						break;
+					case 88:
+						{
+            // interned straight from the buffer: no String per occurrence
+            int len = yy_buffer_end - yy_buffer_start;
+            Name name = names.intern(yy_buffer, yy_buffer_start, len);
+            Symbol S = (tokens != null) ? record(sym.ID, name.id())
+                     : new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum, name));
+            charNum += len;
+            return S;
+          }
+					case -89:
+						break;
+					case 89:
+						{ return token(sym.WHILE); }
+					case -90:
+						break;
+					case 91:
+						{
+            // bad escape character
+            ErrMsg.fatal(yyline+1, charNum,
+                         "string literal with bad escaped character ignored");
+            charNum += yytext().length();
+          }
+					case -91:
+						break;
+					case 92:
+						{ return token(sym.RETURN); }
+					case -92:
+						break;
+					case 93:
+						{ return token(sym.REPEAT); }
+					case -93:
+						break;
+					case 94:
+						{ return token(sym.STRUCT); }
+					case -94:
+						break;
+					case 95:
+						{
+            // bad escape character
+            ErrMsg.fatal(yyline+1, charNum,
+             "unterminated string literal with bad escaped character ignored");
+          }
+					case -95:
+						break;
+					case 96:
+						{
+            // bad escape character
+            ErrMsg.fatal(yyline+1, charNum,
+             "unterminated string literal with bad escaped character ignored");
+          }
+					case -96:
+						break;
+					default:
+						yy_error(YY_E_INTERNAL,false);
+					case -1:
+					}
+					yy_initial = true;
+					yy_state = yy_state_dtrans[yy_lexical_state];
+					yy_next_state = YY_NO_STATE;
+					yy_last_accept_state = YY_NO_STATE;
+					yy_mark_start();
+					yy_this_accept = yy_acpt[yy_state];
+					if (YY_NOT_ACCEPT != yy_this_accept) {
+						yy_last_accept_state = yy_state;
+						yy_mark_end();
+					}
+				}
+			}
+		}
+	}
+}
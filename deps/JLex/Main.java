@@ -180,8 +180,14 @@ import java.lang.Character;
 
 import java.util.Enumeration;
 import java.util.Stack;
+import java.util.ArrayList;
 import java.util.Hashtable;
+import java.util.HashMap;
 import java.util.Vector;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /******************************
   Questions:
@@ -250,9 +256,9 @@ class CSpec
   /* DFA Machine. */
   Vector m_dfa_states; /* Vector of states, with index
 				 corresponding to label. */
-  Hashtable m_dfa_sets; /* Hashtable taking set of NFA states
-				  to corresponding DFA state, 
-				  if the latter exists. */
+  HashMap m_dfa_sets; /* HashMap taking set of NFA states
+				(as a CNfaSetKey) to corresponding
+				DFA state, if the latter exists. */
   
   /* Accept States and Corresponding Anchors. */
   Vector m_accept_vector;
@@ -281,6 +287,17 @@ class CSpec
   /* Verbose execution flag. */
   boolean m_verbose;
 
+  /* Generator options (see CLexGen.set_option). */
+  boolean m_classic_minimize; /* Minimize by iterative regrouping
+				 rather than partition refinement. */
+  int m_threads; /* Threads computing DFA transitions. */
+  int m_table_format; /* STRING_TABLES, COMB_TABLES or
+			 RESOURCE_TABLES. */
+  java.io.File m_out_dir; /* Directory of the generated source,
+			     where RESOURCE_TABLES are written. */
+  boolean m_direct; /* Emit the transitions as code rather than
+		       tables, where the DFA is small enough. */
+
   /* JLex directives flags. */
   boolean m_integer_type;
   boolean m_intwrap_type;
@@ -338,6 +355,15 @@ class CSpec
   static final int NONE = 0;
   static final int START = 1;
   static final int END = 2;
+
+  /* Formats of the emitted transition table (see CEmit). */
+  static final int STRING_TABLES = 0; /* Run-length encoded strings,
+					 unpacked by each instance. */
+  static final int COMB_TABLES = 1; /* Comb vectors, unpacked once
+				       per class from strings. */
+  static final int RESOURCE_TABLES = 2; /* Comb vectors, read once
+					   per class from a binary
+					   resource. */
   
   /***************************************************************
     Function: CSpec
@@ -376,12 +402,17 @@ class CSpec
 
 	/* Initialize variables for JLex runtime options. */
 	m_verbose = true;
+	m_classic_minimize = false;
+	m_threads = 1;
+	m_table_format = STRING_TABLES;
+	m_out_dir = null;
+	m_direct = false;
 
 	m_nfa_start = null;
 	m_nfa_states = new Vector();
 	
 	m_dfa_states = new Vector();
-	m_dfa_sets = new Hashtable();
+	m_dfa_sets = new HashMap();
 
 	m_dtrans_vector = new Vector();
 	m_dtrans_ncols = CUtility.MAX_SEVEN_BIT + 1;
@@ -428,6 +459,8 @@ class CEmit
     **************************************************************/
   private CSpec m_spec;
   private java.io.PrintWriter m_outstream;
+  private boolean m_direct; /* Transitions emitted as code
+			       (see emit_direct). */
 
   /***************************************************************
     Constants: Anchor Types
@@ -442,6 +475,17 @@ class CEmit
   private final boolean EDBG = true;
   private final boolean NOT_EDBG = false;
 
+  /* First int of a binary tables resource ("JLXT"). */
+  private static final int YY_TABLES_MAGIC = 0x4a4c5854;
+
+  /* Most bytecode a method emitted by emit_direct may take:
+     HotSpot does not compile methods over 8000 bytes. */
+  private static final int DIRECT_MAX_METHOD = 7500;
+
+  /* Most character ranges yy_skip tests a state's loop with; it
+     looks the characters' columns up beyond that. */
+  private static final int DIRECT_MAX_RANGES = 4;
+
   /***************************************************************
     Function: CEmit
     Description: Constructor.
@@ -463,6 +507,7 @@ class CEmit
       {
 	m_spec = null;
 	m_outstream = null;
+	m_direct = false;
       }
 
   /***************************************************************
@@ -617,6 +662,8 @@ class CEmit
 	    print_details();
 	  }
 
+	  m_direct = m_spec.m_direct && direct_fits();
+
 	  emit_header();
 	  emit_construct();
 	  emit_helpers();
@@ -1067,6 +1114,10 @@ class CEmit
 	m_outstream.println("\t\treturn yy_acpt[current];");
 	m_outstream.println("\t}");*/
 
+	if (CSpec.STRING_TABLES != m_spec.m_table_format || m_direct)
+	  {
+	    return;
+	  }
 
 	// Function: private int [][] unpackFromString(int size1, int size2, String st)
 	// Added 6/24/98 Raimondas Lencevicius
@@ -1169,6 +1220,18 @@ class CEmit
 	    CUtility.ASSERT(null != m_outstream);
 	  }
 
+	if (m_direct)
+	  {
+	    emit_comb_table();
+	    emit_direct();
+	    return;
+	  }
+	if (CSpec.STRING_TABLES != m_spec.m_table_format)
+	  {
+	    emit_comb_table();
+	    return;
+	  }
+
 	m_outstream.println("\tprivate int yy_acpt[] = {");
 	size = m_spec.m_accept_vector.size();
 	for (elem = 0; elem < size; ++elem)
@@ -1245,192 +1308,1038 @@ class CEmit
       }
 
   /***************************************************************
-    Function: emit_driver
-    Description: Output an integer table as a string.  Written by
-    Raimondas Lencevicius 6/24/98; reorganized by CSA 9-Aug-1999.
-    From his original comments:
-	   yy_nxt[][] values are coded into a string
-	   by printing integers and representing
-	   integer sequences as "value:length" pairs.
+    Function: emit_comb_table
+    Description: Emits the accept table, and the character, row and
+    transition maps as comb vectors (see comb_tables), in static
+    arrays unpacked once, when the
+    class is initialized (with m_direct, only the accept table and
+    the character map, see emit_direct): from strings in the class
+    itself, or
+    (RESOURCE_TABLES) from the binary resource <class>.tables,
+    which this writes next to the generated source.  The resource
+    holds the magic number YY_TABLES_MAGIC, the number of ints
+    that follow, and the ints themselves, big-endian; it is read
+    into a direct ByteBuffer and copied out as ints in one go.
     **************************************************************/
-  private void emit_table_as_string(int[][] ia) {
-	int sequenceLength = 0; // RL - length of the number sequence
-	boolean sequenceStarted = false; // RL - has number sequence started?
-	int previousInt = -20; // RL - Bogus -20 state.
-	
-	// RL - Output matrix size
-	m_outstream.print(ia.length);
-	m_outstream.print(",");
-	m_outstream.print(ia.length>0?ia[0].length:0);
-	m_outstream.println(",");
+  private void emit_comb_table
+    (
+     )
+      throws java.io.IOException
+      {
+	String class_name;
+	int tables[];
+	int i;
 
-	StringBuffer outstr = new StringBuffer();
+	class_name = new String(m_spec.m_class_name,0,
+				m_spec.m_class_name.length);
+	if (m_direct)
+	  {
+	    tables = direct_tables();
+	  }
+	else
+	  {
+	    tables = comb_tables();
+	  }
 
-	//  RL - Output matrix 
-	for (int elem = 0; elem < ia.length; ++elem)
+	m_outstream.println("\tprivate static final int yy_acpt[];");
+	m_outstream.println("\tprivate static final int yy_cmap[];");
+	if (false == m_direct)
 	  {
-	    for (int i = 0; i < ia[elem].length; ++i)
-	      {
-		int writeInt = ia[elem][i];
-		if (writeInt == previousInt) // RL - sequence?
-		  {
-		    if (sequenceStarted)
-		      {
-			sequenceLength++;
-		      }
-		    else
-		      {
-			outstr.append(writeInt);
-			outstr.append(":");
-			sequenceLength = 2;
-			sequenceStarted = true;
-		      }
-		  }
-		else // RL - no sequence or end sequence
-		  {
-		    if (sequenceStarted)
-		      {
-			outstr.append(sequenceLength);
-			outstr.append(",");
-			sequenceLength = 0;
-			sequenceStarted = false;
-		      }
-		    else
-		      {
-			if (previousInt != -20)
-			  {
-			    outstr.append(previousInt);
-			    outstr.append(",");
-			  }
-		      }
-		  }
-		previousInt = writeInt;
-		// CSA: output in 75 character chunks.
-		if (outstr.length() > 75) {
-		  String s = outstr.toString();
-		  m_outstream.println("\""+s.substring(0,75)+"\" +");
-		  outstr = new StringBuffer(s.substring(75));
-		}
-	      }
+	    m_outstream.println("\tprivate static final int yy_rmap[];");
+	    m_outstream.println("\tprivate static final int yy_base[];");
+	    m_outstream.println("\tprivate static final int yy_def[];");
+	    m_outstream.println("\tprivate static final int yy_nxt[];");
+	    m_outstream.println("\tprivate static final int yy_chk[];");
 	  }
-	if (sequenceStarted)
+	m_outstream.println("\tstatic {");
+	if (CSpec.RESOURCE_TABLES == m_spec.m_table_format)
 	  {
-	    outstr.append(sequenceLength);
+	    write_tables(new java.io.File(m_spec.m_out_dir,
+					  class_name + ".tables"),
+			 tables);
+	    m_outstream.println("\t\tint yy_t[] = yy_load(\""
+				+ class_name + ".tables\");");
 	  }
 	else
 	  {
-	    outstr.append(previousInt);
-	  }    
-	// CSA: output in 75 character chunks.
-	if (outstr.length() > 75) {
-	  String s = outstr.toString();
-	  m_outstream.println("\""+s.substring(0,75)+"\" +");
-	  outstr = new StringBuffer(s.substring(75));
-	}
-	m_outstream.print("\""+outstr+"\"");
-  }
+	    m_outstream.println("\t\tint yy_t[] = yy_unpack(new java.lang.String[] {");
+	    emit_ints_as_strings(tables);
+	    m_outstream.println("\t\t});");
+	  }
+	m_outstream.println("\t\tint yy_at = 0;");
+	m_outstream.println("\t\tyy_acpt = yy_take(yy_t, yy_at);");
+	m_outstream.println("\t\tyy_at += 1 + yy_acpt.length;");
+	m_outstream.println("\t\tyy_cmap = yy_take(yy_t, yy_at);");
+	if (false == m_direct)
+	  {
+	    m_outstream.println("\t\tyy_at += 1 + yy_cmap.length;");
+	    m_outstream.println("\t\tyy_rmap = yy_take(yy_t, yy_at);");
+	    m_outstream.println("\t\tyy_at += 1 + yy_rmap.length;");
+	    m_outstream.println("\t\tyy_base = yy_take(yy_t, yy_at);");
+	    m_outstream.println("\t\tyy_at += 1 + yy_base.length;");
+	    m_outstream.println("\t\tyy_def = yy_take(yy_t, yy_at);");
+	    m_outstream.println("\t\tyy_at += 1 + yy_def.length;");
+	    m_outstream.println("\t\tyy_nxt = yy_take(yy_t, yy_at);");
+	    m_outstream.println("\t\tyy_at += 1 + yy_nxt.length;");
+	    m_outstream.println("\t\tyy_chk = yy_take(yy_t, yy_at);");
+	  }
+	m_outstream.println("\t}");
+	m_outstream.println();
+
+	if (false == m_direct)
+	  {
+	    /* Function: yy_next */
+	    m_outstream.println("\tprivate static int yy_next (int row, int col) {");
+	    m_outstream.println("\t\tint i = yy_base[row] + col;");
+	    m_outstream.println("\t\treturn (yy_chk[i] == row) ? yy_nxt[i] : yy_def[row];");
+	    m_outstream.println("\t}");
+	  }
+
+	/* Function: yy_take */
+	m_outstream.println("\tprivate static int[] yy_take (int t[], int at) {");
+	m_outstream.println("\t\treturn java.util.Arrays.copyOfRange(t, at + 1, at + 1 + t[at]);");
+	m_outstream.println("\t}");
+
+	if (CSpec.RESOURCE_TABLES == m_spec.m_table_format)
+	  {
+	    /* Function: yy_load */
+	    m_outstream.println("\tprivate static int[] yy_load (java.lang.String name) {");
+	    m_outstream.println("\t\tjava.io.InputStream in = "
+				+ class_name + ".class.getResourceAsStream(name);");
+	    m_outstream.println("\t\tif (null == in) {");
+	    m_outstream.println("\t\t\tthrow new Error(\"Missing scanner tables \" + name + \".\");");
+	    m_outstream.println("\t\t}");
+	    m_outstream.println("\t\ttry {");
+	    m_outstream.println("\t\t\tjava.nio.channels.ReadableByteChannel channel =");
+	    m_outstream.println("\t\t\t\tjava.nio.channels.Channels.newChannel(in);");
+	    m_outstream.println("\t\t\tjava.nio.ByteBuffer header = java.nio.ByteBuffer.allocate(8);");
+	    m_outstream.println("\t\t\tyy_fill(channel, header);");
+	    m_outstream.println("\t\t\tif (" + YY_TABLES_MAGIC + " != header.getInt(0)) {");
+	    m_outstream.println("\t\t\t\tthrow new Error(\"Bad scanner tables \" + name + \".\");");
+	    m_outstream.println("\t\t\t}");
+	    m_outstream.println("\t\t\tint t[] = new int[header.getInt(4)];");
+	    m_outstream.println("\t\t\tjava.nio.ByteBuffer buf = java.nio.ByteBuffer.allocateDirect(4 * t.length);");
+	    m_outstream.println("\t\t\tyy_fill(channel, buf);");
+	    m_outstream.println("\t\t\tbuf.asIntBuffer().get(t);");
+	    m_outstream.println("\t\t\treturn t;");
+	    m_outstream.println("\t\t} catch (java.io.IOException e) {");
+	    m_outstream.println("\t\t\tthrow new Error(\"Cannot read scanner tables \" + name");
+	    m_outstream.println("\t\t\t\t+ \": \" + e.getMessage());");
+	    m_outstream.println("\t\t} finally {");
+	    m_outstream.println("\t\t\ttry {");
+	    m_outstream.println("\t\t\t\tin.close();");
+	    m_outstream.println("\t\t\t} catch (java.io.IOException e) {");
+	    m_outstream.println("\t\t\t}");
+	    m_outstream.println("\t\t}");
+	    m_outstream.println("\t}");
+
+	    /* Function: yy_fill */
+	    m_outstream.println("\tprivate static void yy_fill (java.nio.channels.ReadableByteChannel channel,");
+	    m_outstream.println("\t\t\tjava.nio.ByteBuffer buf) throws java.io.IOException {");
+	    m_outstream.println("\t\twhile (buf.hasRemaining()) {");
+	    m_outstream.println("\t\t\tif (channel.read(buf) < 0) {");
+	    m_outstream.println("\t\t\t\tthrow new java.io.EOFException();");
+	    m_outstream.println("\t\t\t}");
+	    m_outstream.println("\t\t}");
+	    m_outstream.println("\t\tbuf.flip();");
+	    m_outstream.println("\t}");
+	  }
+	else
+	  {
+	    /* Function: yy_unpack (see emit_ints_as_strings) */
+	    m_outstream.println("\tprivate static int[] yy_unpack (java.lang.String parts[]) {");
+	    m_outstream.println("\t\tint size = 0;");
+	    m_outstream.println("\t\tfor (int i = 0; i < parts.length; ++i) {");
+	    m_outstream.println("\t\t\tsize += parts[i].length();");
+	    m_outstream.println("\t\t}");
+	    m_outstream.println("\t\tint t[] = new int[size];");
+	    m_outstream.println("\t\tint k = 0;");
+	    m_outstream.println("\t\tfor (int i = 0; i < parts.length; ++i) {");
+	    m_outstream.println("\t\t\tjava.lang.String s = parts[i];");
+	    m_outstream.println("\t\t\tfor (int j = 0; j < s.length(); ++j) {");
+	    m_outstream.println("\t\t\t\tint c = s.charAt(j);");
+	    m_outstream.println("\t\t\t\tif (0xffff == c) {");
+	    m_outstream.println("\t\t\t\t\tc = (s.charAt(j + 1) << 16) | s.charAt(j + 2);");
+	    m_outstream.println("\t\t\t\t\tj += 2;");
+	    m_outstream.println("\t\t\t\t} else {");
+	    m_outstream.println("\t\t\t\t\tc = c - 1;");
+	    m_outstream.println("\t\t\t\t}");
+	    m_outstream.println("\t\t\t\tt[k++] = c;");
+	    m_outstream.println("\t\t\t}");
+	    m_outstream.println("\t\t}");
+	    m_outstream.println("\t\treturn java.util.Arrays.copyOf(t, k);");
+	    m_outstream.println("\t}");
+	  }
+	m_outstream.println();
+      }
 
   /***************************************************************
-    Function: emit_driver
-    Description: 
+    Function: comb_tables
+    Description: Packs the transition table into comb vectors and
+    returns them, with the accept table and the character and row
+    maps, as one array: yy_acpt, yy_cmap, yy_rmap, yy_base, yy_def,
+    yy_nxt and yy_chk, each preceded by its length.  Each row of the table gets a default
+    (its most frequent entry, yy_def[row]), and its other entries
+    are placed in yy_nxt at yy_base[row] + column, where yy_chk
+    says which row owns the slot; rows are placed first-fit, the
+    fullest first, so they fill each other's gaps.
     **************************************************************/
-  private void emit_driver
+  private int[] comb_tables
     (
      )
-      throws java.io.IOException
-	{
-	  if (CUtility.DEBUG)
-	    {
-	      CUtility.ASSERT(null != m_spec);
-	      CUtility.ASSERT(null != m_outstream);
-	    }
-	  
-	  emit_table();
+      {
+	int nrows;
+	int ncols;
+	int row[];
+	int base[];
+	int def[];
+	int nxt[];
+	int chk[];
+	int count[];
+	int order[];
+	int bucket[];
+	int cols[];
+	int ncells;
+	int size;
+	int first_free;
+	int r;
+	int c;
+	int i;
+	int n;
+	int b;
+	int yy_acpt[];
+	int yy_cmap[];
+	int tables[];
+	CDTrans dtrans;
 
-	  if (m_spec.m_integer_type)
-	    {
-	      m_outstream.print("\tpublic int ");
-	      m_outstream.print(new String(m_spec.m_function_name));
-	      m_outstream.println(" ()");
-	    }
-	  else if (m_spec.m_intwrap_type)
-	    {
-	      m_outstream.print("\tpublic java.lang.Integer ");
-	      m_outstream.print(new String(m_spec.m_function_name));
-	      m_outstream.println(" ()");
-	    }
-	  else
-	    {
-	      m_outstream.print("\tpublic ");
-	      m_outstream.print(new String(m_spec.m_type_name));
-	      m_outstream.print(" ");
-	      m_outstream.print(new String(m_spec.m_function_name));
-	      m_outstream.println(" ()");
-	    }
+	nrows = m_spec.m_dtrans_vector.size();
+	ncols = m_spec.m_dtrans_ncols;
+	base = new int[nrows];
+	def = new int[nrows];
+	count = new int[nrows];
+	for (r = 0; r < nrows; ++r)
+	  {
+	    dtrans = (CDTrans) m_spec.m_dtrans_vector.elementAt(r);
+	    def[r] = most_frequent(dtrans.m_dtrans);
+	    for (c = 0; c < ncols; ++c)
+	      {
+		if (dtrans.m_dtrans[c] != def[r])
+		  {
+		    ++count[r];
+		  }
+	      }
+	  }
 
-	  /*m_outstream.println("\t\tthrows java.io.IOException {");*/
-	  m_outstream.print("\t\tthrows java.io.IOException");
-	  if (null != m_spec.m_yylex_throw_code)
-	    {
-	      m_outstream.print(", "); 
-	      m_outstream.print(new String(m_spec.m_yylex_throw_code,0,
-						m_spec.m_yylex_throw_read));
-	      m_outstream.println();
-	      m_outstream.println("\t\t{");
-	    }
-	  else
-	    {
-	      m_outstream.println(" {");
-	    }
+	/* Order the rows by falling number of entries (a counting
+	   sort, so rows with as many entries stay in order). */
+	bucket = new int[ncols + 2];
+	for (r = 0; r < nrows; ++r)
+	  {
+	    ++bucket[ncols - count[r] + 1];
+	  }
+	for (i = 1; i < bucket.length; ++i)
+	  {
+	    bucket[i] += bucket[i - 1];
+	  }
+	order = new int[nrows];
+	for (r = 0; r < nrows; ++r)
+	  {
+	    order[bucket[ncols - count[r]]++] = r;
+	  }
 
-	  m_outstream.println("\t\tint yy_lookahead;");
-	  m_outstream.println("\t\tint yy_anchor = YY_NO_ANCHOR;");
-	  /*m_outstream.println("\t\tint yy_state "
-	    + "= yy_initial_dtrans(yy_lexical_state);");*/
-	  m_outstream.println("\t\tint yy_state " 
-				 + "= yy_state_dtrans[yy_lexical_state];");
-	  m_outstream.println("\t\tint yy_next_state = YY_NO_STATE;");
-	  /*m_outstream.println("\t\tint yy_prev_stave = YY_NO_STATE;");*/
-	  m_outstream.println("\t\tint yy_last_accept_state = YY_NO_STATE;");
-    	  m_outstream.println("\t\tboolean yy_initial = true;");
-	  m_outstream.println("\t\tint yy_this_accept;");
-	  m_outstream.println();
+	nxt = new int[Math.max(ncols,16)];
+	chk = new int[nxt.length];
+	java.util.Arrays.fill(chk,-1);
+	cols = new int[ncols];
+	first_free = 0;
+	size = ncols;
+	ncells = 0;
+	for (i = 0; i < nrows; ++i)
+	  {
+	    r = order[i];
+	    if (0 == count[r])
+	      {
+		base[r] = 0;
+		continue;
+	      }
 
-	  m_outstream.println("\t\tyy_mark_start();");
-	  /*m_outstream.println("\t\tyy_this_accept = yy_accept(yy_state);");*/
-	  m_outstream.println("\t\tyy_this_accept = yy_acpt[yy_state];");
-	  m_outstream.println("\t\tif (YY_NOT_ACCEPT != yy_this_accept) {");
-	  m_outstream.println("\t\t\tyy_last_accept_state = yy_state;");
-	  m_outstream.println("\t\t\tyy_mark_end();");
-	  m_outstream.println("\t\t}");
+	    row = ((CDTrans) m_spec.m_dtrans_vector.elementAt(r)).m_dtrans;
+	    n = 0;
+	    for (c = 0; c < ncols; ++c)
+	      {
+		if (row[c] != def[r])
+		  {
+		    cols[n++] = c;
+		  }
+	      }
 
-	  if (NOT_EDBG)
-	    {
-	      m_outstream.println("\t\tjava.lang.System.out.println(\"Begin\");");
-	    }
+	    /* First fit, from the first free slot on. */
+	    for (b = Math.max(0,first_free - cols[0]); ; ++b)
+	      {
+		if (b + ncols > nxt.length)
+		  {
+		    nxt = java.util.Arrays.copyOf(nxt,2 * (b + ncols));
+		    chk = grow_chk(chk,nxt.length);
+		  }
+		for (c = 0; c < n && -1 == chk[b + cols[c]]; ++c)
+		  {
+		  }
+		if (c == n)
+		  {
+		    break;
+		  }
+	      }
 
-	  m_outstream.println("\t\twhile (true) {");
+	    base[r] = b;
+	    for (c = 0; c < n; ++c)
+	      {
+		nxt[b + cols[c]] = row[cols[c]];
+		chk[b + cols[c]] = r;
+	      }
+	    ncells += n;
+	    size = Math.max(size,b + ncols);
+	    while (first_free < chk.length && -1 != chk[first_free])
+	      {
+		++first_free;
+	      }
+	  }
 
-	  m_outstream.println("\t\t\tif (yy_initial && yy_at_bol) "+
-			                 "yy_lookahead = YY_BOL;");
-	  m_outstream.println("\t\t\telse yy_lookahead = yy_advance();");
-	  m_outstream.println("\t\t\tyy_next_state = YY_F;");
-	  /*m_outstream.println("\t\t\t\tyy_next_state = "
-				 + "yy_next(yy_state,yy_lookahead);");*/
-	  m_outstream.println("\t\t\tyy_next_state = "
- 	   + "yy_nxt[yy_rmap[yy_state]][yy_cmap[yy_lookahead]];");
+	System.out.println(ncells + " of " + (nrows * ncols)
+			   + " transitions packed into "
+			   + size + " comb vector slots.");
 
-	  if (NOT_EDBG)
-	    {
-	      m_outstream.println("java.lang.System.out.println(\"Current state: \"" 
-				     + " + yy_state");
-	      m_outstream.println("+ \"\tCurrent input: \""); 
-	      m_outstream.println(" + ((char) yy_lookahead));");
-	    }
-	  if (NOT_EDBG)
-	    {
-	      m_outstream.println("\t\t\tjava.lang.System.out.println(\"State = \"" 
-				     + "+ yy_state);");
+	yy_acpt = accept_table();
+	yy_cmap = char_map();
+
+	tables = new int[7 + yy_acpt.length + yy_cmap.length
+			 + m_spec.m_row_map.length + 2 * nrows + 2 * size];
+	n = 0;
+	n = put_ints(tables,n,yy_acpt,yy_acpt.length);
+	n = put_ints(tables,n,yy_cmap,yy_cmap.length);
+	n = put_ints(tables,n,m_spec.m_row_map,m_spec.m_row_map.length);
+	n = put_ints(tables,n,base,nrows);
+	n = put_ints(tables,n,def,nrows);
+	n = put_ints(tables,n,nxt,size);
+	n = put_ints(tables,n,chk,size);
+	if (CUtility.DEBUG)
+	  {
+	    CUtility.ASSERT(tables.length == n);
+	  }
+	return tables;
+      }
+
+  /***************************************************************
+    Function: direct_fits
+    Description: Returns true if the transitions can be emitted as
+    code (see emit_direct) with no method too large for the JIT
+    to compile, judging by an upper bound of each method's size.
+    **************************************************************/
+  private boolean direct_fits
+    (
+     )
+      {
+	int yy_cmap[];
+	int nstates;
+	int nrows;
+	int ncols;
+	int skip_size;
+	int ranges;
+	int s;
+
+	nstates = m_spec.m_row_map.length;
+	nrows = m_spec.m_dtrans_vector.size();
+	ncols = m_spec.m_dtrans_ncols;
+	yy_cmap = char_map();
+
+	skip_size = 32;
+	for (s = 0; s < nstates; ++s)
+	  {
+	    ranges = loop_ranges(s,yy_cmap).length / 2;
+	    if (ranges > DIRECT_MAX_RANGES)
+	      {
+		skip_size += 48;
+	      }
+	    else if (0 < ranges)
+	      {
+		skip_size += 24 + 14 * ranges;
+	      }
+	  }
+
+	if (16 + 4 * nstates + 5 * nrows <= DIRECT_MAX_METHOD
+	    && 16 + 9 * ncols <= DIRECT_MAX_METHOD
+	    && skip_size <= DIRECT_MAX_METHOD)
+	  {
+	    return true;
+	  }
+	System.out.println("DFA of " + nstates + " states too large "
+			   + "for -direct; emitting transition tables.");
+	return false;
+      }
+
+  /***************************************************************
+    Function: direct_tables
+    Description: Returns the tables emit_direct still needs,
+    yy_acpt and yy_cmap, as one array, each preceded by its length.
+    **************************************************************/
+  private int[] direct_tables
+    (
+     )
+      {
+	int yy_acpt[];
+	int yy_cmap[];
+	int tables[];
+	int n;
+
+	yy_acpt = accept_table();
+	yy_cmap = char_map();
+	tables = new int[2 + yy_acpt.length + yy_cmap.length];
+	n = 0;
+	n = put_ints(tables,n,yy_acpt,yy_acpt.length);
+	n = put_ints(tables,n,yy_cmap,yy_cmap.length);
+	return tables;
+      }
+
+  /***************************************************************
+    Function: emit_direct
+    Description: Emits the transitions as code.  yy_next switches
+    on the state to yy_row<n>, a method for each row of the
+    (reduced) transition table that switches on the column and
+    returns the row's most frequent entry by default.  yy_skip,
+    which the driver calls when a transition leads back to the
+    state it came from, consumes the rest of such a run (the body
+    of an identifier or a comment, white space) straight from the
+    buffer, testing the characters against the ranges that loop.
+    Each method is kept small enough for the JIT to compile (see
+    direct_fits), and the rows small enough to be inlined.
+    **************************************************************/
+  private void emit_direct
+    (
+     )
+      throws java.io.IOException
+      {
+	int yy_cmap[];
+	int row[];
+	int ranges[];
+	boolean done[];
+	boolean used;
+	int nstates;
+	int nrows;
+	int ncols;
+	int def;
+	int next;
+	int r;
+	int s;
+	int c;
+	int i;
+
+	nstates = m_spec.m_row_map.length;
+	nrows = m_spec.m_dtrans_vector.size();
+	ncols = m_spec.m_dtrans_ncols;
+	yy_cmap = char_map();
+
+	/* Function: yy_next */
+	m_outstream.println("\tprivate static int yy_next (int state, int col) {");
+	m_outstream.println("\t\tswitch (state) {");
+	for (r = 0; r < nrows; ++r)
+	  {
+	    used = false;
+	    for (s = 0; s < nstates; ++s)
+	      {
+		if (r == m_spec.m_row_map[s])
+		  {
+		    m_outstream.println("\t\tcase " + s + ":");
+		    used = true;
+		  }
+	      }
+	    if (used)
+	      {
+		m_outstream.println("\t\t\treturn yy_row" + r + "(col);");
+	      }
+	  }
+	m_outstream.println("\t\tdefault:");
+	m_outstream.println("\t\t\treturn " + CDTrans.F + ";");
+	m_outstream.println("\t\t}");
+	m_outstream.println("\t}");
+
+	/* Functions: yy_row<n> */
+	done = new boolean[ncols];
+	for (r = 0; r < nrows; ++r)
+	  {
+	    row = ((CDTrans) m_spec.m_dtrans_vector.elementAt(r)).m_dtrans;
+	    def = most_frequent(row);
+	    m_outstream.println("\tprivate static int yy_row" + r
+				+ " (int col) {");
+	    java.util.Arrays.fill(done,false);
+	    used = false;
+	    for (c = 0; c < ncols; ++c)
+	      {
+		if (done[c] || def == row[c])
+		  {
+		    continue;
+		  }
+		if (false == used)
+		  {
+		    m_outstream.println("\t\tswitch (col) {");
+		    used = true;
+		  }
+		next = row[c];
+		for (i = c; i < ncols; ++i)
+		  {
+		    if (next == row[i])
+		      {
+			m_outstream.println("\t\tcase " + i + ":");
+			done[i] = true;
+		      }
+		  }
+		m_outstream.println("\t\t\treturn " + next + ";");
+	      }
+	    if (used)
+	      {
+		m_outstream.println("\t\t}");
+	      }
+	    m_outstream.println("\t\treturn " + def + ";");
+	    m_outstream.println("\t}");
+	  }
+
+	/* Function: yy_skip */
+	m_outstream.println("\tprivate void yy_skip (int state) {");
+	m_outstream.println("\t\tchar yy_b[] = yy_buffer;");
+	m_outstream.println("\t\tint yy_i = yy_buffer_index;");
+	m_outstream.println("\t\tint yy_n = yy_buffer_read;");
+	m_outstream.println("\t\tswitch (state) {");
+	for (s = 0; s < nstates; ++s)
+	  {
+	    ranges = loop_ranges(s,yy_cmap);
+	    if (0 == ranges.length)
+	      {
+		continue;
+	      }
+	    m_outstream.println("\t\tcase " + s + ":");
+	    m_outstream.println("\t\t\twhile (yy_i < yy_n) {");
+	    m_outstream.println("\t\t\t\tint c = yy_b[yy_i];");
+	    if (ranges.length / 2 > DIRECT_MAX_RANGES)
+	      {
+		m_outstream.println("\t\t\t\tif (c >= yy_cmap.length || "
+				    + s + " != yy_row" + m_spec.m_row_map[s]
+				    + "(yy_cmap[c])) {");
+	      }
+	    else
+	      {
+		m_outstream.print("\t\t\t\tif (!(");
+		for (i = 0; i < ranges.length; i += 2)
+		  {
+		    if (0 < i)
+		      {
+			m_outstream.print(" || ");
+		      }
+		    if (ranges[i] == ranges[i + 1])
+		      {
+			m_outstream.print(ranges[i] + " == c");
+		      }
+		    else
+		      {
+			m_outstream.print("(" + ranges[i] + " <= c && c <= "
+					  + ranges[i + 1] + ")");
+		      }
+		  }
+		m_outstream.println(")) {");
+	      }
+	    m_outstream.println("\t\t\t\t\tbreak;");
+	    m_outstream.println("\t\t\t\t}");
+	    m_outstream.println("\t\t\t\t++yy_i;");
+	    m_outstream.println("\t\t\t}");
+	    m_outstream.println("\t\t\tbreak;");
+	  }
+	m_outstream.println("\t\t}");
+	m_outstream.println("\t\tyy_buffer_index = yy_i;");
+	m_outstream.println("\t}");
+      }
+
+  /***************************************************************
+    Function: loop_ranges
+    Description: Returns the ranges of characters on which a state
+    has a transition to itself, as pairs of first and last.
+    **************************************************************/
+  private int[] loop_ranges
+    (
+     int state,
+     int yy_cmap[]
+     )
+      {
+	int row[];
+	int ranges[];
+	int n;
+	int c;
+
+	row = ((CDTrans) m_spec.m_dtrans_vector.elementAt(
+	  m_spec.m_row_map[state])).m_dtrans;
+	ranges = new int[16];
+	n = 0;
+	for (c = 0; c < yy_cmap.length; ++c)
+	  {
+	    if (state != row[yy_cmap[c]])
+	      {
+		continue;
+	      }
+	    if (0 < n && c - 1 == ranges[n - 1])
+	      {
+		ranges[n - 1] = c;
+		continue;
+	      }
+	    if (n == ranges.length)
+	      {
+		ranges = java.util.Arrays.copyOf(ranges,2 * n);
+	      }
+	    ranges[n++] = c;
+	    ranges[n++] = c;
+	  }
+	return java.util.Arrays.copyOf(ranges,n);
+      }
+
+  /***************************************************************
+    Function: most_frequent
+    Description: Returns the most frequent value of a row (the
+    smallest, if several are).
+    **************************************************************/
+  private int most_frequent
+    (
+     int row[]
+     )
+      {
+	int sorted[];
+	int best;
+	int best_count;
+	int i;
+	int j;
+
+	sorted = (int[]) row.clone();
+	java.util.Arrays.sort(sorted);
+	best = CDTrans.F;
+	best_count = 0;
+	for (i = 0; i < sorted.length; i = j)
+	  {
+	    for (j = i; j < sorted.length && sorted[j] == sorted[i]; ++j)
+	      {
+	      }
+	    if (j - i > best_count)
+	      {
+		best = sorted[i];
+		best_count = j - i;
+	      }
+	  }
+	return best;
+      }
+
+  /***************************************************************
+    Function: accept_table
+    Description: Returns yy_acpt: for each state, the value of
+    YY_NOT_ACCEPT, YY_START, YY_END, YY_START | YY_END or
+    YY_NO_ANCHOR (see emit_construct).
+    **************************************************************/
+  private int[] accept_table
+    (
+     )
+      {
+	int yy_acpt[];
+	int i;
+
+	yy_acpt = new int[m_spec.m_accept_vector.size()];
+	for (i = 0; i < yy_acpt.length; ++i)
+	  {
+	    if (null == m_spec.m_accept_vector.elementAt(i))
+	      {
+		yy_acpt[i] = 0;
+	      }
+	    else if (0 != (m_spec.m_anchor_array[i] & (CSpec.START | CSpec.END)))
+	      {
+		yy_acpt[i] = m_spec.m_anchor_array[i] & (CSpec.START | CSpec.END);
+	      }
+	    else
+	      {
+		yy_acpt[i] = 4;
+	      }
+	  }
+	return yy_acpt;
+      }
+
+  /***************************************************************
+    Function: char_map
+    Description: Returns yy_cmap, the column of the transition
+    table of each character.
+    **************************************************************/
+  private int[] char_map
+    (
+     )
+      {
+	int yy_cmap[];
+	int i;
+
+	yy_cmap = new int[m_spec.m_ccls_map.length];
+	for (i = 0; i < m_spec.m_ccls_map.length; ++i)
+	  {
+	    yy_cmap[i] = m_spec.m_col_map[m_spec.m_ccls_map[i]];
+	  }
+	return yy_cmap;
+      }
+
+  /***************************************************************
+    Function: grow_chk
+    Description: Returns chk grown to size, the new slots free.
+    **************************************************************/
+  private int[] grow_chk
+    (
+     int chk[],
+     int size
+     )
+      {
+	int grown[];
+
+	grown = java.util.Arrays.copyOf(chk,size);
+	java.util.Arrays.fill(grown,chk.length,size,-1);
+	return grown;
+      }
+
+  /***************************************************************
+    Function: put_ints
+    Description: Puts len, then the first len ints of from, into
+    to at index at.  Returns the index after them.
+    **************************************************************/
+  private int put_ints
+    (
+     int to[],
+     int at,
+     int from[],
+     int len
+     )
+      {
+	to[at] = len;
+	System.arraycopy(from,0,to,at + 1,len);
+	return at + 1 + len;
+      }
+
+  /***************************************************************
+    Function: emit_ints_as_strings
+    Description: Emits ints as the elements of a String array, for
+    yy_unpack: each int v as the char v + 1, or, if it does not
+    fit below 0xffff, as 0xffff and its high and low 16 bits.  A
+    string constant may take at most 65535 bytes in a class file,
+    so the strings are cut well before that, between ints.
+    **************************************************************/
+  private void emit_ints_as_strings
+    (
+     int ints[]
+     )
+      {
+	StringBuffer line;
+	int bytes;
+	int i;
+
+	line = new StringBuffer();
+	bytes = 0;
+	m_outstream.print("\t\t\t\"");
+	for (i = 0; i < ints.length; ++i)
+	  {
+	    if (bytes > 60000)
+	      {
+		m_outstream.println(line + "\",");
+		m_outstream.print("\t\t\t\"");
+		line = new StringBuffer();
+		bytes = 0;
+	      }
+	    else if (line.length() > 75)
+	      {
+		m_outstream.println(line + "\" +");
+		m_outstream.print("\t\t\t\"");
+		line = new StringBuffer();
+	      }
+
+	    if (-1 <= ints[i] && ints[i] < 0xfffe)
+	      {
+		bytes += append_char(line,ints[i] + 1);
+	      }
+	    else
+	      {
+		bytes += append_char(line,0xffff);
+		bytes += append_char(line,ints[i] >>> 16);
+		bytes += append_char(line,ints[i] & 0xffff);
+	      }
+	  }
+	m_outstream.println(line + "\"");
+      }
+
+  /***************************************************************
+    Function: append_char
+    Description: Appends a char to a string literal being built,
+    escaped as needed (octal rather than \\u escapes below 0x100,
+    since \\u000a would end the line).  Returns the bytes it takes
+    in a class file.
+    **************************************************************/
+  private int append_char
+    (
+     StringBuffer line,
+     int c
+     )
+      {
+	if ('"' == c || '\\' == c)
+	  {
+	    line.append('\\').append((char) c);
+	  }
+	else if (0x20 <= c && c < 0x7f)
+	  {
+	    line.append((char) c);
+	  }
+	else if (c < 0x100)
+	  {
+	    line.append('\\').append((char) ('0' + (c >> 6)))
+	      .append((char) ('0' + ((c >> 3) & 7)))
+	      .append((char) ('0' + (c & 7)));
+	  }
+	else
+	  {
+	    line.append("\\u");
+	    line.append(Integer.toHexString(0x10000 | c).substring(1));
+	  }
+
+	if (0 < c && c < 0x80)
+	  {
+	    return 1;
+	  }
+	return (c < 0x800) ? 2 : 3;
+      }
+
+  /***************************************************************
+    Function: write_tables
+    Description: Writes the comb vectors to a binary resource
+    (see emit_comb_table).
+    **************************************************************/
+  private void write_tables
+    (
+     java.io.File file,
+     int tables[]
+     )
+      throws java.io.IOException
+      {
+	java.io.DataOutputStream out;
+	int i;
+
+	out = new java.io.DataOutputStream(new java.io.BufferedOutputStream(
+		new java.io.FileOutputStream(file)));
+	try
+	  {
+	    out.writeInt(YY_TABLES_MAGIC);
+	    out.writeInt(tables.length);
+	    for (i = 0; i < tables.length; ++i)
+	      {
+		out.writeInt(tables[i]);
+	      }
+	  }
+	finally
+	  {
+	    out.close();
+	  }
+	System.out.println("Wrote transition tables to " + file + ".");
+      }
+
+  /***************************************************************
+    Function: emit_driver
+    Description: Output an integer table as a string.  Written by
+    Raimondas Lencevicius 6/24/98; reorganized by CSA 9-Aug-1999.
+    From his original comments:
+	   yy_nxt[][] values are coded into a string
+	   by printing integers and representing
+	   integer sequences as "value:length" pairs.
+    **************************************************************/
+  private void emit_table_as_string(int[][] ia) {
+	int sequenceLength = 0; // RL - length of the number sequence
+	boolean sequenceStarted = false; // RL - has number sequence started?
+	int previousInt = -20; // RL - Bogus -20 state.
+	
+	// RL - Output matrix size
+	m_outstream.print(ia.length);
+	m_outstream.print(",");
+	m_outstream.print(ia.length>0?ia[0].length:0);
+	m_outstream.println(",");
+
+	StringBuffer outstr = new StringBuffer();
+
+	//  RL - Output matrix 
+	for (int elem = 0; elem < ia.length; ++elem)
+	  {
+	    for (int i = 0; i < ia[elem].length; ++i)
+	      {
+		int writeInt = ia[elem][i];
+		if (writeInt == previousInt) // RL - sequence?
+		  {
+		    if (sequenceStarted)
+		      {
+			sequenceLength++;
+		      }
+		    else
+		      {
+			outstr.append(writeInt);
+			outstr.append(":");
+			sequenceLength = 2;
+			sequenceStarted = true;
+		      }
+		  }
+		else // RL - no sequence or end sequence
+		  {
+		    if (sequenceStarted)
+		      {
+			outstr.append(sequenceLength);
+			outstr.append(",");
+			sequenceLength = 0;
+			sequenceStarted = false;
+		      }
+		    else
+		      {
+			if (previousInt != -20)
+			  {
+			    outstr.append(previousInt);
+			    outstr.append(",");
+			  }
+		      }
+		  }
+		previousInt = writeInt;
+		// CSA: output in 75 character chunks.
+		if (outstr.length() > 75) {
+		  String s = outstr.toString();
+		  m_outstream.println("\""+s.substring(0,75)+"\" +");
+		  outstr = new StringBuffer(s.substring(75));
+		}
+	      }
+	  }
+	if (sequenceStarted)
+	  {
+	    outstr.append(sequenceLength);
+	  }
+	else
+	  {
+	    outstr.append(previousInt);
+	  }    
+	// CSA: output in 75 character chunks.
+	if (outstr.length() > 75) {
+	  String s = outstr.toString();
+	  m_outstream.println("\""+s.substring(0,75)+"\" +");
+	  outstr = new StringBuffer(s.substring(75));
+	}
+	m_outstream.print("\""+outstr+"\"");
+  }
+
+  /***************************************************************
+    Function: emit_driver
+    Description: 
+    **************************************************************/
+  private void emit_driver
+    (
+     )
+      throws java.io.IOException
+	{
+	  if (CUtility.DEBUG)
+	    {
+	      CUtility.ASSERT(null != m_spec);
+	      CUtility.ASSERT(null != m_outstream);
+	    }
+	  
+	  emit_table();
+
+	  if (m_spec.m_integer_type)
+	    {
+	      m_outstream.print("\tpublic int ");
+	      m_outstream.print(new String(m_spec.m_function_name));
+	      m_outstream.println(" ()");
+	    }
+	  else if (m_spec.m_intwrap_type)
+	    {
+	      m_outstream.print("\tpublic java.lang.Integer ");
+	      m_outstream.print(new String(m_spec.m_function_name));
+	      m_outstream.println(" ()");
+	    }
+	  else
+	    {
+	      m_outstream.print("\tpublic ");
+	      m_outstream.print(new String(m_spec.m_type_name));
+	      m_outstream.print(" ");
+	      m_outstream.print(new String(m_spec.m_function_name));
+	      m_outstream.println(" ()");
+	    }
+
+	  /*m_outstream.println("\t\tthrows java.io.IOException {");*/
+	  m_outstream.print("\t\tthrows java.io.IOException");
+	  if (null != m_spec.m_yylex_throw_code)
+	    {
+	      m_outstream.print(", "); 
+	      m_outstream.print(new String(m_spec.m_yylex_throw_code,0,
+						m_spec.m_yylex_throw_read));
+	      m_outstream.println();
+	      m_outstream.println("\t\t{");
+	    }
+	  else
+	    {
+	      m_outstream.println(" {");
+	    }
+
+	  m_outstream.println("\t\tint yy_lookahead;");
+	  m_outstream.println("\t\tint yy_anchor = YY_NO_ANCHOR;");
+	  /*m_outstream.println("\t\tint yy_state "
+	    + "= yy_initial_dtrans(yy_lexical_state);");*/
+	  m_outstream.println("\t\tint yy_state " 
+				 + "= yy_state_dtrans[yy_lexical_state];");
+	  m_outstream.println("\t\tint yy_next_state = YY_NO_STATE;");
+	  /*m_outstream.println("\t\tint yy_prev_stave = YY_NO_STATE;");*/
+	  m_outstream.println("\t\tint yy_last_accept_state = YY_NO_STATE;");
+    	  m_outstream.println("\t\tboolean yy_initial = true;");
+	  m_outstream.println("\t\tint yy_this_accept;");
+	  m_outstream.println();
+
+	  m_outstream.println("\t\tyy_mark_start();");
+	  /*m_outstream.println("\t\tyy_this_accept = yy_accept(yy_state);");*/
+	  m_outstream.println("\t\tyy_this_accept = yy_acpt[yy_state];");
+	  m_outstream.println("\t\tif (YY_NOT_ACCEPT != yy_this_accept) {");
+	  m_outstream.println("\t\t\tyy_last_accept_state = yy_state;");
+	  m_outstream.println("\t\t\tyy_mark_end();");
+	  m_outstream.println("\t\t}");
+
+	  if (NOT_EDBG)
+	    {
+	      m_outstream.println("\t\tjava.lang.System.out.println(\"Begin\");");
+	    }
+
+	  m_outstream.println("\t\twhile (true) {");
+
+	  m_outstream.println("\t\t\tif (yy_initial && yy_at_bol) "+
+			                 "yy_lookahead = YY_BOL;");
+	  m_outstream.println("\t\t\telse yy_lookahead = yy_advance();");
+	  m_outstream.println("\t\t\tyy_next_state = YY_F;");
+	  /*m_outstream.println("\t\t\t\tyy_next_state = "
+				 + "yy_next(yy_state,yy_lookahead);");*/
+	  if (m_direct)
+	    {
+	      m_outstream.println("\t\t\tyy_next_state = "
+		+ "yy_next(yy_state, yy_cmap[yy_lookahead]);");
+	    }
+	  else if (CSpec.STRING_TABLES == m_spec.m_table_format)
+	    {
+	      m_outstream.println("\t\t\tyy_next_state = "
+		+ "yy_nxt[yy_rmap[yy_state]][yy_cmap[yy_lookahead]];");
+	    }
+	  else
+	    {
+	      m_outstream.println("\t\t\tyy_next_state = "
+		+ "yy_next(yy_rmap[yy_state], yy_cmap[yy_lookahead]);");
+	    }
+
+	  if (NOT_EDBG)
+	    {
+	      m_outstream.println("java.lang.System.out.println(\"Current state: \"" 
+				     + " + yy_state");
+	      m_outstream.println("+ \"\tCurrent input: \""); 
+	      m_outstream.println(" + ((char) yy_lookahead));");
+	    }
+	  if (NOT_EDBG)
+	    {
+	      m_outstream.println("\t\t\tjava.lang.System.out.println(\"State = \"" 
+				     + "+ yy_state);");
 	      m_outstream.println("\t\t\tjava.lang.System.out.println(\"Accepting status = \"" 
 				     + "+ yy_this_accept);");
 	      m_outstream.println("\t\t\tjava.lang.System.out.println(\"Last accepting state = \"" 
@@ -1464,6 +2373,12 @@ class CEmit
 	  m_outstream.println("\t\t\t}");
 
 	  m_outstream.println("\t\t\tif (YY_F != yy_next_state) {");
+	  if (m_direct)
+	    {
+	      m_outstream.println("\t\t\t\tif (yy_next_state == yy_state) {");
+	      m_outstream.println("\t\t\t\t\tyy_skip(yy_state);");
+	      m_outstream.println("\t\t\t\t}");
+	    }
 	  m_outstream.println("\t\t\t\tyy_state = yy_next_state;");
      	  m_outstream.println("\t\t\t\tyy_initial = false;");
      	  /*m_outstream.println("\t\t\t\tyy_this_accept = yy_accept(yy_state);");*/
@@ -1620,6 +2535,7 @@ class CBunch
   CAccept m_accept; /* Accepting actions, or null if nonaccepting state. */
   int m_anchor; /* Anchors on regular expression. */
   int m_accept_index; /* CNfa index corresponding to accepting actions. */
+  CNfaSetKey m_key; /* m_nfa_bit as a hash key, once it is closed. */
 
   /***************************************************************
     Function: CBunch
@@ -1634,6 +2550,7 @@ class CBunch
 	m_accept = null;
 	m_anchor = CSpec.NONE;
 	m_accept_index = -1;
+	m_key = null;
       }
 }
 
@@ -2780,67 +3697,392 @@ class CMinimize
 		row_copy(j,i);
 	      }
 	  }
-	m_spec.m_dtrans_vector.setSize(reduced_nrows);
+	m_spec.m_dtrans_vector.setSize(reduced_nrows);
+
+	if (CUtility.DEBUG)
+	  {
+	    /*System.out.println("k = " + k + "\nreduced_nrows = " + reduced_nrows + "");*/
+	    CUtility.ASSERT(k == reduced_nrows);
+	  }
+      }
+
+  /***************************************************************
+    Function: fix_dtrans
+    Description: Updates CDTrans table after minimization 
+    using groups, removing redundant transition table states.
+    **************************************************************/
+  private void fix_dtrans
+    (
+     )
+      {
+	Vector new_vector;
+	int i;
+	int size;
+	Vector dtrans_group;
+	CDTrans first;
+	int c;
+
+	new_vector = new Vector();
+
+	size = m_spec.m_state_dtrans.length;
+	for (i = 0; i < size; ++i)
+	  {
+	    if (CDTrans.F != m_spec.m_state_dtrans[i])
+	      {
+		m_spec.m_state_dtrans[i] = m_ingroup[m_spec.m_state_dtrans[i]];
+	      }
+	  }
+
+	size = m_group.size();
+	for (i = 0; i < size; ++i)
+	  {
+	    dtrans_group = (Vector) m_group.elementAt(i);
+	    first = (CDTrans) dtrans_group.elementAt(0);
+	    new_vector.addElement(first);
+
+	    for (c = 0; c < m_spec.m_dtrans_ncols; ++c)
+	      {
+		if (CDTrans.F != first.m_dtrans[c])
+		  {
+		    first.m_dtrans[c] = m_ingroup[first.m_dtrans[c]];
+		  }
+	      }
+	  }
+
+	m_group = null;
+	m_spec.m_dtrans_vector = new_vector;
+      }
+
+  /***************************************************************
+    Function: minimize
+    Description: Removes redundant transition table states.
+    The groups are numbered in the order of their lowest states,
+    so the tables only depend on the grouping found.  Hopcroft's
+    algorithm (the default) finds the fewest groups; the classic
+    one, which moves states between groups in the middle of a
+    pass, can leave some equivalent states apart.
+    **************************************************************/
+  private void minimize
+    (
+     )
+      {
+	if (m_spec.m_classic_minimize)
+	  {
+	    minimize_classic();
+	  }
+	else
+	  {
+	    minimize_hopcroft();
+	  }
+
+	System.out.println(m_group.size() + " states after removal of redundant states.");
+
+	if (m_spec.m_verbose
+	    && true == CUtility.OLD_DUMP_DEBUG)
+	  {
+	    System.out.println();
+	    System.out.println("States grouped as follows after minimization");
+	    pgroups();
+	  }
+
+	fix_dtrans();
+      }
+
+  /***************************************************************
+    Function: number_groups
+    Description: Rebuilds m_group and m_ingroup from a grouping of
+    the states, numbering the groups in the order of their lowest
+    states.  Each group lists its states in order, so its first
+    state (the one kept by fix_dtrans) is its lowest.
+    **************************************************************/
+  private void number_groups
+    (
+     int group_of[]
+     )
+      {
+	int i;
+	int size;
+	int number[];
+	CDTrans dtrans;
+
+	size = m_spec.m_dtrans_vector.size();
+	number = new int[size + 1];
+	for (i = 0; i < number.length; ++i)
+	  {
+	    number[i] = -1;
+	  }
 
-	if (CUtility.DEBUG)
+	m_group = new Vector();
+	m_ingroup = new int[size];
+	for (i = 0; i < size; ++i)
 	  {
-	    /*System.out.println("k = " + k + "\nreduced_nrows = " + reduced_nrows + "");*/
-	    CUtility.ASSERT(k == reduced_nrows);
+	    dtrans = (CDTrans) m_spec.m_dtrans_vector.elementAt(i);
+	    if (-1 == number[group_of[i]])
+	      {
+		number[group_of[i]] = m_group.size();
+		m_group.addElement(new Vector());
+	      }
+	    m_ingroup[i] = number[group_of[i]];
+	    ((Vector) m_group.elementAt(m_ingroup[i])).addElement(dtrans);
 	  }
       }
 
   /***************************************************************
-    Function: fix_dtrans
-    Description: Updates CDTrans table after minimization 
-    using groups, removing redundant transition table states.
+    Function: minimize_hopcroft
+    Description: Groups equivalent states by Hopcroft's partition
+    refinement, in O(k n log n) time for n states and k columns.
+    The states start out grouped by accept action, as in
+    init_groups, and the error transition F goes to a sink state
+    of its own, so that states are only equivalent if they agree
+    on which transitions fail.
     **************************************************************/
-  private void fix_dtrans
+  private void minimize_hopcroft
     (
      )
       {
-	Vector new_vector;
+	int nstates;
+	int total;
+	int ncols;
+	int sink;
+	int next[];
+	int pred_start[];
+	int pred[];
+	int elems[];
+	int loc[];
+	int block[];
+	int bfirst[];
+	int bend[];
+	int bmid[];
+	int nblocks;
+	int work[];
+	int nwork;
+	boolean inwork[];
+	int touched[];
+	int ntouched;
+	int splitter[];
 	int i;
-	int size;
-	Vector dtrans_group;
-	CDTrans first;
 	int c;
+	int q;
+	int t;
+	int b;
+	int nb;
+	int largest;
+	java.util.IdentityHashMap initial;
+	Integer group;
+	CDTrans dtrans;
 
-	new_vector = new Vector();
+	nstates = m_spec.m_dtrans_vector.size();
+	sink = nstates;
+	total = nstates + 1;
+	ncols = m_spec.m_dtrans_ncols;
 
-	size = m_spec.m_state_dtrans.length;
-	for (i = 0; i < size; ++i)
+	/* Transitions, with F going to the sink. */
+	next = new int[total * ncols];
+	for (q = 0; q < nstates; ++q)
 	  {
-	    if (CDTrans.F != m_spec.m_state_dtrans[i])
+	    dtrans = (CDTrans) m_spec.m_dtrans_vector.elementAt(q);
+	    for (c = 0; c < ncols; ++c)
 	      {
-		m_spec.m_state_dtrans[i] = m_ingroup[m_spec.m_state_dtrans[i]];
+		t = dtrans.m_dtrans[c];
+		next[q * ncols + c] = (CDTrans.F == t) ? sink : t;
 	      }
 	  }
+	for (c = 0; c < ncols; ++c)
+	  {
+	    next[sink * ncols + c] = sink;
+	  }
 
-	size = m_group.size();
-	for (i = 0; i < size; ++i)
+	/* Inverse transitions: the states going to t on c are
+	   pred[pred_start[c * total + t]] up to
+	   pred[pred_start[c * total + t + 1]]. */
+	pred_start = new int[total * ncols + 1];
+	for (q = 0; q < total; ++q)
 	  {
-	    dtrans_group = (Vector) m_group.elementAt(i);
-	    first = (CDTrans) dtrans_group.elementAt(0);
-	    new_vector.addElement(first);
+	    for (c = 0; c < ncols; ++c)
+	      {
+		++pred_start[c * total + next[q * ncols + c] + 1];
+	      }
+	  }
+	for (i = 1; i < pred_start.length; ++i)
+	  {
+	    pred_start[i] += pred_start[i - 1];
+	  }
+	pred = new int[total * ncols];
+	{
+	  int fill[] = new int[total * ncols];
+	  System.arraycopy(pred_start, 0, fill, 0, fill.length);
+	  for (q = 0; q < total; ++q)
+	    {
+	      for (c = 0; c < ncols; ++c)
+		{
+		  pred[fill[c * total + next[q * ncols + c]]++] = q;
+		}
+	    }
+	}
 
-	    for (c = 0; c < m_spec.m_dtrans_ncols; ++c)
+	/* Initial blocks: the states by accept action, in order
+	   of their lowest states, then the sink.  The states of
+	   each block are contiguous in elems, the marked ones
+	   (see below) first. */
+	elems = new int[total];
+	loc = new int[total];
+	block = new int[total];
+	bfirst = new int[total];
+	bend = new int[total];
+	bmid = new int[total];
+	initial = new java.util.IdentityHashMap();
+	nblocks = 0;
+	for (q = 0; q < nstates; ++q)
+	  {
+	    dtrans = (CDTrans) m_spec.m_dtrans_vector.elementAt(q);
+	    group = (Integer) initial.get(dtrans.m_accept);
+	    if (null == group)
 	      {
-		if (CDTrans.F != first.m_dtrans[c])
+		group = new Integer(nblocks++);
+		initial.put(dtrans.m_accept, group);
+	      }
+	    block[q] = group.intValue();
+	  }
+	block[sink] = nblocks++;
+	for (q = 0; q < total; ++q)
+	  {
+	    ++bend[block[q]];
+	  }
+	for (b = 1; b < nblocks; ++b)
+	  {
+	    bend[b] += bend[b - 1];
+	  }
+	for (b = 0; b < nblocks; ++b)
+	  {
+	    bfirst[b] = (0 == b) ? 0 : bend[b - 1];
+	    bmid[b] = bfirst[b];
+	  }
+	for (q = 0; q < total; ++q)
+	  {
+	    b = block[q];
+	    elems[bmid[b]] = q;
+	    loc[q] = bmid[b]++;
+	  }
+	for (b = 0; b < nblocks; ++b)
+	  {
+	    bmid[b] = bfirst[b];
+	  }
+
+	/* Splitters: every block but the largest. */
+	work = new int[total];
+	inwork = new boolean[total];
+	nwork = 0;
+	largest = 0;
+	for (b = 1; b < nblocks; ++b)
+	  {
+	    if (bend[b] - bfirst[b] > bend[largest] - bfirst[largest])
+	      {
+		largest = b;
+	      }
+	  }
+	for (b = 0; b < nblocks; ++b)
+	  {
+	    if (b != largest)
+	      {
+		work[nwork++] = b;
+		inwork[b] = true;
+	      }
+	  }
+
+	touched = new int[total];
+	splitter = new int[total];
+	while (0 < nwork)
+	  {
+	    int size;
+
+	    b = work[--nwork];
+	    inwork[b] = false;
+	    size = bend[b] - bfirst[b];
+	    System.arraycopy(elems, bfirst[b], splitter, 0, size);
+
+	    for (c = 0; c < ncols; ++c)
+	      {
+		/* Mark the states going into the splitter on c,
+		   moving them to the front of their blocks. */
+		ntouched = 0;
+		for (i = 0; i < size; ++i)
 		  {
-		    first.m_dtrans[c] = m_ingroup[first.m_dtrans[c]];
+		    int from = pred_start[c * total + splitter[i]];
+		    int to = pred_start[c * total + splitter[i] + 1];
+
+		    for (; from < to; ++from)
+		      {
+			int p = pred[from];
+			int pb = block[p];
+			int pos = loc[p];
+			int mid = bmid[pb];
+
+			if (bfirst[pb] == mid)
+			  {
+			    touched[ntouched++] = pb;
+			  }
+			elems[pos] = elems[mid];
+			loc[elems[pos]] = pos;
+			elems[mid] = p;
+			loc[p] = mid;
+			++bmid[pb];
+		      }
+		  }
+
+		/* Split the blocks that are partly marked. */
+		for (i = 0; i < ntouched; ++i)
+		  {
+		    int mid;
+
+		    b = touched[i];
+		    mid = bmid[b];
+		    bmid[b] = bfirst[b];
+		    if (mid == bend[b])
+		      {
+			continue;
+		      }
+
+		    nb = nblocks++;
+		    bfirst[nb] = bfirst[b];
+		    bend[nb] = mid;
+		    bmid[nb] = bfirst[nb];
+		    bfirst[b] = mid;
+		    bmid[b] = mid;
+		    for (q = bfirst[nb]; q < bend[nb]; ++q)
+		      {
+			block[elems[q]] = nb;
+		      }
+
+		    if (inwork[b]
+			|| bend[nb] - bfirst[nb] < bend[b] - bfirst[b])
+		      {
+			work[nwork++] = nb;
+			inwork[nb] = true;
+		      }
+		    else
+		      {
+			work[nwork++] = b;
+			inwork[b] = true;
+		      }
 		  }
 	      }
 	  }
 
-	m_group = null;
-	m_spec.m_dtrans_vector = new_vector;
+	if (CUtility.DEBUG)
+	  {
+	    CUtility.ASSERT(1 == bend[block[sink]] - bfirst[block[sink]]);
+	  }
+
+	number_groups(block);
       }
 
   /***************************************************************
-    Function: minimize
-    Description: Removes redundant transition table states.
+    Function: minimize_classic
+    Description: Groups equivalent states by splitting groups until
+    no group changes; each pass compares every state of a group
+    with its first state.
     **************************************************************/
-  private void minimize
+  private void minimize_classic
     (
      )
       {
@@ -2944,17 +4186,7 @@ class CMinimize
 	      }
 	  }
 
-	System.out.println(m_group.size() + " states after removal of redundant states.");
-
-	if (m_spec.m_verbose
-	    && true == CUtility.OLD_DUMP_DEBUG)
-	  {
-	    System.out.println();
-	    System.out.println("States grouped as follows after minimization");
-	    pgroups();
-	  }
-
-	fix_dtrans();
+	number_groups(m_ingroup);
       }
 
   /***************************************************************
@@ -3117,11 +4349,21 @@ class CNfa2Dfa
   private CSpec m_spec;
   private int m_unmarked_dfa;
   private CLexGen m_lexGen;
+  private CNfa m_nfa[]; /* NFA states, indexed by label. */
+  private HashMap m_kernel_dstates; /* Memo of the epsilon closures:
+				       takes the set of NFA states
+				       a transition reaches (as a
+				       CNfaSetKey), before closure,
+				       to the label (Integer) of the
+				       DFA state of its closure. */
 
   /***************************************************************
     Constants
     **************************************************************/
   private static final int NOT_IN_DSTATES = -1;
+  private static final int BATCH_PER_THREAD = 64; /* DFA states
+						    per thread in each
+						    parallel batch. */
 
   /***************************************************************
     Function: CNfa2Dfa
@@ -3146,6 +4388,9 @@ class CNfa2Dfa
 	m_lexGen = lexGen;
 	m_spec = spec;
 	m_unmarked_dfa = 0;
+	m_nfa = new CNfa[m_spec.m_nfa_states.size()];
+	m_spec.m_nfa_states.copyInto(m_nfa);
+	m_kernel_dstates = new HashMap();
       }
 
   /***************************************************************
@@ -3159,6 +4404,8 @@ class CNfa2Dfa
 	m_lexGen = null;
 	m_spec = null;
 	m_unmarked_dfa = 0;
+	m_nfa = null;
+	m_kernel_dstates = null;
       }
 
   /***************************************************************
@@ -3186,150 +4433,382 @@ class CNfa2Dfa
 	  }
 
 	free_dfa_states();
+	reset();
       }     
 
    /***************************************************************
     Function: make_dtrans
     Description: Creates uncompressed CDTrans transition table.
+    The unmarked DFA states are worked on in order, a batch at a
+    time: the transitions of the states of a batch are found
+    first (see find_moves), on m_spec.m_threads threads, and then
+    the states they lead to are looked up or added in order, so
+    the DFA does not depend on the number of threads.
     **************************************************************/
   private void make_dtrans
     (
      )
      /* throws java.lang.CloneNotSupportedException*/
       {
-	CDfa next;
-	CDfa dfa;
 	CBunch bunch;
 	int i;
-	int nextstate;
 	int size;
-	CDTrans dtrans;
 	CNfa nfa;
 	int istate;
 	int nstates;
+	int batch;
+	int first;
+	int last;
+	CMoves moves[];
+	ExecutorService pool;
 	
 	System.out.print("Working on DFA states.");
 
-	/* Reference passing type and initializations. */
-	bunch = new CBunch();
-	m_unmarked_dfa = 0;
+	m_unmarked_dfa = 0;
+	pool = null;
+	batch = 1;
+	if (1 < m_spec.m_threads)
+	  {
+	    pool = Executors.newFixedThreadPool(m_spec.m_threads);
+	    batch = m_spec.m_threads * BATCH_PER_THREAD;
+	  }
+
+	/* Allocate mapping array. */
+	nstates = m_spec.m_state_rules.length;
+	m_spec.m_state_dtrans = new int[nstates];
+
+	try
+	  {
+	    for (istate = 0; nstates > istate; ++istate)
+	      {
+		/* CSA bugfix: if we skip all zero size rules, then
+		   an specification with no rules produces an illegal
+		   lexer (0 states) instead of a lexer that rejects
+		   everything (1 nonaccepting state). [27-Jul-1999]
+		if (0 == m_spec.m_state_rules[istate].size())
+		  {
+		    m_spec.m_state_dtrans[istate] = CDTrans.F;
+		    continue;
+		  }
+		*/
+		
+		/* Create start state and initialize fields. */
+		bunch = new CBunch();
+		bunch.m_nfa_bit = new SparseBitSet();
+		size = m_spec.m_state_rules[istate].size();
+		for (i = 0; size > i; ++i)
+		  {
+		    nfa = (CNfa) m_spec.m_state_rules[istate].elementAt(i);
+		    bunch.m_nfa_bit.set(nfa.m_label);
+		  }
+		
+		e_closure(bunch);
+		add_to_dstates(bunch,new CNfaSetKey(bunch.m_nfa_bit));
+		
+		m_spec.m_state_dtrans[istate] = m_spec.m_dtrans_vector.size();
+
+		/* Main loop of CDTrans creation. */
+		while (m_unmarked_dfa < m_spec.m_dfa_states.size())
+		  {
+		    first = m_unmarked_dfa;
+		    last = Math.min(first + batch,
+				    m_spec.m_dfa_states.size());
+
+		    moves = find_moves(first,last,pool);
+		    for (i = first; i < last; ++i)
+		      {
+			add_dtrans((CDfa) m_spec.m_dfa_states.elementAt(i),
+				   moves[i - first]);
+		      }
+
+		    m_unmarked_dfa = last;
+		  }
+	      }
+	  }
+	finally
+	  {
+	    if (null != pool)
+	      {
+		pool.shutdown();
+	      }
+	  }
+
+	System.out.println();
+      }
+
+  /***************************************************************
+    Function: find_moves
+    Description: Finds the transitions of DFA states first up to
+    last, on the threads of pool if it is not null.  Only reads
+    the DFA built so far.
+    **************************************************************/
+  private CMoves[] find_moves
+    (
+     final int first,
+     int last,
+     ExecutorService pool
+     )
+      {
+	final CMoves moves[];
+	final CDfa dfas[];
+	Vector tasks;
+	java.util.List futures;
+	int chunk;
+	int i;
+
+	moves = new CMoves[last - first];
+	dfas = new CDfa[last - first];
+	for (i = first; i < last; ++i)
+	  {
+	    dfas[i - first] = (CDfa) m_spec.m_dfa_states.elementAt(i);
+	  }
+
+	if (null == pool)
+	  {
+	    for (i = 0; i < dfas.length; ++i)
+	      {
+		moves[i] = find_moves(dfas[i]);
+	      }
+	    return moves;
+	  }
+
+	tasks = new Vector();
+	chunk = (dfas.length + m_spec.m_threads - 1) / m_spec.m_threads;
+	for (i = 0; i < dfas.length; i += chunk)
+	  {
+	    final int from = i;
+	    final int to = Math.min(i + chunk, dfas.length);
+
+	    tasks.addElement(new Callable()
+	      {
+		public Object call
+		  (
+		   )
+		    {
+		      for (int j = from; j < to; ++j)
+			{
+			  moves[j] = find_moves(dfas[j]);
+			}
+		      return null;
+		    }
+	      });
+	  }
+
+	try
+	  {
+	    futures = pool.invokeAll(tasks);
+	    for (i = 0; i < futures.size(); ++i)
+	      {
+		((java.util.concurrent.Future) futures.get(i)).get();
+	      }
+	  }
+	catch (InterruptedException e)
+	  {
+	    throw new Error("Interrupted while working on DFA states.");
+	  }
+	catch (ExecutionException e)
+	  {
+	    if (e.getCause() instanceof Error)
+	      {
+		throw (Error) e.getCause();
+	      }
+	    if (e.getCause() instanceof RuntimeException)
+	      {
+		throw (RuntimeException) e.getCause();
+	      }
+	    throw new Error(e.getCause().toString());
+	  }
+
+	return moves;
+      }
+
+  /***************************************************************
+    Function: find_moves
+    Description: Finds the transitions of a DFA state: the set of
+    NFA states reached on each column, in one pass over the DFA
+    state's NFA states, and the epsilon closure of each such set
+    that is not in m_kernel_dstates yet.
+    **************************************************************/
+  private CMoves find_moves
+    (
+     CDfa dfa
+     )
+      {
+	CMoves moves;
+	SparseBitSet kernel[];
+	HashMap closures;
+	CBunch bunch;
+	CNfa state;
+	int ncols;
+	int size;
+	int i;
+	int c;
+
+	ncols = m_spec.m_dtrans_ncols;
+	kernel = new SparseBitSet[ncols];
+	size = dfa.m_nfa_set.size();
+	for (i = 0; i < size; ++i)
+	  {
+	    state = (CNfa) dfa.m_nfa_set.elementAt(i);
+
+	    if (0 <= state.m_edge && ncols > state.m_edge)
+	      {
+		add_move(kernel,state.m_edge,state.m_next);
+	      }
+	    else if (CNfa.CCL == state.m_edge)
+	      {
+		for (c = 0; c < ncols; ++c)
+		  {
+		    if (state.m_set.contains(c))
+		      {
+			add_move(kernel,c,state.m_next);
+		      }
+		  }
+	      }
+	  }
+
+	/* Many columns usually reach the same set, so each
+	   closure is only made once here. */
+	moves = new CMoves(ncols);
+	closures = new HashMap();
+	for (c = 0; c < ncols; ++c)
+	  {
+	    if (null == kernel[c])
+	      {
+		continue;
+	      }
+
+	    moves.m_kernel[c] = new CNfaSetKey(kernel[c]);
+	    if (m_kernel_dstates.containsKey(moves.m_kernel[c]))
+	      {
+		continue;
+	      }
+
+	    bunch = (CBunch) closures.get(moves.m_kernel[c]);
+	    if (null == bunch)
+	      {
+		bunch = new CBunch();
+		bunch.m_nfa_bit = (SparseBitSet) kernel[c].clone();
+		e_closure(bunch);
+		bunch.m_key = new CNfaSetKey(bunch.m_nfa_bit);
+		closures.put(moves.m_kernel[c],bunch);
+	      }
+	    moves.m_closure[c] = bunch;
+	  }
+
+	return moves;
+      }
+
+  /***************************************************************
+    Function: add_move
+    Description: Adds NFA state next to the set reached on
+    column c.
+    **************************************************************/
+  private void add_move
+    (
+     SparseBitSet kernel[],
+     int c,
+     CNfa next
+     )
+      {
+	if (null == kernel[c])
+	  {
+	    kernel[c] = new SparseBitSet();
+	  }
+	kernel[c].set(next.m_label);
+      }
+
+  /***************************************************************
+    Function: add_dtrans
+    Description: Marks a DFA state and adds its CDTrans, given its
+    transitions, adding the DFA states they lead to that are new.
+    **************************************************************/
+  private void add_dtrans
+    (
+     CDfa dfa,
+     CMoves moves
+     )
+      {
+	CDTrans dtrans;
+	CBunch bunch;
+	Integer known;
+	int nextstate;
+	int i;
+
+	System.out.print(".");
+	System.out.flush();
 
-	/* Allocate mapping array. */
-	nstates = m_spec.m_state_rules.length;
-	m_spec.m_state_dtrans = new int[nstates];
+	if (m_spec.m_verbose && true == CUtility.OLD_DUMP_DEBUG)
+	  {
+	    System.out.println("---------------");
+	    System.out.print("working on DFA state " 
+			     + dfa.m_label
+			     + " = NFA states: ");
+	    m_lexGen.print_set(dfa.m_nfa_set);
+	    System.out.println();
+	  }
 
-	for (istate = 0; nstates > istate; ++istate)
+	if (CUtility.DEBUG)
 	  {
-	    /* CSA bugfix: if we skip all zero size rules, then
-	       an specification with no rules produces an illegal
-	       lexer (0 states) instead of a lexer that rejects
-	       everything (1 nonaccepting state). [27-Jul-1999]
-	    if (0 == m_spec.m_state_rules[istate].size())
-	      {
-		m_spec.m_state_dtrans[istate] = CDTrans.F;
-		continue;
-	      }
-	    */
-		
-	    /* Create start state and initialize fields. */
-	    bunch.m_nfa_set = (Vector) m_spec.m_state_rules[istate].clone();
-	    sortStates(bunch.m_nfa_set);
-	    
-	    bunch.m_nfa_bit = new SparseBitSet();
-	    
-	    /* Initialize bit set. */
-	    size = bunch.m_nfa_set.size();
-	    for (i = 0; size > i; ++i)
+	    CUtility.ASSERT(false == dfa.m_mark);
+	  }
+
+	/* Mark the node. */
+	dfa.m_mark = true;
+
+	/* Allocate new CDTrans, then initialize fields. */
+	dtrans = new CDTrans(m_spec.m_dtrans_vector.size(),m_spec);
+	dtrans.m_accept = dfa.m_accept;
+	dtrans.m_anchor = dfa.m_anchor;
+
+	/* Set CDTrans array for each character transition. */
+	for (i = 0; i < m_spec.m_dtrans_ncols; ++i)
+	  {
+	    if (null == moves.m_kernel[i])
 	      {
-		nfa = (CNfa) bunch.m_nfa_set.elementAt(i);
-		bunch.m_nfa_bit.set(nfa.m_label);
+		nextstate = CDTrans.F;
 	      }
-	    
-	    bunch.m_accept = null;
-	    bunch.m_anchor = CSpec.NONE;
-	    bunch.m_accept_index = CUtility.INT_MAX;
-	    
-	    e_closure(bunch);
-	    add_to_dstates(bunch);
-	    
-	    m_spec.m_state_dtrans[istate] = m_spec.m_dtrans_vector.size();
-
-	    /* Main loop of CDTrans creation. */
-	    while (null != (dfa = get_unmarked()))
+	    else
 	      {
-		System.out.print(".");
-		System.out.flush();
-		
-		if (CUtility.DEBUG)
+		known = (Integer) m_kernel_dstates.get(moves.m_kernel[i]);
+		if (null != known)
 		  {
-		    CUtility.ASSERT(false == dfa.m_mark);
+		    nextstate = known.intValue();
 		  }
-
-		/* Get first unmarked node, then mark it. */
-		dfa.m_mark = true;
-		
-		/* Allocate new CDTrans, then initialize fields. */
-		dtrans = new CDTrans(m_spec.m_dtrans_vector.size(),m_spec);
-		dtrans.m_accept = dfa.m_accept;
-		dtrans.m_anchor = dfa.m_anchor;
-		
-		/* Set CDTrans array for each character transition. */
-		for (i = 0; i < m_spec.m_dtrans_ncols; ++i)
+		else
 		  {
+		    /* The closure was made by find_moves, since the
+		       memo was missing it then too. */
+		    bunch = moves.m_closure[i];
 		    if (CUtility.DEBUG)
 		      {
-			CUtility.ASSERT(0 <= i);
-			CUtility.ASSERT(m_spec.m_dtrans_ncols > i);
-		      }
-		    
-		    /* Create new dfa set by attempting character transition. */
-		    move(dfa.m_nfa_set,dfa.m_nfa_bit,i,bunch);
-		    if (null != bunch.m_nfa_set)
-		      {
-			e_closure(bunch);
-		      }
-		    
-		    if (CUtility.DEBUG)
-		      {
-			CUtility.ASSERT((null == bunch.m_nfa_set 
-					 && null == bunch.m_nfa_bit)
-					|| (null != bunch.m_nfa_set 
-					    && null != bunch.m_nfa_bit));
-		      }
-		    
-		    /* Create new state or set state to empty. */
-		    if (null == bunch.m_nfa_set)
-		      {
-			nextstate = CDTrans.F;
-		      }
-		    else 
-		      {
-			nextstate = in_dstates(bunch);
-			
-			if (NOT_IN_DSTATES == nextstate)
-			  {
-			    nextstate = add_to_dstates(bunch);
-			  }
+			CUtility.ASSERT(null != bunch);
 		      }
-		    
-		    if (CUtility.DEBUG)
+
+		    nextstate = in_dstates(bunch);
+		    if (NOT_IN_DSTATES == nextstate)
 		      {
-			CUtility.ASSERT(nextstate < m_spec.m_dfa_states.size());
+			nextstate = add_to_dstates(bunch,bunch.m_key);
 		      }
-		    
-		    dtrans.m_dtrans[i] = nextstate;
-		  }
-		
-		if (CUtility.DEBUG)
-		  {
-		    CUtility.ASSERT(m_spec.m_dtrans_vector.size() == dfa.m_label);
+		    m_kernel_dstates.put(moves.m_kernel[i],
+					 new Integer(nextstate));
 		  }
-		
-		m_spec.m_dtrans_vector.addElement(dtrans);
 	      }
+
+	    if (CUtility.DEBUG)
+	      {
+		CUtility.ASSERT(nextstate < m_spec.m_dfa_states.size());
+	      }
+
+	    dtrans.m_dtrans[i] = nextstate;
 	  }
 
-	System.out.println();
+	if (CUtility.DEBUG)
+	  {
+	    CUtility.ASSERT(m_spec.m_dtrans_vector.size() == dfa.m_label);
+	  }
+
+	m_spec.m_dtrans_vector.addElement(dtrans);
       }
 
   /***************************************************************
@@ -3360,23 +4839,25 @@ class CNfa2Dfa
 
   /***************************************************************
     Function: e_closure
-    Description: Alters and returns input set.
+    Description: Adds to bunch.m_nfa_bit the NFA states reachable
+    from it by epsilon transitions, then sets bunch.m_nfa_set to
+    those states, in order, and the accepting action of the set.
+    Only reads the NFA, so it may run on several threads at once.
     **************************************************************/
   private void e_closure
     (
      CBunch bunch
      )
       {
-	Stack nfa_stack;
+	ArrayList nfa_stack;
+	Enumeration e;
 	int size;
-	int i;
 	CNfa state;
 
 	/* Debug checks. */
 	if (CUtility.DEBUG)
 	  {
 	    CUtility.ASSERT(null != bunch);
-	    CUtility.ASSERT(null != bunch.m_nfa_set);
 	    CUtility.ASSERT(null != bunch.m_nfa_bit);
 	  }
 
@@ -3384,25 +4865,18 @@ class CNfa2Dfa
 	bunch.m_anchor = CSpec.NONE;
 	bunch.m_accept_index = CUtility.INT_MAX;
 	
-	/* Create initial stack. */
-	nfa_stack = new Stack();
-	size = bunch.m_nfa_set.size();
-	for (i = 0; i < size; ++i)
+	/* Create initial stack (an ArrayList, which unlike Stack
+	   is not synchronized). */
+	nfa_stack = new ArrayList();
+	for (e = bunch.m_nfa_bit.elements(); e.hasMoreElements(); )
 	  {
-	    state = (CNfa) bunch.m_nfa_set.elementAt(i);
-	    
-	    if (CUtility.DEBUG)
-	      {
-		CUtility.ASSERT(bunch.m_nfa_bit.get(state.m_label));
-	      }
-
-	    nfa_stack.push(state);
+	    nfa_stack.add(m_nfa[((Integer) e.nextElement()).intValue()]);
 	  }
 
 	/* Main loop. */
-	while (false == nfa_stack.empty())
+	while (0 < (size = nfa_stack.size()))
 	  {
-	    state = (CNfa) nfa_stack.pop();
+	    state = (CNfa) nfa_stack.remove(size - 1);
 	    
 	    if (CUtility.OLD_DUMP_DEBUG)
 	      {
@@ -3443,221 +4917,64 @@ class CNfa2Dfa
 
 	    if (CNfa.EPSILON == state.m_edge)
 	      {
-		if (null != state.m_next)
-		  {
-		    if (false == bunch.m_nfa_set.contains(state.m_next))
-		      {
-			if (CUtility.DEBUG)
-			  {
-			    CUtility.ASSERT(false == bunch.m_nfa_bit.get(state.m_next.m_label));
-			  }
-			
-			bunch.m_nfa_bit.set(state.m_next.m_label);
-			bunch.m_nfa_set.addElement(state.m_next);
-			nfa_stack.push(state.m_next);
-		      }
-		  }
-
-		if (null != state.m_next2)
-		  {
-		    if (false == bunch.m_nfa_set.contains(state.m_next2))
-		      {
-			if (CUtility.DEBUG)
-			  {
-			    CUtility.ASSERT(false == bunch.m_nfa_bit.get(state.m_next2.m_label));
-			  }
-			
-			bunch.m_nfa_bit.set(state.m_next2.m_label);
-			bunch.m_nfa_set.addElement(state.m_next2);
-			nfa_stack.push(state.m_next2);
-		      }
-		  }
-	      }
-	  }
-
-	if (null != bunch.m_nfa_set)
-	  {
-	    sortStates(bunch.m_nfa_set);
-	  }
-
-	return;
-      }
-
-  /***************************************************************
-    Function: move
-    Description: Returns null if resulting NFA set is empty.
-    **************************************************************/
-  void move
-    (
-     Vector nfa_set,
-     SparseBitSet nfa_bit,
-     int b,
-     CBunch bunch
-     )
-      {
-	int size;
-	int index;
-	CNfa state;
-	
-	bunch.m_nfa_set = null;
-	bunch.m_nfa_bit = null;
-
-	size = nfa_set.size();
-	for (index = 0; index < size; ++index)
-	  {
-	    state = (CNfa) nfa_set.elementAt(index);
-	    
-	    if (b == state.m_edge
-		|| (CNfa.CCL == state.m_edge
-		    && true == state.m_set.contains(b)))
-	      {
-		if (null == bunch.m_nfa_set)
+		if (null != state.m_next
+		    && false == bunch.m_nfa_bit.get(state.m_next.m_label))
 		  {
-		    if (CUtility.DEBUG)
-		      {
-			CUtility.ASSERT(null == bunch.m_nfa_bit);
-		      }
-		    
-		    bunch.m_nfa_set = new Vector();
-		    /*bunch.m_nfa_bit 
-			= new SparseBitSet(m_spec.m_nfa_states.size());*/
-		    bunch.m_nfa_bit = new SparseBitSet();
+		    bunch.m_nfa_bit.set(state.m_next.m_label);
+		    nfa_stack.add(state.m_next);
 		  }
 
-		bunch.m_nfa_set.addElement(state.m_next);
-		/*System.out.println("Size of bitset: " + bunch.m_nfa_bit.size());
-		System.out.println("Reference index: " + state.m_next.m_label);
-		System.out.flush();*/
-		bunch.m_nfa_bit.set(state.m_next.m_label);
-	      }
-	  }
-	
-	if (null != bunch.m_nfa_set)
-	  {
-	    if (CUtility.DEBUG)
-	      {
-		CUtility.ASSERT(null != bunch.m_nfa_bit);
-	      }
-	    
-	    sortStates(bunch.m_nfa_set);
-	  }
-
-	return;
-      }
-
-  /***************************************************************
-    Function: sortStates
-    **************************************************************/
-  private void sortStates
-    (
-     Vector nfa_set
-     )
-      {
-	CNfa elem;
-	int begin;
-	int size;
-	int index;
-	int value;
-	int smallest_index;
-	int smallest_value;
-	CNfa begin_elem;
-
-	size = nfa_set.size();
-	for (begin = 0; begin < size; ++begin)
-	  {
-	    elem = (CNfa) nfa_set.elementAt(begin);
-	    smallest_value = elem.m_label;
-	    smallest_index = begin;
-
-	    for (index = begin + 1; index < size; ++index)
-	      {
-		elem = (CNfa) nfa_set.elementAt(index);
-		value = elem.m_label;
-
-		if (value < smallest_value)
+		if (null != state.m_next2
+		    && false == bunch.m_nfa_bit.get(state.m_next2.m_label))
 		  {
-		    smallest_index = index;
-		    smallest_value = value;
+		    bunch.m_nfa_bit.set(state.m_next2.m_label);
+		    nfa_stack.add(state.m_next2);
 		  }
 	      }
-
-	    begin_elem = (CNfa) nfa_set.elementAt(begin);
-	    elem = (CNfa) nfa_set.elementAt(smallest_index);
-	    nfa_set.setElementAt(elem,begin);
-	    nfa_set.setElementAt(begin_elem,smallest_index);
 	  }
 
-	if (CUtility.OLD_DEBUG)
-	  {
-	    System.out.print("NFA vector indices: ");  
-	    
-	    for (index = 0; index < size; ++index)
-	      {
-		elem = (CNfa) nfa_set.elementAt(index);
-		System.out.print(elem.m_label + " ");
-	      }
-	    System.out.println();
-	  }	
+	bunch.m_nfa_set = nfa_vector(bunch.m_nfa_bit);
 
 	return;
       }
 
   /***************************************************************
-    Function: get_unmarked
-    Description: Returns next unmarked DFA state.
+    Function: nfa_vector
+    Description: Returns the NFA states of a set, in order of
+    their labels.
     **************************************************************/
-  private CDfa get_unmarked
+  private Vector nfa_vector
     (
+     SparseBitSet nfa_bit
      )
       {
-	int size;
-	CDfa dfa;
+	Vector nfa_set;
+	Enumeration e;
 
-	size = m_spec.m_dfa_states.size();
-	while (m_unmarked_dfa < size)
+	nfa_set = new Vector();
+	for (e = nfa_bit.elements(); e.hasMoreElements(); )
 	  {
-	    dfa = (CDfa) m_spec.m_dfa_states.elementAt(m_unmarked_dfa);
-
-	    if (false == dfa.m_mark)
-	      {
-		if (CUtility.OLD_DUMP_DEBUG)
-		  {
-		    System.out.print("*");
-		    System.out.flush();
-		  }
-
-		if (m_spec.m_verbose && true == CUtility.OLD_DUMP_DEBUG)
-		  {
-		    System.out.println("---------------");
-		    System.out.print("working on DFA state " 
-				     + m_unmarked_dfa
-				     + " = NFA states: ");
-		    m_lexGen.print_set(dfa.m_nfa_set);
-		    System.out.println();
-		  }
-
-		return dfa;
-	      }
-
-	    ++m_unmarked_dfa;
+	    nfa_set.addElement(m_nfa[((Integer) e.nextElement()).intValue()]);
 	  }
 
-	return null;
+	return nfa_set;
       }
   
   /***************************************************************
     function: add_to_dstates
     Description: Takes as input a CBunch with details of
-    a dfa state that needs to be created.
+    a dfa state that needs to be created, and its key.
     1) Allocates a new dfa state and saves it in 
     the appropriate CSpec vector.
     2) Initializes the fields of the dfa state
-    with the information in the CBunch.
+    with the information in the CBunch (whose sets
+    the dfa state takes over).
     3) Returns index of new dfa.
     **************************************************************/
   private int add_to_dstates
     (
-     CBunch bunch
+     CBunch bunch,
+     CNfaSetKey key
      )
       {
 	CDfa dfa;
@@ -3674,15 +4991,14 @@ class CNfa2Dfa
 	dfa = CAlloc.newCDfa(m_spec);
 	
 	/* Initialize fields, including the mark field. */
-	dfa.m_nfa_set = (Vector) bunch.m_nfa_set.clone();
-	dfa.m_nfa_bit = (SparseBitSet) bunch.m_nfa_bit.clone();
+	dfa.m_nfa_set = bunch.m_nfa_set;
+	dfa.m_nfa_bit = bunch.m_nfa_bit;
 	dfa.m_accept = bunch.m_accept;
 	dfa.m_anchor = bunch.m_anchor;
 	dfa.m_mark = false;
 	
-	/* Register dfa state using BitSet in CSpec Hashtable. */
-	m_spec.m_dfa_sets.put(dfa.m_nfa_bit,dfa);
-	/*registerCDfa(dfa);*/
+	/* Register dfa state using its key in CSpec HashMap. */
+	m_spec.m_dfa_sets.put(key,dfa);
 
 	if (CUtility.OLD_DUMP_DEBUG)
 	  {
@@ -3710,7 +5026,7 @@ class CNfa2Dfa
 	    m_lexGen.print_set(bunch.m_nfa_set);
 	  }
 
-	dfa = (CDfa) m_spec.m_dfa_sets.get(bunch.m_nfa_bit);
+	dfa = (CDfa) m_spec.m_dfa_sets.get(bunch.m_key);
 
 	if (null != dfa)
 	  {
@@ -3731,6 +5047,109 @@ class CNfa2Dfa
 
 }
 
+/***************************************************************
+  Class: CMoves
+  Description: The transitions of one DFA state, as found by
+  CNfa2Dfa.find_moves.
+  **************************************************************/
+class CMoves
+{
+  /***************************************************************
+    Member Variables
+    **************************************************************/
+  CNfaSetKey m_kernel[]; /* NFA states reached on each column,
+			    before closure; null if none. */
+  CBunch m_closure[]; /* Closure of m_kernel[i], or null if it was
+			 already known. */
+
+  /***************************************************************
+    Function: CMoves
+    **************************************************************/
+  CMoves
+    (
+     int ncols
+     )
+      {
+	m_kernel = new CNfaSetKey[ncols];
+	m_closure = new CBunch[ncols];
+      }
+}
+
+/***************************************************************
+  Class: CNfaSetKey
+  Description: A set of NFA states as a hash key, with its hash
+  code computed once, when the key is made.  The hash mixes every
+  block of the set; SparseBitSet.hashCode weighs each block by its
+  offset, so all sets of states labelled below 64 collide there.
+  **************************************************************/
+class CNfaSetKey
+{
+  /***************************************************************
+    Member Variables
+    **************************************************************/
+  SparseBitSet m_set;
+  private int m_hash;
+
+  /***************************************************************
+    Function: CNfaSetKey
+    Description: The set must not be changed once it is a key.
+    **************************************************************/
+  CNfaSetKey
+    (
+     SparseBitSet set
+     )
+      {
+	long h;
+	int i;
+
+	h = 1234;
+	for (i = 0; i < set.size; ++i)
+	  {
+	    /* Empty blocks do not count, as in SparseBitSet.equals. */
+	    if (0 != set.bits[i])
+	      {
+		h = 31 * (31 * h + set.offs[i]) + set.bits[i];
+	      }
+	  }
+	h ^= h >>> 33;
+	h *= 0xff51afd7ed558ccdL;
+	h ^= h >>> 33;
+
+	m_set = set;
+	m_hash = (int) h;
+      }
+
+  /***************************************************************
+    Function: hashCode
+    **************************************************************/
+  public int hashCode
+    (
+     )
+      {
+	return m_hash;
+      }
+
+  /***************************************************************
+    Function: equals
+    **************************************************************/
+  public boolean equals
+    (
+     Object obj
+     )
+      {
+	CNfaSetKey key;
+
+	if (false == (obj instanceof CNfaSetKey))
+	  {
+	    return false;
+	  }
+
+	key = (CNfaSetKey) obj;
+	return m_hash == key.m_hash
+	  && SparseBitSet.equals(m_set,key.m_set);
+      }
+}
+
 /***************************************************************
   Class: CAlloc
   **************************************************************/
@@ -3832,10 +5251,19 @@ public class Main
     throws java.io.IOException
       {
 	CLexGen lg;
+	int first;
+	int i;
 
-	if (arg.length < 1)
+	/* Options (see CLexGen.set_option) come before the file name. */
+	first = 0;
+	while (first < arg.length - 1 && arg[first].startsWith("-"))
 	  {
-	    System.out.println("Usage: JLex.Main <filename>");
+	    ++first;
+	  }
+
+	if (arg.length < first + 1)
+	  {
+	    System.out.println("Usage: JLex.Main [options] <filename>");
 	    return;
 	  }
 
@@ -3844,7 +5272,16 @@ public class Main
 	   This gives more information. */
 	try 
 	  {	
-	    lg = new CLexGen(arg[0]);
+	    lg = new CLexGen(arg[first]);
+	    for (i = 0; i < first; ++i)
+	      {
+		if (false == lg.set_option(arg[i]))
+		  {
+		    System.out.println("Unknown option " + arg[i]);
+		    System.out.println(CLexGen.OPTIONS);
+		    return;
+		  }
+	      }
 	    lg.generate();
 	  }
 	catch (Error e)
@@ -4901,6 +6338,7 @@ class CLexGen
       
 	/* Initialize spec structure. */
 	m_spec = new CSpec(this);
+	m_spec.m_out_dir = new java.io.File(filename).getAbsoluteFile().getParentFile();
 	
 	/* Nfa to dfa converter. */
 	m_nfa2dfa = new CNfa2Dfa();
@@ -4914,6 +6352,61 @@ class CLexGen
 	m_init_flag = true;
       }
 
+  /***************************************************************
+    Function: set_option
+    Description: Sets a generator option given on the command line
+    (see OPTIONS).  Returns false if there is no such option.
+    **************************************************************/
+  boolean set_option
+    (
+     String option
+     )
+      {
+	if (option.equals("-classic-minimize"))
+	  {
+	    m_spec.m_classic_minimize = true;
+	    return true;
+	  }
+	if (option.equals("-parallel"))
+	  {
+	    m_spec.m_threads = Runtime.getRuntime().availableProcessors();
+	    return true;
+	  }
+	if (option.equals("-comb"))
+	  {
+	    m_spec.m_table_format = CSpec.COMB_TABLES;
+	    return true;
+	  }
+	if (option.equals("-comb-resource"))
+	  {
+	    m_spec.m_table_format = CSpec.RESOURCE_TABLES;
+	    return true;
+	  }
+	if (option.equals("-direct"))
+	  {
+	    m_spec.m_direct = true;
+	    return true;
+	  }
+	return false;
+      }
+
+  static final String OPTIONS =
+    "Options:\n"
+    + "  -classic-minimize  minimize the DFA by iterative regrouping\n"
+    + "                     instead of Hopcroft's partition refinement\n"
+    + "  -parallel          find the DFA transitions on all processors\n"
+    + "  -comb              emit the transition table as comb vectors,\n"
+    + "                     unpacked once per class\n"
+    + "  -comb-resource     as -comb, but write the comb vectors to the\n"
+    + "                     binary resource <class>.tables next to the\n"
+    + "                     generated source\n"
+    + "  -direct            emit the transitions as code, a switch per\n"
+    + "                     DFA state, with tight loops for runs that\n"
+    + "                     stay in one state; DFAs too large for that\n"
+    + "                     get tables as without it (-comb-resource\n"
+    + "                     also puts the remaining tables in the\n"
+    + "                     resource)\n";
+
   /***************************************************************
     Function: generate
     Description: 